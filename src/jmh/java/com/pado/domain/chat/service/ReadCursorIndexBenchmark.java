@@ -0,0 +1,90 @@
+package com.pado.domain.chat.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 기록 1페이지(20개)의 메시지별 안읽은 멤버 수 계산 비용 비교
+// querySort: 기존 방식처럼 스터디 전체 커서를 List<Long>으로 받아 정렬 후 메시지마다 이진 탐색 (DB 왕복 비용 제외)
+// cursorIndex: 캐시된 정렬 long[] 인덱스에서 이진 탐색
+// cursorIndexAfterMove: 커서 이동으로 인덱스를 다시 정렬해야 하는 경우
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadCursorIndexBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final long LATEST_MESSAGE_ID = 100_000L;
+
+    @Param({"10", "100", "1000"})
+    private int memberCount;
+
+    private List<Long> persistedCursors;
+    private List<Long> pageMessageIds;
+    private StudyReadCursors index;
+    private long nextMessageId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Long, Long> cursorByMemberId = new HashMap<>();
+        persistedCursors = new ArrayList<>();
+        for (long memberId = 1; memberId <= memberCount; memberId++) {
+            long cursor = random.nextLong(LATEST_MESSAGE_ID - 500, LATEST_MESSAGE_ID + 1);
+            cursorByMemberId.put(memberId, cursor);
+            persistedCursors.add(cursor);
+        }
+
+        pageMessageIds = new ArrayList<>();
+        for (long id = LATEST_MESSAGE_ID; id > LATEST_MESSAGE_ID - PAGE_SIZE; id--) {
+            pageMessageIds.add(id);
+        }
+
+        index = new StudyReadCursors(cursorByMemberId, System.currentTimeMillis());
+        nextMessageId = LATEST_MESSAGE_ID;
+    }
+
+    @Benchmark
+    public void querySort(Blackhole blackhole) {
+        List<Long> lastReadIds = new ArrayList<>(persistedCursors);
+        Collections.sort(lastReadIds);
+
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        for (Long messageId : pageMessageIds) {
+            unreadCounts.put(messageId, calculateUnreadCount(messageId, lastReadIds));
+        }
+        blackhole.consume(unreadCounts);
+    }
+
+    @Benchmark
+    public void cursorIndex(Blackhole blackhole) {
+        blackhole.consume(index.countUnreadMembers(pageMessageIds));
+    }
+
+    @Benchmark
+    public void cursorIndexAfterMove(Blackhole blackhole) {
+        index.advance(List.of(1L), ++nextMessageId);
+        blackhole.consume(index.countUnreadMembers(nextMessageId));
+    }
+
+    // 기존 LastReadMessageRepositoryCustomImpl의 계산 방식
+    private long calculateUnreadCount(long messageId, List<Long> sortedLastReadIds) {
+        int idx = Collections.binarySearch(sortedLastReadIds, messageId);
+
+        if (idx >= 0) {
+            int firstOccurrence = idx;
+            while (firstOccurrence > 0 && sortedLastReadIds.get(firstOccurrence - 1).equals(messageId)) {
+                firstOccurrence--;
+            }
+            return firstOccurrence;
+        } else {
+            return -idx - 1;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.pado.domain.quiz.repository;
+
+import com.pado.domain.quiz.repository.dto.QuestionInsertDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 퀴즈 1개(문제 10개, 객관식 선택지 4개) 저장 시간 비교 (H2 인메모리, MySQL 모드)
+// perRow: JPA IDENTITY 저장처럼 행마다 INSERT 후 키를 받고, 정답 선택지는 문제마다 UPDATE
+// jdbcBatch: QuizQuestionJdbcRepository (테이블별 배치 + 정답 연결 배치 UPDATE)
+// 인메모리 DB 는 네트워크 왕복이 없으므로 roundTripMicros 로 문장(배치)마다 왕복 지연을 흉내 냄
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizQuestionSaveBenchmark {
+
+    private static final int QUESTION_COUNT = 10;
+    private static final int CHOICE_COUNT = 4;
+    private static final long QUIZ_ID = 1L;
+
+    @Param({"0", "300"})
+    private long roundTripMicros;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private QuizQuestionJdbcRepository repository;
+    private List<QuestionInsertDto> questions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:quiz-save;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new LatencyJdbcTemplate(dataSource);
+        repository = new QuizQuestionJdbcRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("""
+                create table quiz_question (
+                    id bigint auto_increment primary key,
+                    quiz_id bigint not null,
+                    question_text text not null,
+                    explanation text,
+                    question_type varchar(31) not null
+                )""");
+        jdbcTemplate.execute("create table short_answer_question (id bigint primary key, answer varchar(255) not null)");
+        jdbcTemplate.execute("create table multiple_choice_question (id bigint primary key, correct_choice_id bigint)");
+        jdbcTemplate.execute("""
+                create table quiz_choice (
+                    id bigint auto_increment primary key,
+                    question_id bigint not null,
+                    choice_text varchar(255) not null
+                )""");
+
+        questions = new ArrayList<>();
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            if (i % 4 == 3) {
+                questions.add(new QuestionInsertDto("SHORT_ANSWER", "주관식 문제 " + i, "해설 " + i, null, null, "정답" + i));
+            } else {
+                List<String> choices = new ArrayList<>();
+                for (int c = 0; c < CHOICE_COUNT; c++) {
+                    choices.add("선택지 " + i + "-" + c);
+                }
+                questions.add(new QuestionInsertDto("MULTIPLE_CHOICE", "객관식 문제 " + i, "해설 " + i, choices, i % CHOICE_COUNT, null));
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        for (String table : List.of("quiz_choice", "multiple_choice_question", "short_answer_question", "quiz_question")) {
+            jdbcTemplate.execute("delete from " + table);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void perRow(Blackhole blackhole) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        for (QuestionInsertDto question : questions) {
+            long questionId = insert(connection,
+                    "insert into quiz_question (quiz_id, question_text, explanation, question_type) values (?, ?, ?, ?)",
+                    QUIZ_ID, question.questionText(), question.explanation(), question.questionType());
+
+            if (!question.isMultipleChoice()) {
+                execute(connection, "insert into short_answer_question (id, answer) values (?, ?)", questionId, question.answer());
+                continue;
+            }
+
+            execute(connection, "insert into multiple_choice_question (id, correct_choice_id) values (?, null)", questionId);
+            Long correctChoiceId = null;
+            for (int c = 0; c < question.choices().size(); c++) {
+                long choiceId = insert(connection, "insert into quiz_choice (question_id, choice_text) values (?, ?)",
+                        questionId, question.choices().get(c));
+                if (c == question.correctChoiceIndex()) {
+                    correctChoiceId = choiceId;
+                }
+            }
+            execute(connection, "update multiple_choice_question set correct_choice_id = ? where id = ?", correctChoiceId, questionId);
+            blackhole.consume(questionId);
+        }
+    }
+
+    @Benchmark
+    public List<Long> jdbcBatch() {
+        return repository.insertQuestions(QUIZ_ID, questions);
+    }
+
+    private long insert(Connection connection, String sql, Object... args) throws SQLException {
+        roundTrip();
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            bind(statement, args);
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql, Object... args) throws SQLException {
+        roundTrip();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            bind(statement, args);
+            statement.executeUpdate();
+        }
+    }
+
+    private void bind(PreparedStatement statement, Object... args) throws SQLException {
+        for (int i = 0; i < args.length; i++) {
+            statement.setObject(i + 1, args[i]);
+        }
+    }
+
+    private void roundTrip() {
+        if (roundTripMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        }
+    }
+
+    // 배치 하나(또는 문장 하나)를 보낼 때마다 왕복 지연을 한 번 더함
+    private class LatencyJdbcTemplate extends JdbcTemplate {
+
+        LatencyJdbcTemplate(SingleConnectionDataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            roundTrip();
+            return super.batchUpdate(sql, batchArgs);
+        }
+
+        @Override
+        public <T> T execute(ConnectionCallback<T> action) {
+            roundTrip();
+            return super.execute(action);
+        }
+    }
+}
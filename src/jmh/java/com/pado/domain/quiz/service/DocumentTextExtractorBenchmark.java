@@ -0,0 +1,116 @@
+package com.pado.domain.quiz.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// 대용량 PDF/DOCX 텍스트 추출의 시간과 힙 할당량 비교 (gc 프로파일러의 gc.alloc.rate.norm 확인)
+// legacy: 기존 방식처럼 전체를 mark 버퍼에 올려 타입 판별 후 parseToString + 정규식 공백 정규화
+// streaming: DocumentTextExtractor (앞부분만 타입 판별, 임시 파일 스풀, SAX 정규화, 글자 수 한도에서 중단)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class DocumentTextExtractorBenchmark {
+
+    private static final int MAX_CHARACTERS = 100_000;
+    private static final int LINES_PER_PAGE = 55;
+    private static final String LINE =
+            "Study material line with enough words to resemble a real lecture note paragraph. ";
+
+    @Param({"pdf", "docx"})
+    private String format;
+
+    @Param({"200", "2000"})
+    private int pages;
+
+    private Path sample;
+    private DocumentTextExtractor extractor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        sample = Files.createTempFile("extraction-benchmark-", "." + format);
+        if ("pdf".equals(format)) {
+            writePdf(sample, pages);
+        } else {
+            writeDocx(sample, pages * LINES_PER_PAGE);
+        }
+        extractor = new DocumentTextExtractor(MAX_CHARACTERS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(sample);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) throws Exception {
+        try (InputStream inputStream = Files.newInputStream(sample);
+             BufferedInputStream bufferedStream = new BufferedInputStream(inputStream)) {
+            Tika tika = new Tika();
+
+            bufferedStream.mark(Integer.MAX_VALUE);
+            String detectedMimeType = tika.detect(bufferedStream, sample.getFileName().toString());
+            bufferedStream.reset();
+
+            String extractedText = tika.parseToString(bufferedStream);
+            blackhole.consume(detectedMimeType);
+            blackhole.consume(extractedText.replaceAll("\\s+", " ").trim());
+        }
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws Exception {
+        try (InputStream inputStream = Files.newInputStream(sample)) {
+            blackhole.consume(extractor.extract(inputStream, sample.getFileName().toString()));
+        }
+    }
+
+    private void writePdf(Path path, int pageCount) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int p = 0; p < pageCount; p++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 8);
+                    content.setLeading(12);
+                    content.newLineAtOffset(40, 750);
+                    for (int i = 0; i < LINES_PER_PAGE; i++) {
+                        content.showText(LINE);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(path.toFile());
+        }
+    }
+
+    private void writeDocx(Path path, int paragraphCount) throws IOException {
+        try (XWPFDocument document = new XWPFDocument();
+             OutputStream out = Files.newOutputStream(path)) {
+            for (int i = 0; i < paragraphCount; i++) {
+                document.createParagraph().createRun().setText(LINE);
+            }
+            document.write(out);
+        }
+    }
+}
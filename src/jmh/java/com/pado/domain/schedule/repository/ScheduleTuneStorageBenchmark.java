@@ -0,0 +1,211 @@
+package com.pado.domain.schedule.repository;
+
+import com.pado.domain.schedule.util.BitMaskUtils;
+import com.pado.domain.schedule.util.SlotMatrix;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 조율 하나(멤버 50명 x 슬롯 1000개)의 생성/투표/조회 시간 비교 (H2 인메모리, MySQL 모드)
+// slotRows: 슬롯마다 한 행 (IDENTITY 로 행마다 INSERT, 투표는 전체 행 FOR UPDATE 후 행마다 UPDATE)
+// matrix: 조율 행 하나의 occupancy_matrix (INSERT 한 번, 투표는 읽기 + 버전 조건 UPDATE 한 번)
+// 인메모리 DB 는 네트워크 왕복이 없으므로 roundTripMicros 로 문장마다 왕복 지연을 흉내 냄
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleTuneStorageBenchmark {
+
+    private static final int MEMBER_COUNT = 50;
+    private static final int SLOT_COUNT = 1000;
+    private static final int OCCUPANCY_BYTES = (MEMBER_COUNT + 7) / 8;
+    private static final long VOTE_TUNE_ID = 1L;
+    private static final int VOTER = 7;
+
+    @Param({"0", "300"})
+    private long roundTripMicros;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private long nextTuneId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:schedule-tune;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("""
+                create table schedule_tune (
+                    id bigint auto_increment primary key,
+                    occupancy_matrix blob,
+                    version bigint not null default 0
+                )""");
+        jdbcTemplate.execute("""
+                create table schedule_tune_slot (
+                    id bigint auto_increment primary key,
+                    schedule_tune_id bigint not null,
+                    slot_index int not null,
+                    occupancy_bits varbinary(512) not null,
+                    unique (schedule_tune_id, slot_index)
+                )""");
+
+        // 투표/조회 대상 조율 (두 방식 모두 같은 tune id 로 미리 생성)
+        createMatrix();
+        createSlotRows(VOTE_TUNE_ID);
+        nextTuneId = VOTE_TUNE_ID + 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+        dataSource.destroy();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.update("delete from schedule_tune where id <> ?", VOTE_TUNE_ID);
+        jdbcTemplate.update("delete from schedule_tune_slot where schedule_tune_id <> ?", VOTE_TUNE_ID);
+    }
+
+    @Benchmark
+    public long createSlotRows() throws SQLException {
+        return createSlotRows(nextTuneId++);
+    }
+
+    @Benchmark
+    public long createMatrix() throws SQLException {
+        return insert(dataSource.getConnection(), "insert into schedule_tune (occupancy_matrix) values (?)",
+                SlotMatrix.empty(MEMBER_COUNT, SLOT_COUNT).toBytes());
+    }
+
+    @Benchmark
+    public int voteSlotRows() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        List<long[]> idAndSlot = new ArrayList<>(SLOT_COUNT);
+        List<byte[]> bits = new ArrayList<>(SLOT_COUNT);
+
+        roundTrip();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select id, slot_index, occupancy_bits from schedule_tune_slot where schedule_tune_id = ? order by slot_index for update")) {
+            statement.setLong(1, VOTE_TUNE_ID);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    idAndSlot.add(new long[]{rs.getLong(1), rs.getInt(2)});
+                    bits.add(rs.getBytes(3));
+                }
+            }
+        }
+
+        // JPA saveAll 처럼 바뀐 행마다 UPDATE 한 번
+        for (int i = 0; i < idAndSlot.size(); i++) {
+            BitMaskUtils.setBit(bits.get(i), VOTER, selected((int) idAndSlot.get(i)[1]));
+            execute(connection, "update schedule_tune_slot set occupancy_bits = ? where id = ?", bits.get(i), idAndSlot.get(i)[0]);
+        }
+        return idAndSlot.size();
+    }
+
+    @Benchmark
+    public int voteMatrix() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        byte[] bytes;
+        long version;
+
+        roundTrip();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select occupancy_matrix, version from schedule_tune where id = ?")) {
+            statement.setLong(1, VOTE_TUNE_ID);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                bytes = rs.getBytes(1);
+                version = rs.getLong(2);
+            }
+        }
+
+        SlotMatrix matrix = SlotMatrix.fromBytes(bytes);
+        matrix.setMember(VOTER, ScheduleTuneStorageBenchmark::selected);
+        return execute(connection,
+                "update schedule_tune set occupancy_matrix = ?, version = version + 1 where id = ? and version = ?",
+                matrix.toBytes(), VOTE_TUNE_ID, version);
+    }
+
+    @Benchmark
+    public List<Long> readSlotRows() {
+        roundTrip();
+        return jdbcTemplate.query(
+                "select occupancy_bits from schedule_tune_slot where schedule_tune_id = ? order by slot_index",
+                (rs, rowNum) -> BitMaskUtils.toUnsignedLong(rs.getBytes(1)),
+                VOTE_TUNE_ID);
+    }
+
+    @Benchmark
+    public List<Long> readMatrix() {
+        roundTrip();
+        byte[] bytes = jdbcTemplate.queryForObject(
+                "select occupancy_matrix from schedule_tune where id = ?", byte[].class, VOTE_TUNE_ID);
+        SlotMatrix matrix = SlotMatrix.fromBytes(bytes);
+        List<Long> candidateDates = new ArrayList<>(matrix.slotCount());
+        for (int slot = 0; slot < matrix.slotCount(); slot++) {
+            candidateDates.add(matrix.lowWord(slot));
+        }
+        return candidateDates;
+    }
+
+    private long createSlotRows(long tuneId) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        long lastId = 0L;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            lastId = insert(connection,
+                    "insert into schedule_tune_slot (schedule_tune_id, slot_index, occupancy_bits) values (?, ?, ?)",
+                    tuneId, slot, new byte[OCCUPANCY_BYTES]);
+        }
+        return lastId;
+    }
+
+    private static boolean selected(int slot) {
+        return slot % 3 == 0;
+    }
+
+    private long insert(Connection connection, String sql, Object... args) throws SQLException {
+        roundTrip();
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            bind(statement, args);
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private int execute(Connection connection, String sql, Object... args) throws SQLException {
+        roundTrip();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            bind(statement, args);
+            return statement.executeUpdate();
+        }
+    }
+
+    private void bind(PreparedStatement statement, Object... args) throws SQLException {
+        for (int i = 0; i < args.length; i++) {
+            statement.setObject(i + 1, args[i]);
+        }
+    }
+
+    private void roundTrip() {
+        if (roundTripMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.pado.domain.schedule.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 멤버 100명 x 슬롯 2000개(하루 25슬롯 x 80일)에서 상위 구간 5개 추천 시간 비교
+// perMember: 구간마다 멤버별로 모든 슬롯 가능 여부를 확인하고 전체 구간을 정렬
+// wordAnd: SlotWindowRanker (슬롯 열 워드 AND + Long.bitCount, 상위 목록만 유지)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotWindowRankerBenchmark {
+
+    private static final int MEMBER_COUNT = 100;
+    private static final int SLOTS_PER_DAY = 25;
+    private static final int SLOT_COUNT = SLOTS_PER_DAY * 80;
+    private static final int LIMIT = 5;
+
+    @Param({"2", "4"})
+    private int windowSlots;
+
+    private SlotMatrix matrix;
+    private boolean[][] available;
+    private long[] required;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        matrix = SlotMatrix.empty(MEMBER_COUNT, SLOT_COUNT);
+        available = new boolean[MEMBER_COUNT][SLOT_COUNT];
+        for (int member = 0; member < MEMBER_COUNT; member++) {
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                boolean value = random.nextInt(100) < 60;
+                matrix.set(member, slot, value);
+                available[member][slot] = value;
+            }
+        }
+        required = matrix.emptyColumn();
+        BitMaskUtils.setBit(required, 0);
+    }
+
+    @Benchmark
+    public List<SlotWindowRanker.Window> wordAnd() {
+        return SlotWindowRanker.topWindows(matrix, windowSlots, SLOTS_PER_DAY, required, LIMIT);
+    }
+
+    @Benchmark
+    public List<int[]> perMember() {
+        List<int[]> windows = new ArrayList<>();
+        for (int start = 0; start + windowSlots <= SLOT_COUNT; start++) {
+            if (start % SLOTS_PER_DAY + windowSlots > SLOTS_PER_DAY) {
+                continue;
+            }
+            int count = 0;
+            int requiredCount = 0;
+            for (int member = 0; member < MEMBER_COUNT; member++) {
+                boolean all = true;
+                for (int slot = start; slot < start + windowSlots && all; slot++) {
+                    all = available[member][slot];
+                }
+                if (all) {
+                    count++;
+                    if (member == 0) {
+                        requiredCount++;
+                    }
+                }
+            }
+            windows.add(new int[]{start, count, requiredCount});
+        }
+        windows.sort(Comparator.<int[]>comparingInt(w -> w[2]).thenComparingInt(w -> w[1]).reversed()
+                .thenComparingInt(w -> w[0]));
+        return windows.subList(0, LIMIT);
+    }
+}
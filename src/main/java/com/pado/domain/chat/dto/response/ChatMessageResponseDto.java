@@ -52,4 +52,18 @@ public record ChatMessageResponseDto(
                 chatMessage.getCreatedAt()
         );
     }
+
+    public ChatMessageResponseDto withReactionCounts(Long likeCount, Long dislikeCount) {
+        return new ChatMessageResponseDto(
+                messageId, messageType, senderId, senderName, content, link,
+                likeCount, dislikeCount, unreadMemberCount, createdAt
+        );
+    }
+
+    public ChatMessageResponseDto withUnreadMemberCount(Long unreadMemberCount) {
+        return new ChatMessageResponseDto(
+                messageId, messageType, senderId, senderName, content, link,
+                likeCount, dislikeCount, unreadMemberCount, createdAt
+        );
+    }
 }
@@ -0,0 +1,19 @@
+package com.pado.domain.chat.dto.response;
+
+import com.pado.domain.chat.entity.UpdateType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record UpdatedChatRoomBatchResponseDto(
+        @Schema(description = "업데이트 정보 타입", example = "imoji_batch")
+        UpdateType type,
+
+        @Schema(description = "일정 시간 동안 모인 메시지별 리액션 변경 목록")
+        List<UpdatedChatRoomResponseDto> updates
+) {
+
+    public static UpdatedChatRoomBatchResponseDto ofReactions(List<UpdatedChatRoomResponseDto> updates) {
+        return new UpdatedChatRoomBatchResponseDto(UpdateType.IMOJI_BATCH, updates);
+    }
+}
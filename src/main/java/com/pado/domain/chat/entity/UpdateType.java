@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 public enum UpdateType {
     IMOJI("imoji"),
+    IMOJI_BATCH("imoji_batch"),
     DELETED("deleted");
 
     private final String value;
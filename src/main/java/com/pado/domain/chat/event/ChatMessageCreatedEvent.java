@@ -0,0 +1,8 @@
+package com.pado.domain.chat.event;
+
+import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
+
+public record ChatMessageCreatedEvent(
+        Long studyId,
+        ChatMessageResponseDto message
+) {}
@@ -0,0 +1,6 @@
+package com.pado.domain.chat.event;
+
+public record ChatMessageDeletedEvent(
+        Long studyId,
+        Long messageId
+) {}
@@ -0,0 +1,6 @@
+package com.pado.domain.chat.event;
+
+public record ChatReactionChangedEvent(
+        Long studyId,
+        Long messageId
+) {}
@@ -0,0 +1,27 @@
+package com.pado.domain.chat.listener;
+
+import com.pado.domain.chat.event.ChatMessageCreatedEvent;
+import com.pado.domain.chat.event.ChatMessageDeletedEvent;
+import com.pado.domain.chat.service.ChatHistoryReplicator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ChatHistoryListener {
+
+    private final ChatHistoryReplicator chatHistoryReplicator;
+
+    // 커밋된 메시지만 최신 메시지 캐시에 반영 (다른 서버 캐시에도 전달)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChatMessageCreatedEvent(ChatMessageCreatedEvent event) {
+        chatHistoryReplicator.append(event.studyId(), event.message());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChatMessageDeletedEvent(ChatMessageDeletedEvent event) {
+        chatHistoryReplicator.remove(event.studyId(), event.messageId());
+    }
+}
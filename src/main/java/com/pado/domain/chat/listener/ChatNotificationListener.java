@@ -3,7 +3,9 @@ package com.pado.domain.chat.listener;
 import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
 import com.pado.domain.chat.entity.ChatMessage;
 import com.pado.domain.chat.entity.MessageType;
+import com.pado.domain.chat.event.ChatMessageCreatedEvent;
 import com.pado.domain.chat.repository.ChatMessageRepository;
+import com.pado.domain.chat.service.RedisChatUnreadCounter;
 import com.pado.domain.material.event.NoticeCreatedEvent;
 import com.pado.domain.schedule.event.ScheduleCreatedEvent;
 import com.pado.domain.study.entity.Study;
@@ -13,6 +15,7 @@ import com.pado.global.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -33,6 +36,8 @@ public class ChatNotificationListener {
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatMessageRepository chatMessageRepository;
     private final StudyRepository studyRepository;
+    private final RedisChatUnreadCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Async
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -79,6 +84,16 @@ public class ChatNotificationListener {
         );
 
         messagingTemplate.convertAndSend("/topic/studies/" + studyId + "/chats", responseDto);
+
+        // 시스템 메시지도 안읽은 메시지에 포함되므로 미접속 멤버의 카운터 증가
+        unreadCounter.incrementForOfflineMembers(studyId);
+
+        // 시스템 메시지는 리액션이 없으므로 캐시에는 리액션 카운트 없이 저장
+        eventPublisher.publishEvent(new ChatMessageCreatedEvent(
+                studyId,
+                ChatMessageResponseDto.from(savedMessage, null, null, 0L)
+        ));
+
         log.info("{} 알림 메시지 전송 완료: studyId={}, link={}", type.name(), studyId, link);
     }
 }
@@ -0,0 +1,21 @@
+package com.pado.domain.chat.listener;
+
+import com.pado.domain.chat.event.ChatReactionChangedEvent;
+import com.pado.domain.chat.service.ChatReactionUpdateCoalescer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ChatReactionListener {
+
+    private final ChatReactionUpdateCoalescer updateCoalescer;
+
+    // 커밋된 리액션 변경만 반영하고, 리액션 수 집계와 업데이트 프레임 전송은 모아서 처리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChatReactionChangedEvent(ChatReactionChangedEvent event) {
+        updateCoalescer.markChanged(event.studyId(), event.messageId());
+    }
+}
@@ -0,0 +1,40 @@
+package com.pado.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class LastReadMessageJdbcRepository {
+
+    private static final String UPDATE_LAST_READ_SQL = """
+            update chat_message_last_read
+            set last_read_message_id = ?
+            where study_member_id = ? and last_read_message_id < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // <studyMemberId, lastReadMessageId> 목록을 한 번의 JDBC 배치로 반영
+    // 이미 더 최신 메시지를 읽은 경우에는 덮어쓰지 않음
+    public void batchUpdateLastReadMessageIds(Map<Long, Long> lastReadByMemberId) {
+        if (lastReadByMemberId.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = lastReadByMemberId.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, args);
+    }
+
+    // 한 멤버의 값을 같은 조건부 UPDATE로 반영 (더 최신 값을 덮어쓰지 않음)
+    public void updateLastReadMessageId(Long studyMemberId, Long lastReadMessageId) {
+        jdbcTemplate.update(UPDATE_LAST_READ_SQL, lastReadMessageId, studyMemberId, lastReadMessageId);
+    }
+}
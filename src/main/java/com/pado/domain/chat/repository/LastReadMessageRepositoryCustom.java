@@ -1,10 +1,12 @@
 package com.pado.domain.chat.repository;
 
+import com.pado.domain.chat.repository.dto.MemberReadCursorDto;
+import com.pado.domain.chat.repository.dto.MemberUnreadCountDto;
+
 import java.util.List;
-import java.util.Map;
 
 public interface LastReadMessageRepositoryCustom {
 
-    long countUnreadMembers(Long studyId, Long messageId);
-    Map<Long, Long> getUnreadCountsForMessages(Long studyId, List<Long> messageIds);
-}
\ No newline at end of file
+    List<MemberReadCursorDto> findReadCursorsByStudyId(Long studyId);
+    List<MemberUnreadCountDto> findAllMemberUnreadCounts();
+}
@@ -1,16 +1,16 @@
 package com.pado.domain.chat.repository;
 
-import com.pado.domain.chat.entity.LastReadMessage;
+import com.pado.domain.chat.entity.QChatMessage;
 import com.pado.domain.chat.entity.QLastReadMessage;
+import com.pado.domain.chat.repository.dto.MemberReadCursorDto;
+import com.pado.domain.chat.repository.dto.MemberUnreadCountDto;
 import com.pado.domain.study.entity.QStudyMember;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -19,57 +19,44 @@ public class LastReadMessageRepositoryCustomImpl implements LastReadMessageRepos
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public long countUnreadMembers(Long studyId, Long messageId) {
+    public List<MemberReadCursorDto> findReadCursorsByStudyId(Long studyId) {
         QLastReadMessage lastReadMessage = QLastReadMessage.lastReadMessage;
         QStudyMember studyMember = QStudyMember.studyMember;
 
-        Long count = queryFactory
-                .select(lastReadMessage.count())
+        // 스터디의 모든 멤버의 lastReadMessageId를 가져옴
+        return queryFactory
+                .select(Projections.constructor(
+                        MemberReadCursorDto.class,
+                        studyMember.id,
+                        lastReadMessage.lastReadMessageId
+                ))
                 .from(lastReadMessage)
                 .join(lastReadMessage.studyMember, studyMember)
-                .where(
-                        studyMember.study.id.eq(studyId),
-                        lastReadMessage.lastReadMessageId.lt(messageId)
-                )
-                .fetchOne();
-
-        return count != null ? count : 0L;
+                .where(studyMember.study.id.eq(studyId))
+                .fetch();
     }
 
-
     @Override
-    public Map<Long, Long> getUnreadCountsForMessages(Long studyId, List<Long> messageIds) {
+    public List<MemberUnreadCountDto> findAllMemberUnreadCounts() {
         QLastReadMessage lastReadMessage = QLastReadMessage.lastReadMessage;
         QStudyMember studyMember = QStudyMember.studyMember;
-
-        // 스터디의 모든 멤버의 lastReadMessageId를 가져옴
-        List<Long> lastReadIds = queryFactory
-                .select(lastReadMessage.lastReadMessageId)
+        QChatMessage chatMessage = QChatMessage.chatMessage;
+
+        // 멤버별로 마지막으로 읽은 메시지 이후의 메시지 수를 한 번에 집계 (안읽은 메시지가 없으면 0)
+        return queryFactory
+                .select(Projections.constructor(
+                        MemberUnreadCountDto.class,
+                        studyMember.study.id,
+                        studyMember.id,
+                        chatMessage.id.count()
+                ))
                 .from(lastReadMessage)
                 .join(lastReadMessage.studyMember, studyMember)
-                .where(studyMember.study.id.eq(studyId))
+                .leftJoin(chatMessage).on(
+                        chatMessage.study.id.eq(studyMember.study.id),
+                        chatMessage.id.gt(lastReadMessage.lastReadMessageId)
+                )
+                .groupBy(studyMember.study.id, studyMember.id)
                 .fetch();
-
-        Collections.sort(lastReadIds);
-
-        return messageIds.stream()
-                .collect(Collectors.toMap(
-                        messageId -> messageId,
-                        messageId -> calculateUnreadCount(messageId, lastReadIds)
-                ));
-    }
-
-    private long calculateUnreadCount(long messageId, List<Long> sortedLastReadIds) {
-        int idx = Collections.binarySearch(sortedLastReadIds, messageId);
-
-        if (idx >= 0) {
-            int firstOccurrence = idx;
-            while (firstOccurrence > 0 && sortedLastReadIds.get(firstOccurrence - 1).equals(messageId)) {
-                firstOccurrence--;
-            }
-            return firstOccurrence;
-        } else {
-            return -idx - 1;
-        }
     }
 }
@@ -0,0 +1,3 @@
+package com.pado.domain.chat.repository.dto;
+
+public record MemberReadCursorDto(Long studyMemberId, Long lastReadMessageId) {}
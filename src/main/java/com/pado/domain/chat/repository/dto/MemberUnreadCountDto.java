@@ -0,0 +1,3 @@
+package com.pado.domain.chat.repository.dto;
+
+public record MemberUnreadCountDto(Long studyId, Long studyMemberId, Long unreadCount) {}
@@ -0,0 +1,178 @@
+package com.pado.domain.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 트랜잭션 안에서 요청한 채팅 프레임 전송을 커밋 이후 전용 실행기에서 처리
+// 롤백되면 전송하지 않고, 요청 스레드는 커밋 직후 바로 반환
+// 스터디별로 같은 레인(단일 스레드)에 배정해 전송 순서를 유지하고,
+// 레인 큐가 가득 차면 커밋한 스레드가 큐에 자리가 날 때까지 기다림 (back-pressure, 프레임은 버리지 않음)
+// 대기 중인 프레임보다 먼저 보내 순서가 뒤바뀌지 않도록 직접 전송하지 않음
+// DB/Redis 작업이 섞인 알림(미접속 멤버 안읽은 수 등)은 별도 실행기에서 처리해 레인을 막지 않음
+@Slf4j
+@Component
+public class ChatDeliveryDispatcher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolTaskExecutor[] lanes;
+    private final ThreadPoolTaskExecutor notifier;
+    private final Timer dispatchLatency;
+    private final Counter backpressure;
+
+    public ChatDeliveryDispatcher(
+            SimpMessagingTemplate messagingTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chat.delivery.lanes:4}") int laneCount,
+            @Value("${chat.delivery.queue-capacity:1000}") int queueCapacity,
+            @Value("${chat.delivery.notification-workers:2}") int notificationWorkers,
+            @Value("${chat.delivery.notification-queue-capacity:1000}") int notificationQueueCapacity
+    ) {
+        this.messagingTemplate = messagingTemplate;
+
+        this.dispatchLatency = Timer.builder("chat.delivery.dispatch.latency")
+                .description("커밋 이후 채팅 프레임 전송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.backpressure = Counter.builder("chat.delivery.backpressure")
+                .description("레인 큐가 가득 차 커밋한 스레드가 자리가 날 때까지 기다린 횟수")
+                .register(meterRegistry);
+
+        this.lanes = new ThreadPoolTaskExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = createLane(i, queueCapacity);
+        }
+        this.notifier = createNotifier(notificationWorkers, notificationQueueCapacity);
+
+        Gauge.builder("chat.delivery.queue.depth", this, ChatDeliveryDispatcher::queueDepth)
+                .description("전송 대기 중인 채팅 프레임 수")
+                .register(meterRegistry);
+    }
+
+    public void send(Long studyId, String destination, Object payload) {
+        execute(studyId, () -> messagingTemplate.convertAndSend(destination, payload));
+    }
+
+    // 트랜잭션 안이면 커밋 이후, 밖이면 즉시 스터디 레인에 작업 등록
+    public void execute(Long studyId, Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(studyId, task);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(studyId, task);
+            }
+        });
+    }
+
+    // 전송 순서가 필요 없는 알림 작업, 트랜잭션 안이면 커밋 이후 알림 실행기에 등록
+    // 큐가 가득 차면 요청한 스레드에서 직접 실행 (Redis 안읽은 수 증가가 포함되어 버리지 않음)
+    public void executeNotification(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifier.execute(() -> runQuietly(task));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notifier.execute(() -> runQuietly(task));
+            }
+        });
+    }
+
+    public int queueDepth() {
+        return Arrays.stream(lanes)
+                .mapToInt(lane -> lane.getThreadPoolExecutor().getQueue().size())
+                .sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Arrays.stream(lanes).forEach(ThreadPoolTaskExecutor::shutdown);
+        notifier.shutdown();
+    }
+
+    private void dispatch(Long studyId, Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        laneOf(studyId).execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("채팅 프레임 전송 실패: studyId={}, message={}", studyId, e.getMessage());
+            } finally {
+                dispatchLatency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("채팅 알림 처리 실패: message={}", e.getMessage());
+        }
+    }
+
+    // 큐 끝에 자리가 날 때까지 기다려 넣으므로 같은 레인의 순서는 유지됨
+    // 종료 중이라 레인이 더 이상 꺼내지 않으면 요청한 스레드에서 직접 전송
+    private void waitForCapacity(Runnable task, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            task.run();
+            return;
+        }
+
+        backpressure.increment();
+        try {
+            pool.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.run();
+        }
+    }
+
+    private ThreadPoolTaskExecutor laneOf(Long studyId) {
+        return lanes[Math.floorMod(studyId.hashCode(), lanes.length)];
+    }
+
+    private ThreadPoolTaskExecutor createLane(int index, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ChatDelivery-" + index + "-");
+        executor.setRejectedExecutionHandler(this::waitForCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
+
+    private ThreadPoolTaskExecutor createNotifier(int workers, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ChatNotify-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
+}
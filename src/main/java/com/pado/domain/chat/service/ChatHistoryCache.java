@@ -0,0 +1,218 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
+import com.pado.domain.chat.dto.response.ChatReactionCountDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 스터디별 최신 메시지 구간(hot window) 캐시
+// 첫 페이지와 최신 메시지 근처의 커서 조회를 DB 조회 없이 응답
+// 안읽은 멤버 수는 조회 시점에 ReadCursorIndex로 다시 계산하므로 여기서는 관리하지 않음
+// 서버마다 따로 들고 있는 캐시라 변경은 ChatHistoryReplicator를 통해 반영하고,
+// 놓친 변경이 오래 남지 않도록 일정 시간이 지난 구간은 DB에서 다시 읽음
+@Component
+public class ChatHistoryCache {
+
+    // 메시지 1건의 고정 비용(객체 헤더, 필드, 맵 엔트리 등) 추정치
+    private static final long ENTRY_OVERHEAD_BYTES = 200;
+
+    @Value("${chat.history-cache.window-size:100}")
+    private int windowSize;
+
+    // 전체 스터디 구간의 메모리 사용량 상한, 넘으면 가장 오래 조회되지 않은 스터디부터 제거
+    @Value("${chat.history-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${chat.history-cache.ttl-ms:60000}")
+    private long ttlMillis;
+
+    // 접근 순서 LinkedHashMap으로 LRU 관리 (this로 동기화)
+    private final LinkedHashMap<Long, StudyWindow> windows = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    // 스터디별 변경 버전, DB에서 구간을 읽는 사이에 변경이 있었으면 로딩 결과를 버림
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public int windowSize() {
+        return windowSize;
+    }
+
+    public long currentVersion(Long studyId) {
+        return versions.getOrDefault(studyId, 0L);
+    }
+
+    // 캐시된 구간만으로 응답할 수 있을 때만 페이지 반환
+    public synchronized Optional<ChatHistoryPage> findPage(Long studyId, Long cursor, int size) {
+        StudyWindow window = windows.get(studyId);
+        if (window == null) {
+            return Optional.empty();
+        }
+        if (System.currentTimeMillis() - window.loadedAt > ttlMillis) {
+            removeWindow(studyId);
+            return Optional.empty();
+        }
+
+        NavigableMap<Long, ChatMessageResponseDto> candidates = cursor == null
+                ? window.messages.descendingMap()
+                : window.messages.headMap(cursor, false).descendingMap();
+
+        List<ChatMessageResponseDto> page = new ArrayList<>(Math.min(size + 1, candidates.size()));
+        for (ChatMessageResponseDto message : candidates.values()) {
+            if (page.size() > size) {
+                break;
+            }
+            page.add(message);
+        }
+
+        // 구간 아래쪽에 DB에만 있는 메시지가 남아있을 수 있으면 캐시로 응답하지 않음
+        if (page.size() <= size && !window.reachesStart) {
+            return Optional.empty();
+        }
+        return Optional.of(new ChatHistoryPage(page, false).limit(size));
+    }
+
+    // DB에서 읽은 최신 구간(최신순)을 등록, 읽는 동안 변경이 있었으면 무시
+    public synchronized void load(Long studyId, long version, List<ChatMessageResponseDto> newestFirst, boolean reachesStart) {
+        if (currentVersion(studyId) != version) {
+            return;
+        }
+
+        StudyWindow window = new StudyWindow(reachesStart, System.currentTimeMillis());
+        newestFirst.stream()
+                .limit(windowSize)
+                .forEach(window::put);
+        if (newestFirst.size() > windowSize) {
+            window.reachesStart = false;
+        }
+
+        removeWindow(studyId);
+        windows.put(studyId, window);
+        totalBytes += window.bytes;
+        evictOverBudget();
+    }
+
+    // 커밋된 새 메시지를 구간에 추가하고 가장 오래된 메시지를 밀어냄
+    public synchronized void append(Long studyId, ChatMessageResponseDto message) {
+        bumpVersion(studyId);
+        StudyWindow window = windows.get(studyId);
+        if (window == null) {
+            return;
+        }
+
+        long before = window.bytes;
+        window.put(message);
+        while (window.messages.size() > windowSize) {
+            window.removeOldest();
+        }
+        totalBytes += window.bytes - before;
+        evictOverBudget();
+    }
+
+    public synchronized void remove(Long studyId, Long messageId) {
+        bumpVersion(studyId);
+        StudyWindow window = windows.get(studyId);
+        if (window == null) {
+            return;
+        }
+
+        long before = window.bytes;
+        window.remove(messageId);
+        totalBytes += window.bytes - before;
+    }
+
+    // 전송 주기마다 DB에서 다시 집계한 리액션 수로 덮어씀 (같은 값이 여러 번 와도 결과가 같음)
+    public synchronized void updateReactionCounts(Long studyId, Collection<ChatReactionCountDto> counts) {
+        bumpVersion(studyId);
+        StudyWindow window = windows.get(studyId);
+        if (window == null) {
+            return;
+        }
+
+        counts.forEach(count -> {
+            ChatMessageResponseDto message = window.messages.get(count.messageId());
+            if (message != null && message.likeCount() != null) {
+                window.messages.put(count.messageId(),
+                        message.withReactionCounts(count.likeCount(), count.dislikeCount()));
+            }
+        });
+    }
+
+    public synchronized void invalidate(Long studyId) {
+        bumpVersion(studyId);
+        removeWindow(studyId);
+    }
+
+    private void bumpVersion(Long studyId) {
+        versions.merge(studyId, 1L, Long::sum);
+    }
+
+    private void removeWindow(Long studyId) {
+        StudyWindow removed = windows.remove(studyId);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    private void evictOverBudget() {
+        Iterator<StudyWindow> iterator = windows.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    private static long estimateBytes(ChatMessageResponseDto message) {
+        return ENTRY_OVERHEAD_BYTES
+                + 2L * (length(message.content()) + length(message.link()) + length(message.senderName()));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static class StudyWindow {
+
+        // key = messageId
+        private final TreeMap<Long, ChatMessageResponseDto> messages = new TreeMap<>();
+        // 스터디의 가장 오래된 메시지까지 포함하고 있는지
+        private boolean reachesStart;
+        private long bytes;
+        private final long loadedAt;
+
+        private StudyWindow(boolean reachesStart, long loadedAt) {
+            this.reachesStart = reachesStart;
+            this.loadedAt = loadedAt;
+        }
+
+        private void put(ChatMessageResponseDto message) {
+            ChatMessageResponseDto previous = messages.put(message.messageId(), message);
+            if (previous != null) {
+                bytes -= estimateBytes(previous);
+            }
+            bytes += estimateBytes(message);
+        }
+
+        private void remove(Long messageId) {
+            ChatMessageResponseDto removed = messages.remove(messageId);
+            if (removed != null) {
+                bytes -= estimateBytes(removed);
+            }
+        }
+
+        private void removeOldest() {
+            bytes -= estimateBytes(messages.pollFirstEntry().getValue());
+            reachesStart = false;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
+
+import java.util.List;
+
+// 최신순으로 정렬된 메시지 목록과 더 오래된 메시지 존재 여부
+record ChatHistoryPage(
+        List<ChatMessageResponseDto> messages,
+        boolean hasNext
+) {
+
+    // 앞에서부터 size개만 남기고, 잘린 메시지가 있으면 hasNext
+    ChatHistoryPage limit(int size) {
+        if (messages.size() <= size) {
+            return this;
+        }
+        return new ChatHistoryPage(messages.subList(0, size), true);
+    }
+}
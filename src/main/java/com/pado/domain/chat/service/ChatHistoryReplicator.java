@@ -0,0 +1,119 @@
+package com.pado.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
+import com.pado.domain.chat.dto.response.ChatReactionCountDto;
+import com.pado.infrastruture.websocket.BrokerMessageBus;
+import com.pado.infrastruture.websocket.RelayedBrokerMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+// 최신 메시지 캐시(ChatHistoryCache) 변경을 이 서버에 반영하고, 다중 서버 모드(redis)면
+// BrokerMessageBus로 다른 서버에도 전달해 각 서버의 캐시가 같은 메시지/삭제/리액션을 보게 함
+// 전달이 유실되더라도 ChatHistoryCache의 TTL이 지나면 DB에서 다시 읽음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatHistoryReplicator {
+
+    // STOMP 목적지가 아닌 서버 내부 채널 (BrokerRelayReceiver는 브로커로 주입하지 않음)
+    static final String CHANNEL = "internal:chat-history";
+
+    private final ChatHistoryCache chatHistoryCache;
+    private final ObjectProvider<BrokerMessageBus> brokerMessageBus;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void subscribe() {
+        brokerMessageBus.ifAvailable(bus -> bus.subscribe(this::receive));
+    }
+
+    // 커밋된 새 메시지
+    public void append(Long studyId, ChatMessageResponseDto message) {
+        replicate(new Change(ChangeType.APPENDED, studyId, message, null, null));
+    }
+
+    // 커밋된 메시지 삭제
+    public void remove(Long studyId, Long messageId) {
+        replicate(new Change(ChangeType.REMOVED, studyId, null, messageId, null));
+    }
+
+    // DB에서 다시 집계한 리액션 수
+    public void updateReactionCounts(Long studyId, Collection<ChatReactionCountDto> counts) {
+        replicate(new Change(ChangeType.REACTIONS, studyId, null, null, List.copyOf(counts)));
+    }
+
+    // 멤버 탈퇴 등으로 구간 전체가 바뀌면 제거, 트랜잭션 안이면 커밋 이후에 제거
+    public void invalidate(Long studyId) {
+        Change change = new Change(ChangeType.INVALIDATED, studyId, null, null, null);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            replicate(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replicate(change);
+            }
+        });
+    }
+
+    void receive(RelayedBrokerMessage relayed) {
+        if (!CHANNEL.equals(relayed.destination())) {
+            return;
+        }
+
+        try {
+            apply(objectMapper.readValue(relayed.payload(), Change.class));
+        } catch (IOException e) {
+            log.error("최신 메시지 캐시 변경 역직렬화 실패", e);
+        }
+    }
+
+    private void replicate(Change change) {
+        apply(change);
+        brokerMessageBus.ifAvailable(bus -> publish(bus, change));
+    }
+
+    // 전달에 실패해도 요청은 실패시키지 않음 (다른 서버 캐시는 TTL로 복구)
+    private void publish(BrokerMessageBus bus, Change change) {
+        try {
+            bus.publish(new RelayedBrokerMessage(null, CHANNEL, "application/json", objectMapper.writeValueAsBytes(change)));
+        } catch (IOException | DataAccessException e) {
+            log.warn("최신 메시지 캐시 변경 전달 실패: studyId={}, message={}", change.studyId(), e.getMessage());
+        }
+    }
+
+    private void apply(Change change) {
+        switch (change.type()) {
+            case APPENDED -> chatHistoryCache.append(change.studyId(), change.message());
+            case REMOVED -> chatHistoryCache.remove(change.studyId(), change.messageId());
+            case REACTIONS -> chatHistoryCache.updateReactionCounts(change.studyId(), change.reactionCounts());
+            case INVALIDATED -> chatHistoryCache.invalidate(change.studyId());
+        }
+    }
+
+    public enum ChangeType {
+        APPENDED, REMOVED, REACTIONS, INVALIDATED
+    }
+
+    public record Change(
+            ChangeType type,
+            Long studyId,
+            ChatMessageResponseDto message,
+            Long messageId,
+            List<ChatReactionCountDto> reactionCounts
+    ) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.dto.response.ChatReactionCountDto;
+import com.pado.domain.chat.dto.response.UpdatedChatRoomBatchResponseDto;
+import com.pado.domain.chat.dto.response.UpdatedChatRoomResponseDto;
+import com.pado.domain.chat.entity.UpdateType;
+import com.pado.domain.chat.repository.ChatReactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 짧은 시간 동안 발생한 리액션 변경을 모아 스터디별로 한 번의 업데이트 프레임으로 전송
+// 리액션 수는 주기마다 변경된 메시지들을 DB에서 한 번에 다시 집계 (증감을 누적하지 않아 어긋나지 않음)
+// 묶음 프레임은 /topic/studies/{id}/reactions 로 보내고, 기존 /updates 구독 클라이언트를 위해
+// 메시지별 imoji 프레임도 함께 보냄 (chat.reaction.legacy-update-frames, 클라이언트 전환 후 끔)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReactionUpdateCoalescer {
+
+    private final ChatReactionRepository chatReactionRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatHistoryReplicator chatHistoryReplicator;
+
+    @Value("${chat.reaction.legacy-update-frames:true}")
+    private boolean legacyUpdateFrames;
+
+    // <studyId, 리액션이 바뀐 messageId 목록>
+    private final Map<Long, Set<Long>> changedMessageIdsByStudy = new ConcurrentHashMap<>();
+
+    public void markChanged(Long studyId, Long messageId) {
+        changedMessageIdsByStudy.compute(studyId, (id, messageIds) -> {
+            Set<Long> changed = messageIds != null ? messageIds : new HashSet<>();
+            changed.add(messageId);
+            return changed;
+        });
+    }
+
+    // 삭제된 메시지는 리액션 업데이트를 보내지 않음
+    public void discard(Long studyId, Long messageId) {
+        changedMessageIdsByStudy.computeIfPresent(studyId, (id, messageIds) -> {
+            messageIds.remove(messageId);
+            return messageIds.isEmpty() ? null : messageIds;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${chat.reaction.flush-interval-ms:200}")
+    public void flush() {
+        for (Long studyId : changedMessageIdsByStudy.keySet()) {
+            Set<Long> messageIds = changedMessageIdsByStudy.remove(studyId);
+            if (messageIds == null || messageIds.isEmpty()) {
+                continue;
+            }
+
+            try {
+                sendBatch(studyId, messageIds);
+            } catch (DataAccessException e) {
+                log.warn("리액션 업데이트 전송 실패: studyId={}, message={}", studyId, e.getMessage());
+            }
+        }
+    }
+
+    private void sendBatch(Long studyId, Set<Long> messageIds) {
+        Map<Long, ChatReactionCountDto> counts = countReactions(messageIds);
+        chatHistoryReplicator.updateReactionCounts(studyId, counts.values());
+
+        List<UpdatedChatRoomResponseDto> updates = messageIds.stream()
+                .sorted()
+                .map(messageId -> {
+                    ChatReactionCountDto count = counts.get(messageId);
+                    return new UpdatedChatRoomResponseDto(
+                            UpdateType.IMOJI,
+                            messageId,
+                            count.likeCount(),
+                            count.dislikeCount()
+                    );
+                })
+                .toList();
+
+        messagingTemplate.convertAndSend(
+                "/topic/studies/" + studyId + "/reactions",
+                UpdatedChatRoomBatchResponseDto.ofReactions(updates)
+        );
+
+        if (legacyUpdateFrames) {
+            updates.forEach(update ->
+                    messagingTemplate.convertAndSend("/topic/studies/" + studyId + "/updates", update));
+        }
+    }
+
+    // 리액션이 모두 사라진 메시지는 집계 결과에 없으므로 0으로 채움
+    private Map<Long, ChatReactionCountDto> countReactions(Set<Long> messageIds) {
+        Map<Long, ChatReactionCountDto> counts = new HashMap<>();
+        messageIds.forEach(id -> counts.put(id, new ChatReactionCountDto(id, 0L, 0L)));
+        chatReactionRepository.findReactionCountsByMessageIdIn(List.copyOf(messageIds))
+                .forEach(dto -> counts.put(dto.messageId(), dto));
+        return counts;
+    }
+}
@@ -4,7 +4,11 @@ import com.pado.domain.chat.dto.request.ChatMessageRequestDto;
 import com.pado.domain.chat.dto.request.ReactionRequestDto;
 import com.pado.domain.chat.dto.response.*;
 import com.pado.domain.chat.entity.*;
+import com.pado.domain.chat.event.ChatMessageCreatedEvent;
+import com.pado.domain.chat.event.ChatMessageDeletedEvent;
+import com.pado.domain.chat.event.ChatReactionChangedEvent;
 import com.pado.domain.chat.repository.ChatReactionRepository;
+import com.pado.domain.chat.repository.LastReadMessageJdbcRepository;
 import com.pado.domain.chat.repository.LastReadMessageRepository;
 import com.pado.domain.chat.repository.ChatMessageRepository;
 import com.pado.domain.study.entity.Study;
@@ -16,8 +20,8 @@ import com.pado.global.exception.common.BusinessException;
 import com.pado.global.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,9 +38,17 @@ public class ChatServiceImpl implements ChatService {
     private final StudyRepository studyRepository;
     private final StudyMemberRepository studyMemberRepository;
     private final LastReadMessageRepository lastReadRepository;
+    private final LastReadMessageJdbcRepository lastReadJdbcRepository;
     private final RedisChatModalManager modalManager;
+    private final RedisChatUnreadCounter unreadCounter;
+    private final ReadCursorBuffer readCursorBuffer;
+    private final ReadCursorIndex readCursorIndex;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatDeliveryDispatcher deliveryDispatcher;
     private final ChatReactionRepository chatReactionRepository;
+    private final ChatReactionUpdateCoalescer reactionUpdateCoalescer;
+    private final ChatHistoryCache chatHistoryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -59,34 +71,74 @@ public class ChatServiceImpl implements ChatService {
         ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
 
         // 현재 채팅방에 접속하고 있는 멤버 대상으로만 마지막으로 읽은 메세지 id 업데이트
+        // DB 반영은 ReadCursorBuffer가 모아서 일괄 처리 (전송 트랜잭션에서 행 단위 UPDATE 하지 않음)
         Set<Long> onlineUserIds = modalManager.getOpenSocketUserIds(studyId);
-        if (!onlineUserIds.isEmpty()) {
-            // 1. 채팅방에 접속한 유저의 StudyMember 목록을 한 번에 조회
-            List<StudyMember> onlineMembers = studyMemberRepository.findByStudyIdAndUserIdIn(studyId, onlineUserIds);
+        List<Long> onlineMemberIds = onlineUserIds.isEmpty()
+                ? List.of()
+                : studyMemberRepository.findIdsByStudyIdAndUserIdIn(studyId, onlineUserIds);
+        readCursorBuffer.advanceAll(onlineMemberIds, savedMessage.getId());
+        readCursorIndex.advance(studyId, onlineMemberIds, savedMessage.getId());
+
+        // 읽음 커서 인덱스에서 이진 탐색으로 안읽은 멤버 수 계산
+        long unreadMemberCount = readCursorIndex.countUnreadMembers(studyId, savedMessage.getId());
+
+        // 채팅 전송은 커밋 이후 전송 실행기에서 처리
+        ChatMessageResponseDto responseDto = ChatMessageResponseDto.from(savedMessage, 0L, 0L, unreadMemberCount);
+        deliveryDispatcher.send(studyId, "/topic/studies/" + studyId + "/chats", responseDto);
+        eventPublisher.publishEvent(new ChatMessageCreatedEvent(studyId, responseDto));
+
+        // 현재 채팅방에 접속하고 있지 않은 사용자들에게 안읽은 메시지 수 알림은 커밋 이후 알림 실행기에서 처리
+        // (DB/Redis 작업이 있어 채팅 프레임 레인과 분리)
+        deliveryDispatcher.executeNotification(() -> sendUnreadCountToClosedModalUsers(studyId));
+    }
+
+    @Override
+    public ChatMessageListResponseDto getChatMessages(Long studyId, Long cursor, int size, User currentUser) {
+        findAndValidateStudyMember(studyId, currentUser);
 
-            // 2. StudyMember 목록으로 LastReadMessage 목록을 한 번에 조회
-            List<LastReadMessage> lastReadMessages = lastReadRepository.findByStudyMemberIn(onlineMembers);
+        ChatHistoryPage page = findHistoryPage(studyId, cursor, size);
 
-            // 3. DB 업데이트
-            lastReadMessages.forEach(lrm -> lrm.updateLastReadMessageId(savedMessage.getId()));
-        }
+        List<Long> messageIds = page.messages().stream()
+                .map(ChatMessageResponseDto::messageId)
+                .toList();
+
+        // 안읽은 멤버 수는 캐시 여부와 관계없이 읽음 커서 인덱스에서 현재 값으로 계산
+        Map<Long, Long> unreadCounts = readCursorIndex.getUnreadCounts(studyId, messageIds);
 
-        // 스터디 전체 멤버 - 채팅방 접속 중인 멤버 방식으로 계산
-        Long unreadMemberCount = lastReadRepository.countUnreadMembers(studyId, savedMessage.getId());
-        ChatReactionCountDto reactionCount = CountMessageReaction(savedMessage);
+        List<ChatMessageResponseDto> messageDtos = page.messages().stream()
+                .map(dto -> dto.withUnreadMemberCount(unreadCounts.getOrDefault(dto.messageId(), 0L)))
+                .toList();
+
+        Long nextCursor;
 
-        // 채팅 전송
-        ChatMessageResponseDto responseDto = ChatMessageResponseDto.from(savedMessage, reactionCount.likeCount(), reactionCount.dislikeCount(), unreadMemberCount);
-        messagingTemplate.convertAndSend("/topic/studies/" + studyId + "/chats", responseDto);
+        if (page.hasNext() && !messageDtos.isEmpty()) {
+            nextCursor = messageDtos.get(messageDtos.size() - 1).messageId();
+        }
+        else {
+            nextCursor = null;
+        }
 
-        // 현재 채팅방에 접속하고 있지 않은 사용자들에게 안읽은 메시지 수 알림을 비동기 처리
-        sendUnreadCountToClosedModalUsersAsync(studyId);
+        return ChatMessageListResponseDto.of(currentUser.getId(), messageDtos, page.hasNext(), nextCursor);
     }
 
-    @Override
-    public ChatMessageListResponseDto getChatMessages(Long studyId, Long cursor, int size, User currentUser) {
-        findAndValidateStudyMember(studyId, currentUser);
+    // 최신 메시지 구간 조회는 캐시에서 응답하고, 첫 페이지 캐시 미스 시 구간 전체를 DB에서 읽어 캐시에 등록
+    private ChatHistoryPage findHistoryPage(Long studyId, Long cursor, int size) {
+        Optional<ChatHistoryPage> cached = chatHistoryCache.findPage(studyId, cursor, size);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        if (cursor == null && size <= chatHistoryCache.windowSize()) {
+            long version = chatHistoryCache.currentVersion(studyId);
+            ChatHistoryPage window = loadHistoryPage(studyId, null, chatHistoryCache.windowSize());
+            chatHistoryCache.load(studyId, version, window.messages(), !window.hasNext());
+            return window.limit(size);
+        }
+
+        return loadHistoryPage(studyId, cursor, size);
+    }
 
+    private ChatHistoryPage loadHistoryPage(Long studyId, Long cursor, int size) {
         List<ChatMessage> chatMessages = chatMessageRepository.findChatMessagesWithCursor(studyId, cursor, size);
 
         boolean hasNext = chatMessages.size() > size;
@@ -94,12 +146,6 @@ public class ChatServiceImpl implements ChatService {
             chatMessages = chatMessages.subList(0, size);
         }
 
-        List<Long> messageIds = chatMessages.stream()
-                .map(ChatMessage::getId)
-                .toList();
-
-        Map<Long, Long> unreadCounts = lastReadRepository.getUnreadCountsForMessages(studyId, messageIds);
-
         // CHAT 타입 메시지의 ID만 추출 (리액션은 CHAT 타입에만 존재)
         List<Long> chatMessageIds = chatMessages.stream()
                 .filter(msg -> msg.getType() == MessageType.CHAT)
@@ -115,6 +161,7 @@ public class ChatServiceImpl implements ChatService {
                             dto -> dto
                     ));
 
+        // 안읽은 멤버 수는 getChatMessages에서 채움
         List<ChatMessageResponseDto> messageDtos = chatMessages.stream()
                 .map(msg -> {
                     // CHAT 타입일 때만 리액션 카운트 포함, 아니면 null
@@ -124,30 +171,16 @@ public class ChatServiceImpl implements ChatService {
                                 msg,
                                 reactionCount != null ? reactionCount.likeCount() : 0L,
                                 reactionCount != null ? reactionCount.dislikeCount() : 0L,
-                                unreadCounts.getOrDefault(msg.getId(), 0L)
+                                0L
                         );
                     } else {
                         // NOTICE, SCHEDULE 타입은 리액션 카운트 null
-                        return ChatMessageResponseDto.from(
-                                msg,
-                                null,
-                                null,
-                                unreadCounts.getOrDefault(msg.getId(), 0L)
-                        );
+                        return ChatMessageResponseDto.from(msg, null, null, 0L);
                     }
                 })
                 .toList();
 
-        Long nextCursor;
-
-        if (hasNext && !messageDtos.isEmpty()) {
-            nextCursor = messageDtos.get(messageDtos.size() - 1).messageId();
-        }
-        else {
-            nextCursor = null;
-        }
-
-        return ChatMessageListResponseDto.of(currentUser.getId(), messageDtos, hasNext, nextCursor);
+        return new ChatHistoryPage(messageDtos, hasNext);
     }
 
     @Transactional
@@ -175,15 +208,8 @@ public class ChatServiceImpl implements ChatService {
 
         chatReactionRepository.save(chatReaction);
 
-        ChatReactionCountDto reactionCount = CountMessageReaction(message);
-
-        UpdatedChatRoomResponseDto responseDto = new UpdatedChatRoomResponseDto(
-                UpdateType.IMOJI,
-                chatMessageId,
-                reactionCount.likeCount(),
-                reactionCount.dislikeCount()
-        );
-        messagingTemplate.convertAndSend("/topic/studies/" + studyId + "/updates", responseDto);
+        // 리액션 수 집계와 업데이트 프레임 전송은 커밋 이후 모아서 처리
+        eventPublisher.publishEvent(new ChatReactionChangedEvent(studyId, chatMessageId));
     }
 
     @Transactional
@@ -199,15 +225,7 @@ public class ChatServiceImpl implements ChatService {
 
         chatReaction.changeReaction(newReactionType);
 
-        ChatReactionCountDto reactionCount = CountMessageReaction(message);
-
-        UpdatedChatRoomResponseDto responseDto = new UpdatedChatRoomResponseDto(
-                UpdateType.IMOJI,
-                chatMessageId,
-                reactionCount.likeCount(),
-                reactionCount.dislikeCount()
-        );
-        messagingTemplate.convertAndSend("/topic/studies/" + studyId + "/updates", responseDto);
+        eventPublisher.publishEvent(new ChatReactionChangedEvent(studyId, chatMessageId));
     }
 
     @Transactional
@@ -221,15 +239,7 @@ public class ChatServiceImpl implements ChatService {
 
         chatReactionRepository.delete(chatReaction);
 
-        ChatReactionCountDto reactionCount = CountMessageReaction(message);
-
-        UpdatedChatRoomResponseDto responseDto = new UpdatedChatRoomResponseDto(
-                UpdateType.IMOJI,
-                chatMessageId,
-                reactionCount.likeCount(),
-                reactionCount.dislikeCount()
-        );
-        messagingTemplate.convertAndSend("/topic/studies/" + studyId + "/updates", responseDto);
+        eventPublisher.publishEvent(new ChatReactionChangedEvent(studyId, chatMessageId));
     }
 
     @Transactional
@@ -250,13 +260,17 @@ public class ChatServiceImpl implements ChatService {
         chatReactionRepository.deleteAllByChatMessageId(message.getId());
         chatMessageRepository.delete(message);
 
+        // 삭제된 메시지의 대기 중인 리액션 업데이트 제거
+        reactionUpdateCoalescer.discard(studyId, chatMessageId);
+        eventPublisher.publishEvent(new ChatMessageDeletedEvent(studyId, chatMessageId));
+
         UpdatedChatRoomResponseDto responseDto = new UpdatedChatRoomResponseDto(
                 UpdateType.DELETED,
                 chatMessageId,
                 null,
                 null
         );
-        messagingTemplate.convertAndSend("/topic/studies/" + studyId + "/updates", responseDto);
+        deliveryDispatcher.send(studyId, "/topic/studies/" + studyId + "/updates", responseDto);
     }
 
     @Override
@@ -271,7 +285,10 @@ public class ChatServiceImpl implements ChatService {
         // 모달을 킨 유저가 가장 마지막으로 읽었던 메세지 아이디 추출
         LastReadMessage lastReadMessage = lastReadRepository.findByStudyMember(studyMember)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_LAST_READ_CHAT));
-        long lastReadMessageId = lastReadMessage.getLastReadMessageId();
+        long lastReadMessageId = resolveLastReadMessageId(lastReadMessage);
+
+        // 모달을 열면 모든 메시지를 읽은 상태가 되므로 안읽은 메시지 카운터 초기화
+        unreadCounter.reset(studyId, studyMember.getId());
 
         // 현재 채팅방에서 가장 최신 메시지 아이디 추출
         long latestChatMessageId = chatMessageRepository.findTopByStudyIdOrderByIdDesc(studyId)
@@ -286,14 +303,16 @@ public class ChatServiceImpl implements ChatService {
         // 웹소켓으로 갱신되는 메시지와 안읽은 멤버 수 전송
         List<ChatMessage> unreadMessages = chatMessageRepository.findAllByIdGreaterThanAndStudyIdOrderByIdAsc(lastReadMessageId, studyId);
 
-        lastReadMessage.updateLastReadMessageId(latestChatMessageId);
+        // 버퍼 flush와 같은 조건부 UPDATE를 사용해 더 최신 읽음 위치를 덮어쓰지 않음
+        lastReadJdbcRepository.updateLastReadMessageId(studyMember.getId(), latestChatMessageId);
+        readCursorIndex.advance(studyId, List.of(studyMember.getId()), latestChatMessageId);
 
         if (!unreadMessages.isEmpty()) {
             List<Long> unreadMessageIds = unreadMessages.stream()
                     .map(ChatMessage::getId)
                     .toList();
 
-            Map<Long, Long> newUnreadCountsMap = lastReadRepository.getUnreadCountsForMessages(studyId, unreadMessageIds);
+            Map<Long, Long> newUnreadCountsMap = readCursorIndex.getUnreadCounts(studyId, unreadMessageIds);
 
             List<UpdatedMessageUnreadCountDto> updatedMessages = unreadMessages.stream()
                     .map(message -> new UpdatedMessageUnreadCountDto(
@@ -302,7 +321,8 @@ public class ChatServiceImpl implements ChatService {
                     ))
                     .collect(Collectors.toList());
 
-            messagingTemplate.convertAndSend(
+            deliveryDispatcher.send(
+                    studyId,
                     "/topic/studies/" + studyId + "/unread",
                     new UnreadMessageUpdateResponseDto(updatedMessages)
             );
@@ -314,6 +334,10 @@ public class ChatServiceImpl implements ChatService {
     public void closeChatModal(Long studyId, User currentUser) {
 
         modalManager.closeSocket(studyId, currentUser.getId());
+
+        // 모달을 닫은 멤버의 버퍼 값만 DB에 반영
+        studyMemberRepository.findByStudyIdAndUserId(studyId, currentUser.getId())
+                .ifPresent(studyMember -> readCursorBuffer.flush(studyMember.getId()));
     }
 
     @Override
@@ -329,23 +353,18 @@ public class ChatServiceImpl implements ChatService {
         LastReadMessage lastReadMessage = lastReadRepository.findByStudyMember(member)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_LAST_READ_CHAT));
 
-        long unreadCount = chatMessageRepository.countByIdGreaterThanAndStudyId(lastReadMessage.getLastReadMessageId(), studyId);
-        return new UnreadCountResponseDto(unreadCount);
-    }
-
-    // 모달을 열지 않은 사용자들에게 안읽은 메시지 수 전송을 비동기 처리
-    @Async
-    public void sendUnreadCountToClosedModalUsersAsync(Long studyId){
+        long lastReadMessageId = resolveLastReadMessageId(lastReadMessage);
 
-        sendUnreadCountToClosedModalUsers(studyId);
+        long unreadCount = chatMessageRepository.countByIdGreaterThanAndStudyId(lastReadMessageId, studyId);
+        return new UnreadCountResponseDto(unreadCount);
     }
 
     // 모달을 열지 않은 사용자들에게 안읽은 메시지 수 전송
     private void sendUnreadCountToClosedModalUsers(Long studyId) {
-        List<StudyMember> allMembers = studyMemberRepository.findByStudyId(studyId);
+        List<StudyMember> allMembers = studyMemberRepository.findByStudyIdFetchUser(studyId);
 
         // 채팅방에 접속한 유저 목록을 한 번에 조회
-        Set<Long> onlineUserIds = modalManager.getOpenSocketUserIds(studyId); // 메서드 내부에서 null을 반환하지 않도록 처리해야 함
+        Set<Long> onlineUserIds = modalManager.getOpenSocketUserIds(studyId);
 
         // 채팅방에 미접속 상태인 멤버들을 필터링
         List<StudyMember> offlineMembers = allMembers.stream()
@@ -357,25 +376,21 @@ public class ChatServiceImpl implements ChatService {
             return;
         }
 
-        // 미접속 멤버들의 LastReadMessage 정보를 <studyMemberId, LastReadMessageId> 형식으로 DB에서 한 번에 조회
-        Map<Long, Long> lastReadMessageIdMap = lastReadRepository.findByStudyMemberIn(offlineMembers)
-                .stream()
-                .collect(Collectors.toMap(
-                        lrm -> lrm.getStudyMember().getId(),
-                        LastReadMessage::getLastReadMessageId
-                ));
+        // 미접속 멤버들의 안읽은 메시지 수를 Redis 카운터에서 1씩 증가시키고 <studyMemberId, unreadCount> 형식으로 받음
+        List<Long> offlineMemberIds = offlineMembers.stream()
+                .map(StudyMember::getId)
+                .toList();
+        Map<Long, Long> unreadCountMap = unreadCounter.incrementAll(studyId, offlineMemberIds);
 
-        // 5. 미접속 멤버들을 순회하며 알림 전송 로직 수행
+        // 미접속 멤버들을 순회하며 알림 전송 (DB 조회 없음)
         offlineMembers.forEach(member -> {
-            User user = member.getUser();
-            Long lastReadId = lastReadMessageIdMap.getOrDefault(member.getId(), 0L);
-            long unreadCount = chatMessageRepository.countByIdGreaterThanAndStudyId(lastReadId, studyId);
+            long unreadCount = unreadCountMap.getOrDefault(member.getId(), 0L);
 
             if (unreadCount > 0) {
                 UnreadCountResponseDto response = new UnreadCountResponseDto(unreadCount);
 
                 messagingTemplate.convertAndSendToUser(
-                        user.getEmail(),
+                        member.getUser().getEmail(),
                         "/queue/studies/" + studyId + "/unread",
                         response
                 );
@@ -404,14 +419,11 @@ public class ChatServiceImpl implements ChatService {
         return member;
     }
 
-    private ChatReactionCountDto CountMessageReaction(ChatMessage message) {
-
-        if (message.getId() == null) {
-            return new ChatReactionCountDto(null, 0L, 0L);
-        }
-
-        List<ChatReactionCountDto> results = chatReactionRepository.findReactionCountsByMessageIdIn(List.of(message.getId()));
-
-        return results.isEmpty() ? new ChatReactionCountDto(message.getId(), 0L, 0L) : results.getFirst();
+    // 아직 DB에 반영되지 않은 값이 버퍼에 있다면 더 최신 값을 사용
+    private long resolveLastReadMessageId(LastReadMessage lastReadMessage) {
+        long persistedId = lastReadMessage.getLastReadMessageId();
+        return readCursorBuffer.pendingOf(lastReadMessage.getStudyMember().getId())
+                .map(pendingId -> Math.max(pendingId, persistedId))
+                .orElse(persistedId);
     }
 }
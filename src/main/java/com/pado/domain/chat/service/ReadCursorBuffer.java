@@ -0,0 +1,104 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.repository.LastReadMessageJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅 전송 시 접속 중인 멤버들의 마지막으로 읽은 메시지 id를 메모리에 모아두었다가
+// 주기적으로(또는 모달을 닫을 때) 한 번의 JDBC 배치로 DB에 반영하는 write-behind 버퍼
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadCursorBuffer {
+
+    private final LastReadMessageJdbcRepository lastReadJdbcRepository;
+
+    // <studyMemberId, 아직 DB에 반영되지 않은 lastReadMessageId>
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // 같은 멤버에 대해 여러 번 갱신되면 가장 큰 메시지 id만 남김
+    // 트랜잭션 안이면 커밋 이후에 버퍼에 넣어, 롤백된 메시지 id가 flush 되지 않게 함
+    public void advanceAll(Collection<Long> studyMemberIds, Long messageId) {
+        if (studyMemberIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            merge(studyMemberIds, messageId);
+            return;
+        }
+
+        List<Long> memberIds = List.copyOf(studyMemberIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                merge(memberIds, messageId);
+            }
+        });
+    }
+
+    // DB에 아직 반영되지 않은 해당 멤버의 lastReadMessageId
+    public Optional<Long> pendingOf(Long studyMemberId) {
+        return Optional.ofNullable(pending.get(studyMemberId));
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-cursor.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 꺼내는 도중 들어온 갱신은 다음 flush에서 반영
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long memberId : pending.keySet()) {
+            Long messageId = pending.remove(memberId);
+            if (messageId != null) {
+                drained.put(memberId, messageId);
+            }
+        }
+
+        try {
+            lastReadJdbcRepository.batchUpdateLastReadMessageIds(drained);
+        } catch (DataAccessException e) {
+            // 실패한 값은 다시 버퍼에 넣어 다음 주기에 재시도
+            drained.forEach((memberId, messageId) -> pending.merge(memberId, messageId, Math::max));
+            log.warn("마지막으로 읽은 메시지 일괄 반영 실패: size={}, message={}", drained.size(), e.getMessage());
+        }
+    }
+
+    // 모달을 닫은 멤버 한 명의 값만 바로 반영 (다른 멤버 값은 주기적인 flush에 맡김)
+    public void flush(Long studyMemberId) {
+        Long messageId = pending.remove(studyMemberId);
+        if (messageId == null) {
+            return;
+        }
+
+        try {
+            lastReadJdbcRepository.batchUpdateLastReadMessageIds(Map.of(studyMemberId, messageId));
+        } catch (DataAccessException e) {
+            pending.merge(studyMemberId, messageId, Math::max);
+            log.warn("마지막으로 읽은 메시지 반영 실패: studyMemberId={}, message={}", studyMemberId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void merge(Collection<Long> studyMemberIds, Long messageId) {
+        studyMemberIds.forEach(memberId -> pending.merge(memberId, messageId, Math::max));
+    }
+}
@@ -0,0 +1,114 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.repository.LastReadMessageRepository;
+import com.pado.domain.chat.repository.dto.MemberReadCursorDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 스터디별 읽음 커서 인덱스 캐시
+// 메시지별 안읽은 멤버 수를 쿼리 없이 이진 탐색으로 계산하고, 커서 이동 시 인덱스를 갱신
+@Component
+@RequiredArgsConstructor
+public class ReadCursorIndex {
+
+    private final LastReadMessageRepository lastReadRepository;
+    private final ReadCursorBuffer readCursorBuffer;
+
+    // 다른 서버에서 이동한 커서, 멤버 변경 등을 반영하기 위해 일정 시간이 지나면 DB에서 다시 로딩
+    @Value("${chat.read-cursor.index-ttl-ms:60000}")
+    private long indexTtlMillis;
+
+    private final Map<Long, StudyReadCursors> indexes = new ConcurrentHashMap<>();
+
+    public long countUnreadMembers(Long studyId, Long messageId) {
+        return getOrLoad(studyId).countUnreadMembers(messageId);
+    }
+
+    public Map<Long, Long> getUnreadCounts(Long studyId, List<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return Map.of();
+        }
+        return getOrLoad(studyId).countUnreadMembers(messageIds);
+    }
+
+    // 로딩되지 않은 스터디는 먼저 로딩한 뒤 반영
+    // 버퍼 반영(ReadCursorBuffer.advanceAll)은 커밋 이후라 DB + 버퍼 값만으로는 이번 이동이 빠지기 때문
+    public void advance(Long studyId, Collection<Long> studyMemberIds, Long messageId) {
+        if (studyMemberIds.isEmpty()) {
+            return;
+        }
+
+        getOrLoad(studyId).advance(studyMemberIds, messageId);
+    }
+
+    // 멤버 가입/탈퇴 등 인덱스 대상이 바뀌면 제거
+    // 트랜잭션 안이면 커밋 이후에 제거해, 그 사이 다시 로딩된 인덱스가 커밋 전 멤버 구성을 TTL 동안 들고 있지 않게 함
+    public void invalidate(Long studyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexes.remove(studyId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indexes.remove(studyId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-cursor.index-ttl-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        indexes.values().removeIf(cursors -> isExpired(cursors, now));
+    }
+
+    // DB 조회는 맵 잠금 밖에서 하고, 다른 스레드가 먼저 등록한 인덱스가 있으면 그 값을 사용
+    private StudyReadCursors getOrLoad(Long studyId) {
+        long now = System.currentTimeMillis();
+        StudyReadCursors cached = indexes.get(studyId);
+        if (cached != null && !isExpired(cached, now)) {
+            return cached;
+        }
+
+        StudyReadCursors loaded = load(studyId, now);
+        if (cached == null) {
+            StudyReadCursors existing = indexes.putIfAbsent(studyId, loaded);
+            return existing != null ? existing : loaded;
+        }
+        if (indexes.replace(studyId, cached, loaded)) {
+            return loaded;
+        }
+        StudyReadCursors existing = indexes.putIfAbsent(studyId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private StudyReadCursors load(Long studyId, long now) {
+        List<MemberReadCursorDto> persisted = lastReadRepository.findReadCursorsByStudyId(studyId);
+
+        // 아직 DB에 반영되지 않은 커서가 있다면 더 최신 값을 사용
+        Map<Long, Long> cursorByMemberId = new HashMap<>();
+        persisted.forEach(dto -> cursorByMemberId.put(
+                dto.studyMemberId(),
+                readCursorBuffer.pendingOf(dto.studyMemberId())
+                        .map(pendingId -> Math.max(pendingId, dto.lastReadMessageId()))
+                        .orElse(dto.lastReadMessageId())
+        ));
+
+        return new StudyReadCursors(cursorByMemberId, now);
+    }
+
+    private boolean isExpired(StudyReadCursors cursors, long now) {
+        return now - cursors.loadedAt() > indexTtlMillis;
+    }
+}
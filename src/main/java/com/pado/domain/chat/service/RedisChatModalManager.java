@@ -1,14 +1,9 @@
 package com.pado.domain.chat.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -22,61 +17,66 @@ public class RedisChatModalManager {
     private static final String MODAL_KEY_PREFIX = "chat:modal:";
     private static final long MODAL_TTL = 300; // 5분 (초 단위)
 
+    // 스터디별 접속자는 "chat:modal:{studyId}" Sorted Set 하나로 관리
+    // member = userId, score = 만료 시각(epoch millis)
+    // 만료된 멤버는 조회 시점에 지연 삭제하므로 전체 키 공간을 SCAN 하지 않음
 
     // 채팅 모달 열기
-    // Redis에 "chat:modal:{studyId}:{userId}" = "true" 저장 (TTL 5분)
+    // Sorted Set에 userId를 만료 시각 score로 추가 (TTL 5분)
     public void openSocket(Long studyId, Long userId) {
-        String key = getSocketKey(studyId, userId);
-        redisTemplate.opsForValue().set(key, "true", MODAL_TTL, TimeUnit.SECONDS);
+        String key = getPresenceKey(studyId);
+        redisTemplate.opsForZSet().add(key, String.valueOf(userId), nextExpireAt());
+        redisTemplate.expire(key, MODAL_TTL, TimeUnit.SECONDS);
     }
 
 
     // 채팅 모달 닫기
-    // Redis에서 키 삭제
+    // Sorted Set에서 userId 제거
     public void closeSocket(Long studyId, Long userId) {
-        String key = getSocketKey(studyId, userId);
-        redisTemplate.delete(key);
+        redisTemplate.opsForZSet().remove(getPresenceKey(studyId), String.valueOf(userId));
     }
 
 
     // 모달이 열려있는지 확인
     public boolean isSocketOpen(Long studyId, Long userId) {
-        String key = getSocketKey(studyId, userId);
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        Double expireAt = redisTemplate.opsForZSet().score(getPresenceKey(studyId), String.valueOf(userId));
+        return expireAt != null && expireAt > System.currentTimeMillis();
     }
 
     // 모달이 열려있는 상태면 주기적으로 TTL 갱신
+    // 이미 닫힌(또는 만료된) 모달은 다시 열지 않음
     public void refreshSocket(Long studyId, Long userId) {
-        String key = getSocketKey(studyId, userId);
+        if (!isSocketOpen(studyId, userId)) {
+            return;
+        }
+
+        String key = getPresenceKey(studyId);
+        redisTemplate.opsForZSet().add(key, String.valueOf(userId), nextExpireAt());
         redisTemplate.expire(key, MODAL_TTL, TimeUnit.SECONDS);
     }
 
 
     // 특정 스터디에서 모달이 열린 모든 사용자 ID 조회
+    // 만료된 멤버를 먼저 정리한 뒤 남은 멤버만 반환 (해당 스터디 접속자 수에 비례)
     public Set<Long> getOpenSocketUserIds(Long studyId) {
-        String pattern = MODAL_KEY_PREFIX + studyId + ":*";
-        Set<String> keys = new HashSet<>();
+        String key = getPresenceKey(studyId);
+        redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
 
-        redisTemplate.execute((RedisConnection connection) -> {
-            try (Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions().match(pattern).count(1000).build())) {
-                cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
-            }
-            return null;
-        });
-
-        if (keys.isEmpty()) {
+        Set<String> members = redisTemplate.opsForZSet().range(key, 0, -1);
+        if (members == null || members.isEmpty()) {
             return Set.of();
         }
 
-        return keys.stream()
-                .map(key -> {
-                    String[] parts = key.split(":");
-                    return Long.parseLong(parts[parts.length - 1]);
-                })
+        return members.stream()
+                .map(Long::parseLong)
                 .collect(Collectors.toSet());
     }
 
-    private String getSocketKey(Long studyId, Long userId) {
-        return MODAL_KEY_PREFIX + studyId + ":" + userId;
+    private double nextExpireAt() {
+        return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(MODAL_TTL);
+    }
+
+    private String getPresenceKey(Long studyId) {
+        return MODAL_KEY_PREFIX + studyId;
     }
-}
\ No newline at end of file
+}
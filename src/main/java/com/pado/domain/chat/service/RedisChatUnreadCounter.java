@@ -0,0 +1,133 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.repository.LastReadMessageRepository;
+import com.pado.domain.chat.repository.dto.MemberUnreadCountDto;
+import com.pado.domain.study.entity.StudyMember;
+import com.pado.domain.study.repository.StudyMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisChatUnreadCounter {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LastReadMessageRepository lastReadRepository;
+    private final StudyMemberRepository studyMemberRepository;
+    private final RedisChatModalManager modalManager;
+    private final ReadCursorBuffer readCursorBuffer;
+
+    private static final String UNREAD_KEY_PREFIX = "chat:unread:";
+    private static final String RECONCILE_LOCK_KEY = "chat:unread:reconcile:lock";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+
+    // 스터디별 안읽은 메시지 수는 "chat:unread:{studyId}" Hash 하나로 관리
+    // field = studyMemberId, value = 안읽은 메시지 수
+
+    // 미접속 멤버들의 안읽은 메시지 수를 1씩 증가시키고 증가된 값을 <studyMemberId, unreadCount> 형식으로 반환
+    public Map<Long, Long> incrementAll(Long studyId, List<Long> studyMemberIds) {
+        if (studyMemberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        byte[] key = getUnreadKey(studyId).getBytes(StandardCharsets.UTF_8);
+        List<Object> results = redisTemplate.executePipelined((RedisConnection connection) -> {
+            studyMemberIds.forEach(memberId ->
+                    connection.hashCommands().hIncrBy(key, toBytes(memberId), 1L));
+            return null;
+        });
+
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        for (int i = 0; i < studyMemberIds.size(); i++) {
+            unreadCounts.put(studyMemberIds.get(i), (Long) results.get(i));
+        }
+        return unreadCounts;
+    }
+
+    // 알림 전송 없이 현재 채팅방에 접속하지 않은 멤버들의 카운터만 증가 (시스템 메시지용)
+    public void incrementForOfflineMembers(Long studyId) {
+        Set<Long> onlineUserIds = modalManager.getOpenSocketUserIds(studyId);
+        List<Long> offlineMemberIds = studyMemberRepository.findByStudyIdFetchUser(studyId).stream()
+                .filter(member -> !onlineUserIds.contains(member.getUser().getId()))
+                .map(StudyMember::getId)
+                .toList();
+
+        incrementAll(studyId, offlineMemberIds);
+    }
+
+    // 모달을 열어 모든 메시지를 읽은 경우 0으로 초기화
+    public void reset(Long studyId, Long studyMemberId) {
+        redisTemplate.opsForHash().put(getUnreadKey(studyId), String.valueOf(studyMemberId), "0");
+    }
+
+    // 서버 시작 시 LastReadMessage 기준으로 비어 있는 카운터만 다시 채움 (Redis 초기화/유실 대비)
+    // 여러 노드가 함께 재시작해도 한 노드만 집계하도록 잠금을 잡고,
+    // 이미 있는 필드는 다른 노드가 올린 최신 값이므로 HSETNX로 덮어쓰지 않음
+    // 버퍼 flush가 쓰기 작업이라 읽기 전용 트랜잭션으로 묶지 않음
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        try {
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(RECONCILE_LOCK_KEY, "1", RECONCILE_LOCK_TTL);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("다른 노드가 안읽은 메시지 카운터를 동기화 중이어서 건너뜀");
+                return;
+            }
+        } catch (DataAccessException e) {
+            // Redis에 연결할 수 없어도 애플리케이션 기동은 막지 않음
+            log.warn("안읽은 메시지 카운터 동기화 실패: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            // 이 노드 버퍼에 남은 읽음 위치를 먼저 DB에 반영해 집계가 뒤처지지 않게 함
+            readCursorBuffer.flush();
+            List<MemberUnreadCountDto> counts = lastReadRepository.findAllMemberUnreadCounts();
+
+            redisTemplate.executePipelined((RedisConnection connection) -> {
+                counts.forEach(dto -> connection.hashCommands().hSetNX(
+                        getUnreadKey(dto.studyId()).getBytes(StandardCharsets.UTF_8),
+                        toBytes(dto.studyMemberId()),
+                        toBytes(dto.unreadCount())
+                ));
+                return null;
+            });
+            log.info("안읽은 메시지 카운터 동기화 완료: members={}", counts.size());
+        } catch (DataAccessException e) {
+            log.warn("안읽은 메시지 카운터 동기화 실패: {}", e.getMessage());
+        } finally {
+            releaseReconcileLock();
+        }
+    }
+
+    private void releaseReconcileLock() {
+        try {
+            redisTemplate.delete(RECONCILE_LOCK_KEY);
+        } catch (DataAccessException e) {
+            // 해제하지 못해도 TTL이 지나면 풀림
+            log.warn("안읽은 메시지 카운터 동기화 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private byte[] toBytes(Long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String getUnreadKey(Long studyId) {
+        return UNREAD_KEY_PREFIX + studyId;
+    }
+}
@@ -0,0 +1,79 @@
+package com.pado.domain.chat.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// 한 스터디 멤버들의 마지막으로 읽은 메시지 id를 정렬된 long[]로 보관하는 인덱스
+// "메시지 X를 읽지 않은 멤버 수" = X보다 작은 커서의 개수 → 이진 탐색으로 계산
+final class StudyReadCursors {
+
+    private final Map<Long, Long> cursorByMemberId;
+    private final long loadedAt;
+    private long[] sortedCursors;
+    private boolean dirty;
+
+    StudyReadCursors(Map<Long, Long> cursorByMemberId, long loadedAt) {
+        this.cursorByMemberId = new HashMap<>(cursorByMemberId);
+        this.loadedAt = loadedAt;
+        this.dirty = true;
+    }
+
+    long loadedAt() {
+        return loadedAt;
+    }
+
+    // 커서는 앞으로만 이동 (인덱스에 없는 멤버는 무시)
+    synchronized void advance(Collection<Long> studyMemberIds, long messageId) {
+        for (Long memberId : studyMemberIds) {
+            Long current = cursorByMemberId.get(memberId);
+            if (current != null && current < messageId) {
+                cursorByMemberId.put(memberId, messageId);
+                dirty = true;
+            }
+        }
+    }
+
+    synchronized long countUnreadMembers(long messageId) {
+        return lowerBound(sorted(), messageId);
+    }
+
+    synchronized Map<Long, Long> countUnreadMembers(Collection<Long> messageIds) {
+        long[] cursors = sorted();
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        for (Long messageId : messageIds) {
+            unreadCounts.put(messageId, (long) lowerBound(cursors, messageId));
+        }
+        return unreadCounts;
+    }
+
+    private long[] sorted() {
+        if (dirty) {
+            long[] cursors = new long[cursorByMemberId.size()];
+            int i = 0;
+            for (Long cursor : cursorByMemberId.values()) {
+                cursors[i++] = cursor;
+            }
+            Arrays.sort(cursors);
+            sortedCursors = cursors;
+            dirty = false;
+        }
+        return sortedCursors;
+    }
+
+    // messageId 미만인 커서의 개수 (중복 값이 있어도 첫 위치를 반환)
+    private static int lowerBound(long[] sorted, long messageId) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < messageId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,34 @@
+package com.pado.domain.material.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 파일 내용 해시별로 한 번만 추출해 두고, 같은 내용의 File 들이 함께 참조하는 텍스트
+@Getter
+@Entity
+@Table(name = "extracted_text")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExtractedText {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, unique = true, length = 100)
+    private String contentHash;
+
+    @Column(name = "mime_type", nullable = false)
+    private String mimeType;
+
+    @Lob
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    public ExtractedText(String contentHash, String mimeType, String content) {
+        this.contentHash = contentHash;
+        this.mimeType = mimeType;
+        this.content = content;
+    }
+}
@@ -32,9 +32,9 @@ public class File {
     @Column(name = "processing_status")
     private ProcessingStatus processingStatus;
 
-    @Lob
-    @Column(name = "extracted_text", columnDefinition = "TEXT")
-    private String extractedText;
+    // 추출된 텍스트는 ExtractedText 에 내용 해시 기준으로 한 번만 저장
+    @Column(name = "content_hash", length = 100)
+    private String contentHash;
 
     // Material 생성 이후 setter를 통해 연관관계를 지어줘야 함
     @Setter
@@ -47,14 +47,19 @@ public class File {
         this.fileKey = fileKey;
         this.size = size;
         this.fileType = fileType;
+        this.processingStatus = ProcessingStatus.PENDING;
     }
 
-    public void markAsCompleted(String extractedText, String detectedMimeType) {
-        this.extractedText = extractedText;
+    public void markAsCompleted(String contentHash, String detectedMimeType) {
+        this.contentHash = contentHash;
         this.fileType = detectedMimeType;
         this.processingStatus = ProcessingStatus.COMPLETED;
     }
 
+    public void markAsProcessing() {
+        this.processingStatus = ProcessingStatus.PROCESSING;
+    }
+
     public void markAsFailed() {
         this.processingStatus = ProcessingStatus.FAILED;
     }
@@ -1,5 +1,5 @@
 package com.pado.domain.material.entity;
 
 public enum ProcessingStatus {
-    PENDING, COMPLETED, FAILED
+    PENDING, PROCESSING, COMPLETED, FAILED
 }
\ No newline at end of file
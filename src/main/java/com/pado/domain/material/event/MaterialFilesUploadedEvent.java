@@ -0,0 +1,7 @@
+package com.pado.domain.material.event;
+
+import java.util.List;
+
+public record MaterialFilesUploadedEvent(
+        List<Long> fileIds
+) {}
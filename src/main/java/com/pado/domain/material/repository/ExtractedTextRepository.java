@@ -0,0 +1,13 @@
+package com.pado.domain.material.repository;
+
+import com.pado.domain.material.entity.ExtractedText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ExtractedTextRepository extends JpaRepository<ExtractedText, Long> {
+
+    Optional<ExtractedText> findByContentHash(String contentHash);
+}
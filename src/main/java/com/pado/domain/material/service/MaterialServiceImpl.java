@@ -7,6 +7,7 @@ import com.pado.domain.material.entity.File;
 import com.pado.domain.material.entity.Material;
 import com.pado.domain.material.entity.MaterialCategory;
 import com.pado.domain.material.event.MaterialDeletedEvent;
+import com.pado.domain.material.event.MaterialFilesUploadedEvent;
 import com.pado.domain.material.event.NoticeCreatedEvent;
 import com.pado.domain.material.repository.FileRepository;
 import com.pado.domain.material.repository.MaterialRepository;
@@ -61,7 +62,10 @@ public class MaterialServiceImpl implements MaterialService {
             List<File> fileEntities = request.files().stream()
                     .map(fileDto -> createFileEntity(fileDto, material))
                     .collect((Collectors.toList()));
-            fileRepository.saveAll(fileEntities);
+            List<File> savedFiles = fileRepository.saveAll(fileEntities);
+
+            // 커밋 이후 백그라운드에서 텍스트를 미리 추출하도록 이벤트 발생
+            publishFilesUploadedEvent(savedFiles);
         }
 
         // 공지 생성 시 채팅으로 알림을 보내기 위해 이벤트 발생
@@ -245,7 +249,17 @@ public class MaterialServiceImpl implements MaterialService {
 
         // 추가 실행
         if (!newFiles.isEmpty()) {
-            fileRepository.saveAll(newFiles);
+            List<File> savedFiles = fileRepository.saveAll(newFiles);
+            publishFilesUploadedEvent(savedFiles);
+        }
+    }
+
+    private void publishFilesUploadedEvent(List<File> files) {
+        List<Long> fileIds = files.stream()
+                .map(File::getId)
+                .toList();
+        if (!fileIds.isEmpty()) {
+            eventPublisher.publishEvent(new MaterialFilesUploadedEvent(fileIds));
         }
     }
 
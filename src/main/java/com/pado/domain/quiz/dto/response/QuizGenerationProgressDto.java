@@ -0,0 +1,34 @@
+package com.pado.domain.quiz.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "퀴즈 생성 진행 상황 DTO (/topic/studies/{studyId}/quizzes 로 전송)")
+public record QuizGenerationProgressDto(
+        @JsonProperty("quiz_id")
+        @Schema(description = "퀴즈 ID", example = "1")
+        Long quizId,
+
+        @Schema(description = "진행 단계", example = "QUESTION_GENERATED")
+        Stage stage,
+
+        @JsonProperty("completed_questions")
+        @Schema(description = "준비된 문제 수", example = "3")
+        int completedQuestions,
+
+        @JsonProperty("total_questions")
+        @Schema(description = "생성할 전체 문제 수 (아직 정해지지 않았으면 0)", example = "10")
+        int totalQuestions
+) {
+
+    public enum Stage {
+        // 자료 텍스트 추출이 끝나고 생성할 문제 수가 정해짐
+        EXTRACTED,
+        // 문제가 k/n 개 준비됨
+        QUESTION_GENERATED,
+        // 퀴즈가 저장되어 ACTIVE 상태가 됨
+        COMPLETED,
+        // 퀴즈가 FAILED 상태가 됨
+        FAILED
+    }
+}
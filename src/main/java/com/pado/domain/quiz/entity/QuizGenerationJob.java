@@ -0,0 +1,97 @@
+package com.pado.domain.quiz.entity;
+
+import com.pado.domain.basetime.AuditingEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 퀴즈 생성 작업 큐의 한 항목 (퀴즈당 하나, 재생성 시 같은 행을 다시 대기 상태로 돌림)
+// 작업을 가져간 노드는 leaseExpiresAt 까지 소유하며, 주기적으로 연장(heartbeat)하지 못하면 다른 노드가 다시 가져감
+@Getter
+@Entity
+@Table(name = "quiz_generation_job")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizGenerationJob extends AuditingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "quiz_id", nullable = false, unique = true)
+    private Long quizId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private QuizGenerationJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public static QuizGenerationJob queued(Long quizId, LocalDateTime now) {
+        QuizGenerationJob job = new QuizGenerationJob();
+        job.quizId = quizId;
+        job.requeue(now);
+        return job;
+    }
+
+    public boolean isActive() {
+        return status == QuizGenerationJobStatus.QUEUED || status == QuizGenerationJobStatus.RUNNING;
+    }
+
+    public boolean isOwnedBy(String owner) {
+        return status == QuizGenerationJobStatus.RUNNING && owner.equals(leaseOwner);
+    }
+
+    // 재생성 요청: 시도 횟수를 초기화하고 바로 실행 가능 상태로 변경
+    public void requeue(LocalDateTime now) {
+        this.status = QuizGenerationJobStatus.QUEUED;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.lastError = null;
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt, String error) {
+        this.status = QuizGenerationJobStatus.QUEUED;
+        this.nextAttemptAt = nextAttemptAt;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.lastError = truncate(error);
+    }
+
+    public void succeed() {
+        this.status = QuizGenerationJobStatus.SUCCEEDED;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
+
+    public void fail(String error) {
+        this.status = QuizGenerationJobStatus.FAILED;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.lastError = truncate(error);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= 500) {
+            return error;
+        }
+        return error.substring(0, 500);
+    }
+}
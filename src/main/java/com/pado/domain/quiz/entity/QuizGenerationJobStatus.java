@@ -0,0 +1,5 @@
+package com.pado.domain.quiz.entity;
+
+public enum QuizGenerationJobStatus {
+    QUEUED, RUNNING, SUCCEEDED, FAILED
+}
@@ -3,7 +3,9 @@ package com.pado.domain.quiz.event;
 import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
 import com.pado.domain.chat.entity.ChatMessage;
 import com.pado.domain.chat.entity.MessageType;
+import com.pado.domain.chat.event.ChatMessageCreatedEvent;
 import com.pado.domain.chat.repository.ChatMessageRepository;
+import com.pado.domain.chat.service.RedisChatUnreadCounter;
 import com.pado.domain.study.entity.Study;
 import com.pado.domain.study.repository.StudyRepository;
 import com.pado.global.exception.common.BusinessException;
@@ -11,6 +13,7 @@ import com.pado.global.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -31,6 +34,8 @@ public class QuizNotificationListener {
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatMessageRepository chatMessageRepository;
     private final StudyRepository studyRepository;
+    private final RedisChatUnreadCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Async
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -65,6 +70,16 @@ public class QuizNotificationListener {
         );
 
         messagingTemplate.convertAndSend("/topic/studies/" + studyId + "/chats", responseDto);
+
+        // 시스템 메시지도 안읽은 메시지에 포함되므로 미접속 멤버의 카운터 증가
+        unreadCounter.incrementForOfflineMembers(studyId);
+
+        // 시스템 메시지는 리액션이 없으므로 캐시에는 리액션 카운트 없이 저장
+        eventPublisher.publishEvent(new ChatMessageCreatedEvent(
+                studyId,
+                ChatMessageResponseDto.from(savedMessage, null, null, 0L)
+        ));
+
         log.info("{} 알림 메시지 전송 완료: studyId={}, link={}", type.name(), studyId, link);
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.pado.domain.quiz.repository;
+
+import com.pado.domain.quiz.entity.QuizGenerationJobStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+// 작업 행 최초 등록만 JDBC 로 수행
+// JPA 리포지토리에서 unique 제약 위반이 나면 호출자의 트랜잭션까지 rollback-only 가 되므로,
+// 여기서 위반을 잡아 동시 등록을 "이미 등록됨"으로 처리하고 트랜잭션은 그대로 이어감
+@Repository
+@RequiredArgsConstructor
+public class QuizGenerationJobJdbcRepository {
+
+    private static final String INSERT_QUEUED_SQL = """
+            insert into quiz_generation_job (quiz_id, status, attempts, next_attempt_at, created_at, updated_at)
+            values (?, ?, 0, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 다른 요청이 같은 퀴즈의 작업을 먼저 등록했으면 false
+    public boolean insertQueued(Long quizId, LocalDateTime now) {
+        try {
+            jdbcTemplate.update(INSERT_QUEUED_SQL, quizId, QuizGenerationJobStatus.QUEUED.name(), now, now, now);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.pado.domain.quiz.repository;
+
+import com.pado.domain.quiz.entity.QuizGenerationJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface QuizGenerationJobRepository extends JpaRepository<QuizGenerationJob, Long> {
+
+    Optional<QuizGenerationJob> findByQuizId(Long quizId);
+
+    // 실행 시각이 된 대기 작업과, 시도 횟수가 남았는데 임대가 만료된(소유 노드가 죽은) 실행 중 작업
+    @Query("""
+            select j from QuizGenerationJob j
+            where (j.status = com.pado.domain.quiz.entity.QuizGenerationJobStatus.QUEUED and j.nextAttemptAt <= :now)
+               or (j.status = com.pado.domain.quiz.entity.QuizGenerationJobStatus.RUNNING
+                   and j.leaseExpiresAt < :now and j.attempts < :maxAttempts)
+            order by j.nextAttemptAt
+            """)
+    List<QuizGenerationJob> findClaimable(@Param("now") LocalDateTime now,
+                                          @Param("maxAttempts") int maxAttempts,
+                                          Pageable pageable);
+
+    // 조회 이후 다른 노드가 먼저 가져갔으면 0 을 반환 (조건부 UPDATE 로 한 노드만 소유)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update QuizGenerationJob j
+            set j.status = com.pado.domain.quiz.entity.QuizGenerationJobStatus.RUNNING,
+                j.leaseOwner = :owner,
+                j.leaseExpiresAt = :leaseExpiresAt,
+                j.attempts = j.attempts + 1
+            where j.id = :id
+              and ((j.status = com.pado.domain.quiz.entity.QuizGenerationJobStatus.QUEUED and j.nextAttemptAt <= :now)
+                or (j.status = com.pado.domain.quiz.entity.QuizGenerationJobStatus.RUNNING and j.leaseExpiresAt < :now))
+            """)
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+              @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update QuizGenerationJob j
+            set j.leaseExpiresAt = :leaseExpiresAt
+            where j.leaseOwner = :owner
+              and j.status = com.pado.domain.quiz.entity.QuizGenerationJobStatus.RUNNING
+              and j.quizId in :quizIds
+            """)
+    int extendLeases(@Param("owner") String owner,
+                     @Param("quizIds") Collection<Long> quizIds,
+                     @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    // 임대가 만료됐지만 더 이상 시도할 수 없는 작업
+    @Query("""
+            select j from QuizGenerationJob j
+            where j.status = com.pado.domain.quiz.entity.QuizGenerationJobStatus.RUNNING
+              and j.leaseExpiresAt < :now and j.attempts >= :maxAttempts
+            """)
+    List<QuizGenerationJob> findExhausted(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+
+    // GENERATING 상태인데 대기/실행 중인 작업이 없는 퀴즈 (작업 큐 도입 전 생성 요청, 등록 직전 종료 등)
+    @Query("""
+            select q.id from Quiz q
+            where q.status = com.pado.domain.quiz.entity.QuizStatus.GENERATING
+              and not exists (
+                  select j.id from QuizGenerationJob j
+                  where j.quizId = q.id
+                    and j.status in (com.pado.domain.quiz.entity.QuizGenerationJobStatus.QUEUED,
+                                     com.pado.domain.quiz.entity.QuizGenerationJobStatus.RUNNING))
+            """)
+    List<Long> findOrphanedGeneratingQuizIds();
+}
@@ -0,0 +1,135 @@
+package com.pado.domain.quiz.repository;
+
+import com.pado.domain.quiz.repository.dto.QuestionInsertDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// 생성된 퀴즈 문제/선택지를 테이블별 JDBC 배치로 저장
+// IDENTITY 키라 JPA 로는 행마다 INSERT 가 나가고 정답 선택지 연결에 UPDATE 가 추가되지만,
+// 여기서는 테이블당 한 번씩(rewriteBatchedStatements 사용 시 multi-row INSERT 하나) 저장하고
+// 생성된 키로 다음 테이블의 외래 키를 채움
+// multiple_choice_question 과 quiz_choice 가 서로를 참조하므로 정답 선택지는 선택지 저장 후 배치 UPDATE 로 연결
+@Repository
+@RequiredArgsConstructor
+public class QuizQuestionJdbcRepository {
+
+    private static final String INSERT_QUESTION_SQL = """
+            insert into quiz_question (quiz_id, question_text, explanation, question_type)
+            values (?, ?, ?, ?)
+            """;
+    private static final String INSERT_SHORT_ANSWER_SQL = """
+            insert into short_answer_question (id, answer)
+            values (?, ?)
+            """;
+    private static final String INSERT_MULTIPLE_CHOICE_SQL = """
+            insert into multiple_choice_question (id, correct_choice_id)
+            values (?, null)
+            """;
+    private static final String INSERT_CHOICE_SQL = """
+            insert into quiz_choice (question_id, choice_text)
+            values (?, ?)
+            """;
+    private static final String UPDATE_CORRECT_CHOICE_SQL = """
+            update multiple_choice_question
+            set correct_choice_id = ?
+            where id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장한 문제 ID 를 입력 순서대로 반환
+    public List<Long> insertQuestions(Long quizId, List<QuestionInsertDto> questions) {
+        if (questions.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> questionIds = insertAndReturnKeys(INSERT_QUESTION_SQL, questions.stream()
+                .map(question -> new Object[]{quizId, question.questionText(), question.explanation(), question.questionType()})
+                .toList());
+
+        List<Object[]> shortAnswers = new ArrayList<>();
+        List<Object[]> multipleChoices = new ArrayList<>();
+        List<Object[]> choices = new ArrayList<>();
+        // choices 의 각 행이 어느 문제의 몇 번째 선택지인지 (정답 연결용)
+        List<int[]> choiceOwners = new ArrayList<>();
+
+        for (int i = 0; i < questions.size(); i++) {
+            QuestionInsertDto question = questions.get(i);
+            Long questionId = questionIds.get(i);
+
+            if (!question.isMultipleChoice()) {
+                shortAnswers.add(new Object[]{questionId, question.answer()});
+                continue;
+            }
+
+            multipleChoices.add(new Object[]{questionId});
+            List<String> choiceTexts = question.choices() != null ? question.choices() : List.of();
+            for (int c = 0; c < choiceTexts.size(); c++) {
+                choices.add(new Object[]{questionId, choiceTexts.get(c)});
+                choiceOwners.add(new int[]{i, c});
+            }
+        }
+
+        if (!shortAnswers.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SHORT_ANSWER_SQL, shortAnswers);
+        }
+        if (multipleChoices.isEmpty()) {
+            return questionIds;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_MULTIPLE_CHOICE_SQL, multipleChoices);
+        List<Long> choiceIds = insertAndReturnKeys(INSERT_CHOICE_SQL, choices);
+
+        List<Object[]> correctChoices = new ArrayList<>();
+        for (int row = 0; row < choiceOwners.size(); row++) {
+            int[] owner = choiceOwners.get(row);
+            Integer correctIndex = questions.get(owner[0]).correctChoiceIndex();
+            if (correctIndex != null && correctIndex == owner[1]) {
+                correctChoices.add(new Object[]{choiceIds.get(row), questionIds.get(owner[0])});
+            }
+        }
+        if (!correctChoices.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_CORRECT_CHOICE_SQL, correctChoices);
+        }
+        return questionIds;
+    }
+
+    // 배치 INSERT 후 생성된 키를 행 순서대로 받음
+    // multi-row INSERT 한 문장에서 생성되는 AUTO_INCREMENT 값은 연속이므로 드라이버가 행 순서대로 돌려줌
+    private List<Long> insertAndReturnKeys(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (Object[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        statement.setObject(i + 1, row[i]);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> keys = new ArrayList<>(rows.size());
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        keys.add(generatedKeys.getLong(1));
+                    }
+                }
+                if (keys.size() != rows.size()) {
+                    throw new IllegalStateException("Expected " + rows.size() + " generated keys but got " + keys.size());
+                }
+                return keys;
+            }
+        });
+    }
+}
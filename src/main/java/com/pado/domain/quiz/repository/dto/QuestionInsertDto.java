@@ -0,0 +1,18 @@
+package com.pado.domain.quiz.repository.dto;
+
+import java.util.List;
+
+// JDBC 배치로 저장할 문제 한 건 (객관식이면 choices/correctChoiceIndex, 주관식이면 answer 사용)
+public record QuestionInsertDto(
+        String questionType,
+        String questionText,
+        String explanation,
+        List<String> choices,
+        Integer correctChoiceIndex,
+        String answer
+) {
+
+    public boolean isMultipleChoice() {
+        return "MULTIPLE_CHOICE".equals(questionType);
+    }
+}
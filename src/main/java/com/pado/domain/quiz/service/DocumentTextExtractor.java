@@ -0,0 +1,171 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.global.exception.common.BusinessException;
+import com.pado.global.exception.common.ErrorCode;
+import org.apache.tika.config.TikaConfig;
+import org.apache.tika.detect.Detector;
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.io.LookaheadInputStream;
+import org.apache.tika.io.TemporaryResources;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.sax.BodyContentHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Set;
+
+// 문서를 스트리밍으로 읽어 퀴즈 생성에 쓸 만큼만 텍스트를 추출
+// 1) 앞부분(DETECTION_PREFIX_BYTES)만 보고 MIME 타입 판별
+// 2) PDF/DOCX 는 임시 파일로 흘려 보내 파서가 문서 전체를 힙에 올리지 않도록 함
+// 3) SAX 핸들러에서 공백을 바로 정규화하고, 글자 수 한도에 도달하면 파싱 중단
+@Component
+public class DocumentTextExtractor {
+
+    static final Set<String> ALLOWED_MIME_TYPES = Set.of(
+            "application/pdf",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            "text/plain"
+    );
+
+    private static final int DETECTION_PREFIX_BYTES = 64 * 1024;
+
+    private final Detector detector;
+    private final Parser parser;
+    private final int maxCharacters;
+
+    public DocumentTextExtractor(@Value("${quiz.extraction.max-characters:100000}") int maxCharacters) {
+        TikaConfig tikaConfig = TikaConfig.getDefaultConfig();
+        this.detector = tikaConfig.getDetector();
+        // Content-Type 으로 파서를 고르는 CompositeParser 이므로 파싱 시 타입을 다시 판별하지 않음
+        this.parser = tikaConfig.getParser();
+        this.maxCharacters = maxCharacters;
+    }
+
+    public ExtractedDocument extract(InputStream inputStream, String fileName)
+            throws IOException, SAXException, TikaException {
+        try (TemporaryResources tmp = new TemporaryResources()) {
+            Metadata metadata = metadata(fileName);
+            TikaInputStream tikaStream = TikaInputStream.get(inputStream, tmp, metadata);
+
+            return extract(tikaStream, metadata);
+        }
+    }
+
+    // 이미 디스크에 있는 파일은 그 경로를 그대로 파서에 넘김 (임시 파일로 다시 복사하지 않음)
+    public ExtractedDocument extract(Path path, String fileName)
+            throws IOException, SAXException, TikaException {
+        Metadata metadata = metadata(fileName);
+        try (TikaInputStream tikaStream = TikaInputStream.get(path, metadata)) {
+            return extract(tikaStream, metadata);
+        }
+    }
+
+    private Metadata metadata(String fileName) {
+        Metadata metadata = new Metadata();
+        metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, fileName);
+        return metadata;
+    }
+
+    private ExtractedDocument extract(TikaInputStream tikaStream, Metadata metadata)
+            throws IOException, SAXException, TikaException {
+        // 파일 타입 확인
+        String mimeType = detect(tikaStream, metadata);
+
+        // 허용된 타입인지 체크
+        if (!ALLOWED_MIME_TYPES.contains(mimeType)) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT, "Disallowed MIME type: " + mimeType);
+        }
+
+        // 임시 파일로 스풀 (파서가 파일 기반으로 페이지 단위 접근, 경로로 연 스트림은 그대로 사용)
+        if (!"text/plain".equals(mimeType)) {
+            tikaStream.getPath();
+        }
+
+        // 텍스트 추출 & 전처리
+        metadata.set(Metadata.CONTENT_TYPE, mimeType);
+        NormalizingTextHandler handler = new NormalizingTextHandler(maxCharacters);
+        try {
+            parser.parse(tikaStream, new BodyContentHandler(handler), metadata, new ParseContext());
+        } catch (IOException | SAXException | TikaException e) {
+            // 한도 도달로 중단한 경우는 그때까지 모은 텍스트를 사용
+            if (!handler.isLimitReached()) {
+                throw e;
+            }
+        }
+
+        return new ExtractedDocument(mimeType, handler.getText(), handler.isLimitReached());
+    }
+
+    private String detect(TikaInputStream tikaStream, Metadata metadata) throws IOException {
+        // close 시 스트림 위치를 처음으로 되돌림
+        try (LookaheadInputStream prefix = new LookaheadInputStream(tikaStream, DETECTION_PREFIX_BYTES)) {
+            return detector.detect(prefix, metadata).toString();
+        }
+    }
+
+    // 연속된 공백을 하나로 합치고 앞뒤 공백은 버리면서 최대 maxCharacters 글자까지만 모음
+    // 줄바꿈이 섞인 공백은 '\n' 하나로 남겨 문단 경계를 보존 (퀴즈 프롬프트 청크 분할에 사용)
+    static class NormalizingTextHandler extends DefaultHandler {
+
+        private static final char NONE = 0;
+
+        private final StringBuilder text = new StringBuilder();
+        private final int maxCharacters;
+        private char pendingSeparator = NONE;
+        private boolean limitReached;
+
+        NormalizingTextHandler(int maxCharacters) {
+            this.maxCharacters = maxCharacters;
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            for (int i = start; i < start + length; i++) {
+                char c = ch[i];
+                if (Character.isWhitespace(c)) {
+                    if (c == '\n' || c == '\r') {
+                        pendingSeparator = '\n';
+                    } else if (pendingSeparator == NONE) {
+                        pendingSeparator = ' ';
+                    }
+                    continue;
+                }
+                if (pendingSeparator != NONE && !text.isEmpty()) {
+                    append(pendingSeparator);
+                }
+                pendingSeparator = NONE;
+                append(c);
+            }
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+            characters(ch, start, length);
+        }
+
+        boolean isLimitReached() {
+            return limitReached;
+        }
+
+        String getText() {
+            return text.toString();
+        }
+
+        private void append(char c) throws SAXException {
+            if (text.length() >= maxCharacters) {
+                limitReached = true;
+                throw new SAXException("Extracted text limit reached: " + maxCharacters);
+            }
+            text.append(c);
+        }
+    }
+}
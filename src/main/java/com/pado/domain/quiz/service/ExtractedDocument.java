@@ -0,0 +1,5 @@
+package com.pado.domain.quiz.service;
+
+// 문서에서 추출한 텍스트 (truncated: 글자 수 한도에 도달해 뒷부분을 읽지 않은 경우)
+record ExtractedDocument(String mimeType, String text, boolean truncated) {
+}
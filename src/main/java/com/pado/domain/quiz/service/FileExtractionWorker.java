@@ -0,0 +1,137 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.domain.material.entity.ProcessingStatus;
+import com.pado.domain.material.repository.FileRepository;
+import com.pado.global.exception.common.BusinessException;
+import com.pado.global.exception.common.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 자료 업로드 직후 첨부파일 텍스트를 미리 추출해 두는 백그라운드 작업자
+// 퀴즈 생성 시점에는 대부분 COMPLETED 상태라 S3 다운로드/파싱 시간이 퀴즈 지연에 포함되지 않음
+// 큐가 가득 차면 작업을 버리고 PENDING 으로 남겨 두며, 이 경우 퀴즈 생성 시 기존처럼 추출
+@Slf4j
+@Component
+public class FileExtractionWorker {
+
+    private final FileProcessingService fileProcessingService;
+    private final FileRepository fileRepository;
+    private final ThreadPoolTaskExecutor executor;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Timer duration;
+
+    public FileExtractionWorker(
+            FileProcessingService fileProcessingService,
+            FileRepository fileRepository,
+            MeterRegistry meterRegistry,
+            @Value("${quiz.extraction.workers:2}") int workers,
+            @Value("${quiz.extraction.queue-capacity:500}") int queueCapacity,
+            @Value("${quiz.extraction.max-attempts:3}") int maxAttempts,
+            @Value("${quiz.extraction.retry-backoff-ms:2000}") long retryBackoffMillis
+    ) {
+        this.fileProcessingService = fileProcessingService;
+        this.fileRepository = fileRepository;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        this.completed = Counter.builder("file.extraction.completed")
+                .description("백그라운드에서 텍스트 추출을 마친 파일 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("file.extraction.failed")
+                .description("재시도 후에도 텍스트 추출에 실패한 파일 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("file.extraction.rejected")
+                .description("큐가 가득 차 백그라운드 추출을 건너뛴 파일 수")
+                .register(meterRegistry);
+        this.duration = Timer.builder("file.extraction.duration")
+                .description("파일 하나의 텍스트 추출 시간")
+                .register(meterRegistry);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("FileExtract-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+
+        Gauge.builder("file.extraction.queue.depth", this, FileExtractionWorker::queueDepth)
+                .description("텍스트 추출 대기 중인 파일 수")
+                .register(meterRegistry);
+    }
+
+    public void enqueue(List<Long> fileIds) {
+        fileIds.forEach(fileId -> submit(fileId, 1));
+    }
+
+    public int queueDepth() {
+        return executor.getThreadPoolExecutor().getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void submit(Long fileId, int attempt) {
+        try {
+            executor.execute(() -> extract(fileId, attempt));
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            log.warn("File extraction queue is full. fileId={} stays PENDING", fileId);
+        }
+    }
+
+    private void extract(Long fileId, int attempt) {
+        // 그 사이 삭제되었거나 퀴즈 생성 과정에서 이미 추출된 파일은 건너뜀
+        boolean pending = fileRepository.findById(fileId)
+                .map(file -> file.getProcessingStatus() != ProcessingStatus.COMPLETED)
+                .orElse(false);
+        if (!pending) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            fileProcessingService.processFileAndUpdateState(fileId);
+            completed.increment();
+        } catch (RuntimeException e) {
+            if (attempt < maxAttempts && isRetryable(e)) {
+                long delay = retryBackoffMillis << (attempt - 1);
+                log.warn("File extraction failed (attempt {}/{}), retrying in {}ms. fileId={}",
+                        attempt, maxAttempts, delay, fileId);
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS)
+                        .execute(() -> submit(fileId, attempt + 1));
+                return;
+            }
+            failed.increment();
+            log.error("File extraction gave up after {} attempt(s). fileId={}", attempt, fileId);
+        } finally {
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 형식 오류나 삭제된 파일은 다시 시도해도 결과가 같음
+    private boolean isRetryable(RuntimeException e) {
+        return !(e instanceof BusinessException businessException
+                && (businessException.getErrorCode() == ErrorCode.INVALID_FILE_FORMAT
+                || businessException.getErrorCode() == ErrorCode.FILE_NOT_FOUND));
+    }
+}
@@ -1,20 +1,36 @@
 package com.pado.domain.quiz.service;
 
+import com.pado.domain.material.entity.ExtractedText;
 import com.pado.domain.material.entity.File;
+import com.pado.domain.material.entity.ProcessingStatus;
+import com.pado.domain.material.repository.ExtractedTextRepository;
 import com.pado.domain.material.repository.FileRepository;
 import com.pado.domain.s3.service.S3Service;
 import com.pado.global.exception.common.BusinessException;
 import com.pado.global.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.tika.Tika;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.Set;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
+// 추출 텍스트는 파일 내용 해시(SHA-256) 기준으로 한 번만 만들고 같은 내용의 파일들이 재사용
+// 업로드 때 클라이언트가 SHA-256 체크섬을 보냈으면 S3 HEAD 로 해시를 읽어 다운로드 전에 재사용 여부를 판단하고,
+// 없으면 S3 ETag 대신 다운로드하면서 직접 계산 (멀티파트/SSE-KMS 업로드의 ETag 는 본문 MD5 가 아님)
+// S3 다운로드와 파싱은 트랜잭션 밖에서 수행하고, 상태 변경만 FileTransactionService 로 짧게 커밋
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -22,47 +38,143 @@ public class FileProcessingService {
 
     private final S3Service s3Service;
     private final FileRepository fileRepository;
+    private final ExtractedTextRepository extractedTextRepository;
+    private final FileTransactionService fileTransactionService;
+    private final DocumentTextExtractor documentTextExtractor;
 
-    private static final Set<String> ALLOWED_MIME_TYPES = Set.of(
-            "application/pdf",
-            "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
-            "text/plain"
-    );
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
 
-    @Transactional
+    private final Map<Long, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    // 이미 처리된 파일이면 공유 저장소에서 바로 읽고, 아니면 처리 후 반환
+    public String getExtractedText(File file) {
+        if (file.getProcessingStatus() == ProcessingStatus.COMPLETED && file.getContentHash() != null) {
+            Optional<ExtractedText> stored = extractedTextRepository.findByContentHash(file.getContentHash());
+            if (stored.isPresent()) {
+                return stored.get().getContent();
+            }
+        }
+        return processFileAndUpdateState(file.getId());
+    }
+
+    // 업로드 직후 백그라운드 추출과 퀴즈 생성이 같은 파일을 동시에 요청하면 먼저 시작한 작업 결과를 함께 사용
     public String processFileAndUpdateState(Long fileId) {
+        CompletableFuture<String> task = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(fileId, task);
+        if (running != null) {
+            return awaitInFlight(running);
+        }
+
+        try {
+            String text = process(fileId);
+            task.complete(text);
+            return text;
+        } catch (RuntimeException e) {
+            task.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(fileId, task);
+        }
+    }
+
+    private String process(Long fileId) {
         File file = fileRepository.findById(fileId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND));
 
-        try (InputStream inputStream = s3Service.downloadFileAsStream(file.getFileKey());
-             BufferedInputStream bufferedStream = new BufferedInputStream(inputStream)) {
+        fileTransactionService.markAsProcessing(fileId);
+        Path spooled = null;
+        try {
+            // 업로드 시 저장된 해시로 같은 내용이 이미 추출되어 있으면 다운로드 없이 재사용
+            Optional<String> uploadedHash = s3Service.findContentSha256(file.getFileKey());
+            Optional<ExtractedText> uploaded = uploadedHash.flatMap(extractedTextRepository::findByContentHash);
+            if (uploaded.isPresent()) {
+                fileTransactionService.markAsCompleted(fileId, uploadedHash.get(), uploaded.get().getMimeType());
+                return uploaded.get().getContent();
+            }
+
+            // 임시 파일로 내려받으면서 해시 계산
+            MessageDigest digest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+            spooled = download(file.getFileKey(), digest);
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+
+            // 같은 내용이 이미 추출되어 있으면 파싱 없이 재사용
+            Path source = spooled;
+            ExtractedText extractedText = extractedTextRepository.findByContentHash(contentHash)
+                    .orElseGet(() -> extractAndStore(file, source, contentHash));
 
-            Tika tika = new Tika();
+            // 파일 상태 업데이트
+            fileTransactionService.markAsCompleted(fileId, contentHash, extractedText.getMimeType());
+
+            return extractedText.getContent();
 
-            // 파일 타입 확인
-            bufferedStream.mark(Integer.MAX_VALUE);
-            String detectedMimeType = tika.detect(bufferedStream, file.getName());
-            bufferedStream.reset();
+        } catch (Exception e) {
+            fileTransactionService.markAsFailed(fileId);
+            log.error("Failed to process file ID {}: {}", fileId, e.getMessage(), e);
+            if (e instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(ErrorCode.S3_SERVICE_ERROR,
+                    "File processing failed for fileId: " + fileId);
+        } finally {
+            deleteQuietly(spooled);
+        }
+    }
 
-            // 허용된 타입인지 체크
-            if (!ALLOWED_MIME_TYPES.contains(detectedMimeType)) {
-                throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT, "Disallowed MIME type: " + detectedMimeType);
+    private String awaitInFlight(CompletableFuture<String> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
+        }
+    }
 
-            // 텍스트 추출 & 전처리
-            String extractedText = tika.parseToString(bufferedStream);
-            String cleanedText = extractedText.replaceAll("\\s+", " ").trim();
+    private Path download(String fileKey, MessageDigest digest) throws IOException {
+        Path spooled = Files.createTempFile("material-", ".tmp");
+        try (InputStream inputStream = new DigestInputStream(s3Service.downloadFileAsStream(fileKey), digest)) {
+            Files.copy(inputStream, spooled, StandardCopyOption.REPLACE_EXISTING);
+            return spooled;
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(spooled);
+            throw e;
+        }
+    }
 
-            // 파일 상태 업데이트
-            file.markAsCompleted(cleanedText, detectedMimeType);
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private ExtractedText extractAndStore(File file, Path source, String contentHash) {
+        try {
+            ExtractedDocument document = documentTextExtractor.extract(source, file.getName());
+            if (document.truncated()) {
+                log.info("Extracted text truncated for file ID {} at {} characters", file.getId(), document.text().length());
+            }
 
-            return cleanedText;
+            return save(contentHash, document.mimeType(), document.text());
 
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
-            file.markAsFailed();
-            log.error("Failed to process file ID {}: {}", file.getId(), e.getMessage(), e);
-            throw new BusinessException(ErrorCode.S3_SERVICE_ERROR,
-                    "File processing failed for fileId: " + file.getId());
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ExtractedText save(String contentHash, String mimeType, String content) {
+        try {
+            return fileTransactionService.saveExtractedText(contentHash, mimeType, content);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용을 다른 작업이 먼저 저장한 경우 그 결과를 사용
+            return extractedTextRepository.findByContentHash(contentHash).orElseThrow(() -> e);
         }
     }
 }
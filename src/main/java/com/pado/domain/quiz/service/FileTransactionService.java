@@ -0,0 +1,40 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.domain.material.entity.ExtractedText;
+import com.pado.domain.material.repository.ExtractedTextRepository;
+import com.pado.domain.material.repository.FileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 파일 처리 중 DB 상태 변경만 짧은 트랜잭션으로 분리
+// S3 다운로드/텍스트 추출은 트랜잭션 밖에서 수행
+@Service
+@RequiredArgsConstructor
+public class FileTransactionService {
+
+    private final FileRepository fileRepository;
+    private final ExtractedTextRepository extractedTextRepository;
+
+    @Transactional
+    public void markAsProcessing(Long fileId) {
+        fileRepository.findById(fileId).ifPresent(file -> file.markAsProcessing());
+    }
+
+    @Transactional
+    public void markAsCompleted(Long fileId, String contentHash, String detectedMimeType) {
+        fileRepository.findById(fileId)
+                .ifPresent(file -> file.markAsCompleted(contentHash, detectedMimeType));
+    }
+
+    @Transactional
+    public void markAsFailed(Long fileId) {
+        fileRepository.findById(fileId).ifPresent(file -> file.markAsFailed());
+    }
+
+    // 같은 해시를 동시에 저장하면 unique 제약 위반(DataIntegrityViolationException)이 호출자에게 전달됨
+    @Transactional
+    public ExtractedText saveExtractedText(String contentHash, String mimeType, String content) {
+        return extractedTextRepository.save(new ExtractedText(contentHash, mimeType, content));
+    }
+}
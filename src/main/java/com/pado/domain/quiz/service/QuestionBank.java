@@ -0,0 +1,136 @@
+package com.pado.domain.quiz.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pado.infrastruture.ai.dto.AiQuestionDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// 검증을 통과한 AI 문제를 (추출 텍스트 해시, 청크 번호) 단위로 모아 두는 문제 은행
+// 같은 자료로 다시 퀴즈를 만들면 은행에서 먼저 꺼내고, 모자란 만큼만 모델에 요청
+// 프롬프트가 문제 유형을 지정하지 않고 모델이 정하므로 유형은 키에 넣지 않음
+// 키마다 Sorted Set(score = 저장 시각)으로 관리해 오래된 문제는 만료시키고, 최신 maxPerChunk 개만 유지
+// Redis 를 쓸 수 없으면 은행 없이 생성만 진행
+@Slf4j
+@Component
+public class QuestionBank {
+
+    private static final String KEY_PREFIX = "quiz:question-bank:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration freshness;
+    private final int maxPerChunk;
+    private final Counter hits;
+    private final Counter misses;
+
+    public QuestionBank(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${quiz.question-bank.enabled:true}") boolean enabled,
+            @Value("${quiz.question-bank.freshness-hours:168}") long freshnessHours,
+            @Value("${quiz.question-bank.max-per-chunk:30}") int maxPerChunk
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.freshness = Duration.ofHours(freshnessHours);
+        this.maxPerChunk = maxPerChunk;
+
+        this.hits = Counter.builder("quiz.question-bank.hits")
+                .description("문제 은행에서 꺼내 쓴 문제 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("quiz.question-bank.misses")
+                .description("문제 은행에 없어 모델에 요청한 문제 수")
+                .register(meterRegistry);
+    }
+
+    public static String hashOf(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 청크에 쌓인 유효한 문제 중 최대 count 개를 무작위로 꺼냄
+    public List<AiQuestionDto> take(String textHash, int chunkIndex, int count) {
+        if (!enabled || count <= 0) {
+            return List.of();
+        }
+
+        List<AiQuestionDto> candidates = new ArrayList<>();
+        try {
+            double freshAfter = System.currentTimeMillis() - freshness.toMillis();
+            Set<String> values = redisTemplate.opsForZSet()
+                    .rangeByScore(keyOf(textHash, chunkIndex), freshAfter, Double.POSITIVE_INFINITY);
+            if (values != null) {
+                values.forEach(value -> candidates.add(deserialize(value)));
+            }
+        } catch (DataAccessException e) {
+            log.warn("문제 은행 조회 실패: {}", e.getMessage());
+            misses.increment(count);
+            return List.of();
+        }
+
+        candidates.removeIf(Objects::isNull);
+        Collections.shuffle(candidates);
+        List<AiQuestionDto> taken = List.copyOf(candidates.subList(0, Math.min(count, candidates.size())));
+
+        hits.increment(taken.size());
+        misses.increment(count - taken.size());
+        return taken;
+    }
+
+    public void store(String textHash, int chunkIndex, List<AiQuestionDto> questions) {
+        if (!enabled || questions.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            String key = keyOf(textHash, chunkIndex);
+            for (AiQuestionDto question : questions) {
+                redisTemplate.opsForZSet().add(key, objectMapper.writeValueAsString(question), now);
+            }
+            // 만료된 문제 정리 후 최신 maxPerChunk 개만 남김
+            redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now - freshness.toMillis());
+            redisTemplate.opsForZSet().removeRange(key, 0, -(maxPerChunk + 1));
+            redisTemplate.expire(key, freshness);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("문제 은행 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private AiQuestionDto deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, AiQuestionDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("문제 은행 항목을 읽을 수 없어 건너뜀: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String keyOf(String textHash, int chunkIndex) {
+        return KEY_PREFIX + textHash + ":" + chunkIndex;
+    }
+}
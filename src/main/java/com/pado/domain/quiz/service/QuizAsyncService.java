@@ -1,25 +1,30 @@
 package com.pado.domain.quiz.service;
 
 import com.pado.domain.material.entity.File;
-import com.pado.domain.material.entity.ProcessingStatus;
 import com.pado.domain.quiz.entity.Quiz;
 import com.pado.domain.quiz.repository.QuizRepository;
 import com.pado.global.exception.common.BusinessException;
 import com.pado.global.exception.common.ErrorCode;
+import com.pado.infrastruture.ai.GeminiRequestExecutor;
+import com.pado.infrastruture.ai.QuestionGenerationStrategy;
 import com.pado.infrastruture.ai.dto.AiQuestionDto;
 import com.pado.infrastruture.ai.dto.AiQuizResponseDto;
-import com.pado.infrastruture.ai.impl.GeminiClient;
+import com.pado.infrastruture.ai.dto.QuestionPrompt;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 
 @Service
@@ -28,77 +33,245 @@ import java.util.stream.IntStream;
 public class QuizAsyncService {
 
     private final QuizRepository quizRepository;
-    private final GeminiClient geminiClient;
+    private final QuestionGenerationStrategy questionGenerationStrategy;
     private final QuizTransactionService quizTransactionService;
     private final FileProcessingService fileProcessingService;
+    private final QuestionBank questionBank;
+    private final QuizProgressPublisher progressPublisher;
     private final Executor quizThreadPool;
+    private final GeminiRequestExecutor geminiRequestExecutor;
 
     private static final int SHORT_TEXT_THRESHOLD = 500;
     private static final int MINIMUM_SUCCESSFUL_QUESTIONS = 4;
-
+    private static final int MAX_PARALLEL_EXTRACTIONS = 3;
+    // 문제 하나에 보낼 청크/개요 크기 (글자 수)
+    private static final int MAX_CHUNK_CHARS = 6_000;
+    private static final int MAX_SUMMARY_CHARS = 1_000;
+    private static final String CHUNK_CONTEXT_FORMAT = """
+            [문서 개요]
+            %s
+
+            [출제 범위]
+            %s""";
+    private static final String CHUNK_HINT = "[출제 범위]의 내용으로 문제를 만들고, [문서 개요]는 맥락 파악에만 사용해.";
+    private static final Comparator<File> FILE_ORDER =
+            Comparator.comparing(File::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    // 텍스트 추출과 저장은 quizThreadPool(플랫폼 스레드)에서, AI 호출은 GeminiRequestExecutor(가상 스레드)에서 처리
+    // AI 응답이나 파일 추출을 기다리는 동안 quizThreadPool 스레드를 점유하지 않음
     public CompletableFuture<Void> processAndCallAiInBackground(Long quizId) {
-        return CompletableFuture.runAsync(() -> {
-            log.info("[Async Task] Starting for quizId: {}", quizId);
+        return generateQuiz(quizId)
+                .exceptionally(ex -> {
+                    log.error("Async task for quizId {} failed.", quizId, ex);
+                    quizTransactionService.updateQuizStatusToFailed(quizId);
+                    return null;
+                });
+    }
 
-            Quiz quiz = quizRepository.findWithSourceFilesById(quizId)
-                    .orElse(null);
+    // 실패 처리 없이 생성 파이프라인만 실행 (재시도 여부는 호출한 쪽에서 결정)
+    public CompletableFuture<Void> generateQuiz(Long quizId) {
+        return CompletableFuture.supplyAsync(() -> loadQuiz(quizId), quizThreadPool)
+                .thenCompose(quiz -> {
+                    if (quiz == null) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
 
-            if (quiz == null) {
-                log.info("[Async Task] Quiz '{}' was deleted before generation could start. Task cancelled.", quizId);
-                return;
-            }
+                    // 파일 텍스트 추출 → AI 퀴즈 생성 → 저장
+                    Long studyId = quiz.getStudy().getId();
+                    return extractTextsInParallel(quizId, quiz.getSourceFiles())
+                            .thenCompose(combinedText -> generateQuestions(quizId, studyId, combinedText))
+                            .thenAcceptAsync(questions -> saveGeneratedQuiz(quizId, questions), quizThreadPool);
+                });
+    }
+
+    private Quiz loadQuiz(Long quizId) {
+        log.info("[Async Task] Starting for quizId: {}", quizId);
+
+        Quiz quiz = quizRepository.findWithSourceFilesById(quizId)
+                .orElse(null);
+
+        if (quiz == null) {
+            log.info("[Async Task] Quiz '{}' was deleted before generation could start. Task cancelled.", quizId);
+        }
+        return quiz;
+    }
 
-            // 파일 텍스트 추출
-            String combinedText = getAndProcessTextForFiles(quiz.getSourceFiles());
-            if (combinedText.isBlank()) {
-                throw new BusinessException(ErrorCode.FILE_PROCESSING_FAILED, "Extracted text is blank.");
+    // 같은 기반 텍스트를 쓰는 문제끼리(청크 단위) 문제 은행에서 먼저 꺼내고, 모자란 문제만 모델에 요청
+    // TextChunker 청크 번호는 같은 텍스트에 대해 항상 같으므로 (텍스트 해시, 청크 번호) 로 은행을 찾음
+    // 문제가 준비될 때마다 k/n 진행 상황을 스터디 퀴즈 토픽으로 알림
+    private CompletableFuture<List<AiQuestionDto>> generateQuestions(Long quizId, Long studyId, String combinedText) {
+        List<ChunkPrompts> chunkPrompts = prepareGeneration(quizId, combinedText);
+        String textHash = QuestionBank.hashOf(combinedText);
+
+        int totalQuestions = chunkPrompts.stream().mapToInt(chunk -> chunk.prompts().size()).sum();
+        AtomicInteger readyQuestions = new AtomicInteger();
+        IntConsumer onReady = count -> {
+            if (count > 0) {
+                progressPublisher.questionGenerated(studyId, quizId, readyQuestions.addAndGet(count), totalQuestions);
             }
+        };
+        progressPublisher.extracted(studyId, quizId, totalQuestions);
+
+        List<CompletableFuture<List<AiQuestionDto>>> chunkFutures = chunkPrompts.stream()
+                .map(chunk -> generateForChunk(quizId, textHash, chunk.chunkIndex(), chunk.prompts(), onReady))
+                .toList();
+
+        return CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> chunkFutures.stream()
+                        .flatMap(future -> future.join().stream())
+                        .toList());
+    }
 
-            // 문제 수 결정 & 힌트 생성
-            int questionCount = calculateQuestionCount(combinedText.length());
-            List<String> hints = buildHints(combinedText.length(), questionCount);
-            log.info("QuizId: {}. Preparing to generate {} questions.", quizId, questionCount);
+    private CompletableFuture<List<AiQuestionDto>> generateForChunk(Long quizId, String textHash, int chunkIndex,
+                                                                   List<QuestionPrompt> prompts, IntConsumer onReady) {
+        List<AiQuestionDto> banked = questionBank.take(textHash, chunkIndex, prompts.size());
+        onReady.accept(banked.size());
+        if (banked.size() == prompts.size()) {
+            return CompletableFuture.completedFuture(banked);
+        }
+
+        List<QuestionPrompt> shortfall = prompts.subList(banked.size(), prompts.size());
+        return questionGenerationStrategy.generate(shortfall, geminiRequestExecutor, onReady)
+                .thenApply(generated -> {
+                    questionBank.store(textHash, chunkIndex, validQuestions(quizId, generated));
+
+                    List<AiQuestionDto> questions = new ArrayList<>(banked);
+                    questions.addAll(generated);
+                    return questions;
+                });
+    }
 
-            // AI 퀴즈 생성
-            List<AiQuestionDto> successfulQuestions = generateQuestionsInParallel(combinedText, hints);
-            if (successfulQuestions.size() < MINIMUM_SUCCESSFUL_QUESTIONS) {
-                throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "AI failed to generate sufficient questions.");
+    private List<AiQuestionDto> validQuestions(Long quizId, List<AiQuestionDto> questions) {
+        return questions.stream()
+                .filter(question -> {
+                    try {
+                        validateQuestion(question, quizId);
+                        return true;
+                    } catch (BusinessException e) {
+                        return false;
+                    }
+                })
+                .toList();
+    }
+
+    private List<ChunkPrompts> prepareGeneration(Long quizId, String combinedText) {
+        if (combinedText.isBlank()) {
+            throw new BusinessException(ErrorCode.FILE_PROCESSING_FAILED, "Extracted text is blank.");
+        }
+
+        // 문제 수 결정 & 문제별 기반 텍스트/힌트 생성
+        int questionCount = calculateQuestionCount(combinedText.length());
+        List<String> chunks = TextChunker.split(combinedText, MAX_CHUNK_CHARS);
+        log.info("QuizId: {}. Preparing to generate {} questions from {} chunk(s).", quizId, questionCount, chunks.size());
+
+        if (chunks.size() <= 1) {
+            List<QuestionPrompt> prompts = buildHints(combinedText.length(), questionCount).stream()
+                    .map(hint -> new QuestionPrompt(combinedText, hint))
+                    .toList();
+            return List.of(new ChunkPrompts(0, prompts));
+        }
+        return buildChunkPrompts(chunks, questionCount);
+    }
+
+    // 문서가 길면 문제마다 전체 텍스트 대신 "개요 + 배정된 청크"만 전송
+    // 청크를 문서 전체에 고르게 배정하므로 문서 길이와 관계없이 문제당 전송량이 일정함
+    private List<ChunkPrompts> buildChunkPrompts(List<String> chunks, int questionCount) {
+        String summary = TextChunker.summarize(chunks, MAX_SUMMARY_CHARS);
+
+        int[] chunkIndexes = IntStream.range(0, questionCount)
+                .map(i -> (int) ((long) i * chunks.size() / questionCount))
+                .toArray();
+
+        List<ChunkPrompts> chunkPrompts = new ArrayList<>();
+        int first = 0;
+        while (first < questionCount) {
+            int chunkIndex = chunkIndexes[first];
+            int last = first;
+            while (last + 1 < questionCount && chunkIndexes[last + 1] == chunkIndex) {
+                last++;
             }
 
-            // 퀴즈 제한 시간 생성 & AiQuizResponseDto로 변환
-            int totalRecommendedTime = calculateTotalTimeWithGuards(successfulQuestions);
-            AiQuizResponseDto finalQuizDto = new AiQuizResponseDto(totalRecommendedTime, successfulQuestions);
-
-            // AI 퀴즈 검증
-            validateAiResponse(finalQuizDto, quizId);
-
-            // 생성된 퀴즈 저장
-            try {
-                quizTransactionService.saveSuccessfulQuiz(quizId, finalQuizDto);
-            } catch (BusinessException e) {
-                if (e.getErrorCode() == ErrorCode.QUIZ_NOT_FOUND) {
-                    log.info("[Async Task] Quiz '{}' was deleted during generation. Task gracefully terminated.", quizId);
-                } else {
-                    throw e;
-                }
+            // 같은 청크를 여러 문제가 나눠 쓰면 청크 안에서 집중할 부분을 나눠 줌
+            String context = CHUNK_CONTEXT_FORMAT.formatted(summary, chunks.get(chunkIndex));
+            int sharing = last - first + 1;
+            List<QuestionPrompt> prompts = new ArrayList<>();
+            for (int i = 0; i < sharing; i++) {
+                String hint = sharing == 1
+                        ? CHUNK_HINT
+                        : CHUNK_HINT + " " + String.format("출제 범위의 %d/%d 부분에 집중해 줘.", i + 1, sharing);
+                prompts.add(new QuestionPrompt(context, hint));
             }
+            chunkPrompts.add(new ChunkPrompts(chunkIndex, prompts));
+            first = last + 1;
+        }
+        return chunkPrompts;
+    }
 
-        }, quizThreadPool).exceptionally(ex -> {
-            log.error("Async task for quizId {} failed.", quizId, ex);
-            quizTransactionService.updateQuizStatusToFailed(quizId);
-            return null;
-        });
+    private void saveGeneratedQuiz(Long quizId, List<AiQuestionDto> successfulQuestions) {
+        if (successfulQuestions.size() < MINIMUM_SUCCESSFUL_QUESTIONS) {
+            throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "AI failed to generate sufficient questions.");
+        }
+
+        // 퀴즈 제한 시간 생성 & AiQuizResponseDto로 변환
+        int totalRecommendedTime = calculateTotalTimeWithGuards(successfulQuestions);
+        AiQuizResponseDto finalQuizDto = new AiQuizResponseDto(totalRecommendedTime, successfulQuestions);
+
+        // AI 퀴즈 검증
+        validateAiResponse(finalQuizDto, quizId);
+
+        // 생성된 퀴즈 저장
+        try {
+            quizTransactionService.saveSuccessfulQuiz(quizId, finalQuizDto);
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.QUIZ_NOT_FOUND) {
+                log.info("[Async Task] Quiz '{}' was deleted during generation. Task gracefully terminated.", quizId);
+            } else {
+                throw e;
+            }
+        }
     }
 
-    private String getAndProcessTextForFiles(Set<File> files) {
-        return files.stream()
-                .map(file -> {
-                    if (file.getProcessingStatus() == ProcessingStatus.COMPLETED) {
-                        return file.getExtractedText();
+    // 파일별 텍스트 추출을 퀴즈당 최대 MAX_PARALLEL_EXTRACTIONS 개까지 동시에 실행
+    // 결과는 파일 ID 순서로 합치고, 일부 파일이 실패해도 추출에 성공한 나머지 텍스트로 진행
+    private CompletableFuture<String> extractTextsInParallel(Long quizId, Set<File> files) {
+        List<File> orderedFiles = files.stream()
+                .sorted(FILE_ORDER)
+                .toList();
+        String[] texts = new String[orderedFiles.size()];
+        AtomicInteger nextIndex = new AtomicInteger();
+
+        // 각 작업이 남은 파일을 하나씩 가져가 처리하므로 동시에 처리되는 파일 수는 작업 수를 넘지 않음
+        CompletableFuture<?>[] extractions = IntStream.range(0, Math.min(MAX_PARALLEL_EXTRACTIONS, orderedFiles.size()))
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    int index;
+                    while ((index = nextIndex.getAndIncrement()) < orderedFiles.size()) {
+                        texts[index] = extractTextOrNull(quizId, orderedFiles.get(index));
                     }
-                    return fileProcessingService.processFileAndUpdateState(file.getId());
-                })
-                .collect(Collectors.joining("\n\n---\n\n"));
+                }, quizThreadPool))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(extractions)
+                .thenApply(ignored -> joinExtractedTexts(quizId, texts));
+    }
+
+    private String extractTextOrNull(Long quizId, File file) {
+        try {
+            return fileProcessingService.getExtractedText(file);
+        } catch (RuntimeException e) {
+            log.warn("QuizId: {}. Skipping source file {} that failed to extract: {}", quizId, file.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String joinExtractedTexts(Long quizId, String[] texts) {
+        List<String> extracted = Arrays.stream(texts)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (texts.length > 0 && extracted.isEmpty()) {
+            throw new BusinessException(ErrorCode.FILE_PROCESSING_FAILED, "All source files failed to extract for quizId: " + quizId);
+        }
+        return String.join("\n\n---\n\n", extracted);
     }
 
     private int calculateQuestionCount(int textLength) {
@@ -116,25 +289,6 @@ public class QuizAsyncService {
                 .toList();
     }
 
-    private List<AiQuestionDto> generateQuestionsInParallel(String text, List<String> hints) {
-        // hint 리스트를 순회하면서 AI 문제 생성 요청
-        List<CompletableFuture<AiQuestionDto>> futures = hints.stream()
-                .map(hint -> geminiClient.generateSingleQuestion(text, hint, quizThreadPool)
-                    .exceptionally(ex -> {
-                                log.warn("Single-question generation failed; skipping this item.", ex);
-                                return null;
-                    }))
-                .toList();
-
-        // 모든 작업이 끝날 때까지 기다림 -> 성공한 결과만 모아서 반환
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenApply(v -> futures.stream()
-                        .map(CompletableFuture::join)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList()))
-                .join();
-    }
-
     private int calculateTotalTimeWithGuards(List<AiQuestionDto> questions) {
         int totalTime = 0;
         for (AiQuestionDto question : questions) {
@@ -166,40 +320,49 @@ public class QuizAsyncService {
         }
 
         for (AiQuestionDto questionDto : aiQuizDto.questions()) {
-            // 질문의 텍스트 존재 여부
-            if (questionDto.questionText() == null || questionDto.questionText().isBlank()) {
-                throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "AI returned a question with no text for quizId: " + quizId);
-            }
+            validateQuestion(questionDto, quizId);
+        }
+    }
 
-            // 해설 존재 여부
-            if (questionDto.explanation() == null || questionDto.explanation().isBlank()) {
-                throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "Explanation missing for question in quizId: " + quizId);
-            }
+    private void validateQuestion(AiQuestionDto questionDto, Long quizId) {
+        // 질문의 텍스트 존재 여부
+        if (questionDto.questionText() == null || questionDto.questionText().isBlank()) {
+            throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "AI returned a question with no text for quizId: " + quizId);
+        }
 
-            // 질문 타입 유효성
-            String type = questionDto.questionType();
-            if (!"MULTIPLE_CHOICE".equals(type) && !"SHORT_ANSWER".equals(type)) {
-                throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "Unknown question type: " + type + " for quizId: " + quizId);
-            }
+        // 해설 존재 여부
+        if (questionDto.explanation() == null || questionDto.explanation().isBlank()) {
+            throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "Explanation missing for question in quizId: " + quizId);
+        }
 
-            if ("MULTIPLE_CHOICE".equals(type)) {
-                // 객관식 옵션 개수 (2~4) 체크
-                if (questionDto.options() == null || questionDto.options().size() < 2 || questionDto.options().size() > 4) {
-                    throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "MCQ options count invalid for quizId: " + quizId);
-                }
+        // 질문 타입 유효성
+        String type = questionDto.questionType();
+        if (!"MULTIPLE_CHOICE".equals(type) && !"SHORT_ANSWER".equals(type)) {
+            throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "Unknown question type: " + type + " for quizId: " + quizId);
+        }
 
-                // 객관식 정답 인덱스 유효성 체크
-                Integer correctIdx = questionDto.correctAnswerIndex();
-                if (correctIdx == null || correctIdx < 0 || correctIdx >= questionDto.options().size()) {
-                    throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "MCQ correct answer index invalid for quizId: " + quizId);
-                }
+        if ("MULTIPLE_CHOICE".equals(type)) {
+            // 객관식 옵션 개수 (2~4) 체크
+            if (questionDto.options() == null || questionDto.options().size() < 2 || questionDto.options().size() > 4) {
+                throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "MCQ options count invalid for quizId: " + quizId);
+            }
 
-            } else {
-                // 단답형 문제의 답이 없는 경우
-                if (questionDto.sampleAnswer() == null || questionDto.sampleAnswer().isBlank()) {
-                    throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "SAQ has no sample answer for quizId: " + quizId);
-                }
+            // 객관식 정답 인덱스 유효성 체크
+            Integer correctIdx = questionDto.correctAnswerIndex();
+            if (correctIdx == null || correctIdx < 0 || correctIdx >= questionDto.options().size()) {
+                throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "MCQ correct answer index invalid for quizId: " + quizId);
+            }
+
+        } else {
+            // 단답형 문제의 답이 없는 경우
+            if (questionDto.sampleAnswer() == null || questionDto.sampleAnswer().isBlank()) {
+                throw new BusinessException(ErrorCode.API_RESPONSE_INVALID, "SAQ has no sample answer for quizId: " + quizId);
             }
         }
     }
+
+
+    // TextChunker 청크 번호와 그 청크를 기반 텍스트로 쓰는 문제들
+    private record ChunkPrompts(int chunkIndex, List<QuestionPrompt> prompts) {
+    }
 }
@@ -23,7 +23,6 @@ import org.springframework.util.StringUtils;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,8 +35,7 @@ public class QuizCommandService {
     private final QuizRepository quizRepository;
     private final QuizSubmissionRepository quizSubmissionRepository;
     private final RankPointService rankPointService;
-    private final QuizTransactionService quizTransactionService;
-    private final QuizAsyncService quizAsyncService;
+    private final QuizGenerationJobService quizGenerationJobService;
     private final QuizCreationService quizCreationService;
     private final QuizDtoMapper quizDtoMapper;
 
@@ -239,17 +237,9 @@ public class QuizCommandService {
         }
     }
 
+    // 생성 작업을 DB 큐에 등록 (실행은 QuizGenerationJobWorker 가 어느 노드에서든 가져가서 처리)
     private void invokeAiQuizGeneration(Long quizId) {
-        quizAsyncService.processAndCallAiInBackground(quizId)
-                .orTimeout(200, TimeUnit.SECONDS)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Async task for quizId {} failed.", quizId, ex);
-                        quizTransactionService.updateQuizStatusToFailed(quizId);
-                    } else {
-                        log.info("Async task for quizId {} completed successfully.", quizId);
-                    }
-                });
+        quizGenerationJobService.enqueue(quizId);
     }
 
     private void validateAnswers(Quiz quiz, List<AnswerRequestDto> answers) {
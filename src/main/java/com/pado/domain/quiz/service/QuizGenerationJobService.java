@@ -0,0 +1,119 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.domain.quiz.entity.QuizGenerationJob;
+import com.pado.domain.quiz.repository.QuizGenerationJobJdbcRepository;
+import com.pado.domain.quiz.repository.QuizGenerationJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// DB 에 저장되는 퀴즈 생성 작업 큐
+// 퀴즈당 작업 행은 하나(quiz_id unique)이고, 대기/실행 중인 작업이 있으면 새로 등록하지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizGenerationJobService {
+
+    private final QuizGenerationJobRepository jobRepository;
+    private final QuizGenerationJobJdbcRepository jobJdbcRepository;
+    private final QuizTransactionService quizTransactionService;
+
+    @Value("${quiz.job.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${quiz.job.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${quiz.job.retry-backoff-seconds:10}")
+    private long retryBackoffSeconds;
+
+    // 같은 퀴즈에 대한 중복 요청(더블 클릭, 재생성 경합)은 기존 작업으로 합침
+    // 조회와 등록 사이에 다른 요청이 먼저 등록했으면(unique 제약 위반) 그 작업이 대기 중이므로 그대로 둠
+    @Transactional
+    public void enqueue(Long quizId) {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.findByQuizId(quizId).ifPresentOrElse(
+                job -> {
+                    if (!job.isActive()) {
+                        job.requeue(now);
+                    }
+                },
+                () -> {
+                    if (!jobJdbcRepository.insertQueued(quizId, now)) {
+                        log.info("Quiz generation job for quizId {} was already queued by a concurrent request.", quizId);
+                    }
+                }
+        );
+    }
+
+    // 최대 limit 개의 작업을 owner 소유로 가져오고, 가져온 퀴즈 ID 를 반환
+    @Transactional
+    public List<Long> claim(String owner, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseExpiresAt = now.plusSeconds(leaseSeconds);
+
+        List<Long> claimedQuizIds = new ArrayList<>();
+        for (QuizGenerationJob job : jobRepository.findClaimable(now, maxAttempts, PageRequest.of(0, limit))) {
+            if (jobRepository.claim(job.getId(), owner, leaseExpiresAt, now) == 1) {
+                claimedQuizIds.add(job.getQuizId());
+            }
+        }
+        return claimedQuizIds;
+    }
+
+    @Transactional
+    public void extendLeases(String owner, Collection<Long> quizIds) {
+        jobRepository.extendLeases(owner, quizIds, LocalDateTime.now().plusSeconds(leaseSeconds));
+    }
+
+    @Transactional
+    public void markSucceeded(Long quizId, String owner) {
+        jobRepository.findByQuizId(quizId)
+                .filter(job -> job.isOwnedBy(owner))
+                .ifPresent(QuizGenerationJob::succeed);
+    }
+
+    // 시도 횟수가 남았으면 지수 백오프 후 다시 대기, 아니면 작업과 퀴즈를 실패 처리
+    @Transactional
+    public void retryOrFail(Long quizId, String owner, Throwable cause) {
+        jobRepository.findByQuizId(quizId)
+                .filter(job -> job.isOwnedBy(owner))
+                .ifPresent(job -> {
+                    String error = String.valueOf(cause);
+                    if (job.getAttempts() < maxAttempts) {
+                        long backoff = retryBackoffSeconds << (job.getAttempts() - 1);
+                        job.scheduleRetry(LocalDateTime.now().plusSeconds(backoff), error);
+                        log.warn("Quiz generation for quizId {} failed (attempt {}/{}). Retrying in {}s.",
+                                quizId, job.getAttempts(), maxAttempts, backoff);
+                    } else {
+                        job.fail(error);
+                        quizTransactionService.updateQuizStatusToFailed(quizId);
+                        log.error("Quiz generation for quizId {} failed after {} attempts.", quizId, job.getAttempts());
+                    }
+                });
+    }
+
+    // 실행 중 노드가 죽었고 더 이상 시도할 수 없는 작업 정리
+    @Transactional
+    public void failExhausted() {
+        for (QuizGenerationJob job : jobRepository.findExhausted(LocalDateTime.now(), maxAttempts)) {
+            job.fail("Lease expired after " + job.getAttempts() + " attempts");
+            quizTransactionService.updateQuizStatusToFailed(job.getQuizId());
+        }
+    }
+
+    @Transactional
+    public int enqueueOrphanedQuizzes() {
+        List<Long> quizIds = jobRepository.findOrphanedGeneratingQuizIds();
+        quizIds.forEach(this::enqueue);
+        return quizIds.size();
+    }
+}
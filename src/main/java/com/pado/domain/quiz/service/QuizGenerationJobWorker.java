@@ -0,0 +1,113 @@
+package com.pado.domain.quiz.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 퀴즈 생성 작업 큐를 주기적으로 확인해 이 노드에서 실행
+// 어느 노드든 작업을 가져갈 수 있고, 실행 중인 작업은 heartbeat 로 임대를 연장
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizGenerationJobWorker {
+
+    private final QuizGenerationJobService jobService;
+    private final QuizAsyncService quizAsyncService;
+
+    private final String workerId = UUID.randomUUID().toString();
+    private final Set<Long> runningQuizIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${quiz.job.max-concurrent-jobs:20}")
+    private int maxConcurrentJobs;
+
+    @Value("${quiz.job.timeout-seconds:200}")
+    private long timeoutSeconds;
+
+    // 서버 시작 시 작업 없이 GENERATING 으로 남은 퀴즈를 다시 큐에 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOrphanedQuizzes() {
+        int recovered = jobService.enqueueOrphanedQuizzes();
+        if (recovered > 0) {
+            log.info("Re-queued {} orphaned GENERATING quizzes.", recovered);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.job.poll-interval-ms:1000}")
+    public void poll() {
+        jobService.failExhausted();
+
+        int capacity = maxConcurrentJobs - runningQuizIds.size();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<Long> claimed = jobService.claim(workerId, capacity);
+        claimed.forEach(this::run);
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.job.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (!runningQuizIds.isEmpty()) {
+            jobService.extendLeases(workerId, Set.copyOf(runningQuizIds));
+        }
+    }
+
+    // orTimeout 은 진행 중인 파일 추출/AI 호출을 멈추지 못하므로, 제한 시간이 지나도 경고만 남기고
+    // 원래 작업이 실제로 끝날 때까지 임대를 유지 (먼저 반납하면 다른 노드가 같은 퀴즈를 동시에 생성함)
+    // AI 호출마다 제한 시간이 있어 작업은 결국 끝나고, 그때 결과를 기록하며 임대를 반납
+    private void run(Long quizId) {
+        runningQuizIds.add(quizId);
+        CompletableFuture<Void> generation;
+        try {
+            generation = quizAsyncService.generateQuiz(quizId);
+        } catch (RuntimeException e) {
+            // 스레드 풀이 가득 차면(TaskRejectedException) 호출 즉시 예외가 나므로
+            // heartbeat 가 임대를 계속 연장하지 않도록 목록에서 빼고 재시도 대기로 돌림
+            runningQuizIds.remove(quizId);
+            log.warn("Quiz generation for quizId {} could not be started.", quizId, e);
+            recordResult(quizId, e);
+            return;
+        }
+
+        generation.copy()
+                .orTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .exceptionally(ex -> {
+                    if (ex instanceof TimeoutException) {
+                        log.warn("Quiz generation for quizId {} is still running after {}s. Keeping the lease until it finishes.",
+                                quizId, timeoutSeconds);
+                    }
+                    return null;
+                });
+
+        generation.whenComplete((result, ex) -> {
+            runningQuizIds.remove(quizId);
+            recordResult(quizId, ex);
+        });
+    }
+
+    private void recordResult(Long quizId, Throwable ex) {
+        try {
+            if (ex == null) {
+                log.info("Async task for quizId {} completed successfully.", quizId);
+                jobService.markSucceeded(quizId, workerId);
+            } else {
+                jobService.retryOrFail(quizId, workerId, ex);
+            }
+        } catch (RuntimeException e) {
+            // 상태 기록에 실패해도 임대가 만료되면 다른 노드가 다시 가져감
+            log.error("Failed to record quiz generation result for quizId {}.", quizId, e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.domain.quiz.dto.response.QuizGenerationProgressDto;
+import com.pado.domain.quiz.dto.response.QuizGenerationProgressDto.Stage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 퀴즈 생성 진행 상황을 스터디 퀴즈 토픽으로 전송 (클라이언트가 상태를 폴링하지 않도록)
+// 구독 권한은 StompAuthChannelInterceptor 의 /topic/studies/{studyId}/** 스터디원 검증을 그대로 사용
+// 트랜잭션 안에서 호출되면 커밋 이후에 전송해, 알림을 받은 클라이언트가 변경 전 상태를 조회하지 않게 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizProgressPublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public void extracted(Long studyId, Long quizId, int totalQuestions) {
+        publish(studyId, new QuizGenerationProgressDto(quizId, Stage.EXTRACTED, 0, totalQuestions));
+    }
+
+    public void questionGenerated(Long studyId, Long quizId, int completedQuestions, int totalQuestions) {
+        publish(studyId, new QuizGenerationProgressDto(quizId, Stage.QUESTION_GENERATED, completedQuestions, totalQuestions));
+    }
+
+    public void completed(Long studyId, Long quizId, int totalQuestions) {
+        publish(studyId, new QuizGenerationProgressDto(quizId, Stage.COMPLETED, totalQuestions, totalQuestions));
+    }
+
+    public void failed(Long studyId, Long quizId) {
+        publish(studyId, new QuizGenerationProgressDto(quizId, Stage.FAILED, 0, 0));
+    }
+
+    private void publish(Long studyId, QuizGenerationProgressDto progress) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(studyId, progress);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(studyId, progress);
+            }
+        });
+    }
+
+    // 진행 알림 실패가 퀴즈 생성을 실패시키지 않도록 예외는 기록만 함
+    private void send(Long studyId, QuizGenerationProgressDto progress) {
+        try {
+            messagingTemplate.convertAndSend("/topic/studies/" + studyId + "/quizzes", progress);
+        } catch (MessagingException e) {
+            log.warn("퀴즈 진행 상황 전송 실패: studyId={}, quizId={}, message={}", studyId, progress.quizId(), e.getMessage());
+        }
+    }
+}
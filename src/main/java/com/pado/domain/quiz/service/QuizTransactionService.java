@@ -2,7 +2,9 @@ package com.pado.domain.quiz.service;
 
 import com.pado.domain.quiz.entity.*;
 import com.pado.domain.quiz.event.QuizCompletedEvent;
+import com.pado.domain.quiz.repository.QuizQuestionJdbcRepository;
 import com.pado.domain.quiz.repository.QuizRepository;
+import com.pado.domain.quiz.repository.dto.QuestionInsertDto;
 import com.pado.global.exception.common.BusinessException;
 import com.pado.global.exception.common.ErrorCode;
 import com.pado.infrastruture.ai.dto.AiQuestionDto;
@@ -21,22 +23,32 @@ import java.util.List;
 public class QuizTransactionService {
 
     private final QuizRepository quizRepository;
+    private final QuizQuestionJdbcRepository quizQuestionJdbcRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final QuizProgressPublisher progressPublisher;
 
     @Transactional
     public void saveSuccessfulQuiz(Long quizId, AiQuizResponseDto aiQuizDto) {
-        Quiz quiz = quizRepository.findById(quizId)
+        Quiz quiz = quizRepository.findWithLockById(quizId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
 
-        List<QuizQuestion> newQuestions = aiQuizDto.questions().stream()
-                .map(dto -> mapDtoToQuestion(quiz, dto))
+        // 시간 초과로 재시도된 작업이 늦게 끝나는 경우 등, 이미 처리된 퀴즈에는 문제를 중복 저장하지 않음
+        if (quiz.getStatus() != QuizStatus.GENERATING) {
+            log.info("Quiz {} is no longer generating (status: {}). Skipping save.", quizId, quiz.getStatus());
+            return;
+        }
+
+        // 문제/선택지는 JPA 영속화 대신 테이블별 JDBC 배치로 저장
+        List<QuestionInsertDto> newQuestions = aiQuizDto.questions().stream()
+                .map(this::toInsertDto)
                 .toList();
+        quizQuestionJdbcRepository.insertQuestions(quizId, newQuestions);
 
-        quiz.addQuestions(newQuestions);
         quiz.setTimeLimitSeconds(aiQuizDto.recommendedTimeLimitSeconds());
         quiz.updateStatus(QuizStatus.ACTIVE);
         log.info("Successfully generated and saved quiz for quizId: {}", quiz.getId());
         eventPublisher.publishEvent(new QuizCompletedEvent(quiz.getStudy().getId(), quiz.getTitle(), quiz.getId()));
+        progressPublisher.completed(quiz.getStudy().getId(), quizId, newQuestions.size());
 
     }
 
@@ -45,40 +57,19 @@ public class QuizTransactionService {
         quizRepository.findById(quizId).ifPresent(quiz -> {
             if (quiz.getStatus() == QuizStatus.GENERATING) {
                 quiz.updateStatus(QuizStatus.FAILED);
+                progressPublisher.failed(quiz.getStudy().getId(), quizId);
             }
         });
     }
 
-    private QuizQuestion mapDtoToQuestion(Quiz quiz, AiQuestionDto dto) {
-        // 객관식일 때
-        if ("MULTIPLE_CHOICE".equals(dto.questionType())) {
-            MultipleChoiceQuestion question = MultipleChoiceQuestion.builder()
-                    .quiz(quiz)
-                    .questionText(dto.questionText())
-                    .explanation(dto.explanation())
-                    .build();
-
-            List<QuizChoice> choices = dto.options().stream()
-                    .map(text -> QuizChoice.builder()
-                            .question(question)
-                            .choiceText(text)
-                            .build()
-                    )
-                    .toList();
-            question.setChoices(choices);
-
-            if (dto.correctAnswerIndex() != null && dto.correctAnswerIndex() < choices.size()) {
-                question.setCorrectChoice(choices.get(dto.correctAnswerIndex()));
-            }
-            return question;
-            // 주관식일 때
-        } else {
-            return ShortAnswerQuestion.builder()
-                    .quiz(quiz)
-                    .questionText(dto.questionText())
-                    .explanation(dto.explanation())
-                    .answer(dto.sampleAnswer())
-                    .build();
-        }
+    private QuestionInsertDto toInsertDto(AiQuestionDto dto) {
+        return new QuestionInsertDto(
+                dto.questionType(),
+                dto.questionText(),
+                dto.explanation(),
+                dto.options(),
+                dto.correctAnswerIndex(),
+                dto.sampleAnswer()
+        );
     }
-}
\ No newline at end of file
+}
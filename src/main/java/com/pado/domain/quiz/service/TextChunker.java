@@ -0,0 +1,141 @@
+package com.pado.domain.quiz.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// 추출된 텍스트를 문단/제목 경계 기준으로 일정 크기 이하의 청크로 나누고, 청크별 첫 문장으로 짧은 개요를 만듦
+// 토큰 수는 글자 수로 근사 (한국어는 대략 글자당 1토큰 이하)
+final class TextChunker {
+
+    private static final Pattern HEADING = Pattern.compile(
+            "^(#{1,6}\\s|제\\s*\\d+\\s*[장절편]|\\d+(\\.\\d+)*[.)]?\\s|chapter\\s|[IVX]+\\.\\s)",
+            Pattern.CASE_INSENSITIVE);
+    private static final int MAX_HEADING_LENGTH = 80;
+    private static final int MIN_SUMMARY_LINE_LENGTH = 40;
+    private static final int MAX_SUMMARY_LINE_LENGTH = 200;
+
+    private TextChunker() {
+    }
+
+    static List<String> split(String text, int maxChars) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String line : text.split("\n")) {
+            String paragraph = line.strip();
+            if (paragraph.isEmpty()) {
+                continue;
+            }
+
+            // 제목으로 보이는 줄에서는 현재 청크가 절반 이상 찼으면 새 청크로 시작
+            if (isHeading(paragraph) && current.length() >= maxChars / 2) {
+                flush(current, chunks);
+            }
+
+            for (String piece : splitLongParagraph(paragraph, maxChars)) {
+                if (!current.isEmpty() && current.length() + 1 + piece.length() > maxChars) {
+                    flush(current, chunks);
+                }
+                if (!current.isEmpty()) {
+                    current.append('\n');
+                }
+                current.append(piece);
+            }
+        }
+        flush(current, chunks);
+        return chunks;
+    }
+
+    // 청크 앞부분을 한 문장씩 모아 maxChars 이하의 개요 생성
+    // 청크가 많으면 문서 전체에서 고르게 골라 앞부분에 치우치지 않도록 함
+    static String summarize(List<String> chunks, int maxChars) {
+        if (chunks.isEmpty()) {
+            return "";
+        }
+
+        int lineCount = Math.min(chunks.size(), Math.max(1, maxChars / (MIN_SUMMARY_LINE_LENGTH + 3)));
+        int perLine = Math.min(MAX_SUMMARY_LINE_LENGTH, maxChars / lineCount - 3);
+
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            String chunk = chunks.get((int) ((long) i * chunks.size() / lineCount));
+            if (!summary.isEmpty()) {
+                summary.append('\n');
+            }
+            summary.append("- ").append(leadingSentence(chunk, perLine));
+        }
+        return summary.toString();
+    }
+
+    private static boolean isHeading(String paragraph) {
+        return paragraph.length() <= MAX_HEADING_LENGTH && HEADING.matcher(paragraph).find();
+    }
+
+    // 한도를 넘는 문단은 문장 끝 → 공백 → 글자 순으로 자를 위치를 찾아 나눔
+    private static List<String> splitLongParagraph(String paragraph, int maxChars) {
+        if (paragraph.length() <= maxChars) {
+            return List.of(paragraph);
+        }
+
+        List<String> pieces = new ArrayList<>();
+        int start = 0;
+        while (paragraph.length() - start > maxChars) {
+            int cut = findCut(paragraph, start, start + maxChars);
+            addIfNotBlank(pieces, paragraph.substring(start, cut));
+            start = cut;
+        }
+        addIfNotBlank(pieces, paragraph.substring(start));
+        return pieces;
+    }
+
+    private static int findCut(String text, int start, int end) {
+        int minimum = start + (end - start) / 2;
+
+        int sentenceEnd = lastSentenceEnd(text, minimum, end);
+        if (sentenceEnd > minimum) {
+            return sentenceEnd;
+        }
+
+        int space = text.lastIndexOf(' ', end - 1);
+        if (space > minimum) {
+            return space + 1;
+        }
+
+        // 서로게이트 쌍 중간에서 자르지 않음
+        return Character.isHighSurrogate(text.charAt(end - 1)) ? end - 1 : end;
+    }
+
+    private static int lastSentenceEnd(String text, int from, int end) {
+        for (int i = end - 1; i > from; i--) {
+            char c = text.charAt(i - 1);
+            if ((c == '.' || c == '?' || c == '!' || c == '。') && text.charAt(i) == ' ') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static String leadingSentence(String chunk, int maxChars) {
+        String firstLine = chunk.lines().findFirst().orElse("");
+        if (firstLine.length() <= maxChars) {
+            return firstLine;
+        }
+        int cut = findCut(firstLine, 0, maxChars);
+        return firstLine.substring(0, cut).strip();
+    }
+
+    private static void addIfNotBlank(List<String> pieces, String piece) {
+        String stripped = piece.strip();
+        if (!stripped.isEmpty()) {
+            pieces.add(stripped);
+        }
+    }
+
+    private static void flush(StringBuilder current, List<String> chunks) {
+        if (!current.isEmpty()) {
+            chunks.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
@@ -7,6 +7,10 @@ import jakarta.validation.constraints.NotBlank;
 public record UploadFilePreSignedUrlRequestDto(
         @Schema(name = "name", description = "업로드할 파일의 원본 이름", example = "my-report.pdf")
         @NotBlank
-        String name
+        String name,
+
+        @Schema(name = "checksumSha256", description = "(선택) 파일 내용의 SHA-256 (Base64). 보내면 업로드 시 x-amz-checksum-sha256 헤더로 같은 값을 보내야 함",
+                example = "n4bQgYhMfWWaL+qgxVrQFaO/TxsrC4Is0V1sFbDwCgg=")
+        String checksumSha256
 ) {
 }
@@ -9,8 +9,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ContentDisposition;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -21,6 +23,9 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -41,7 +46,7 @@ public class S3Service {
     public UploadPreSignedUrlResponseDto createUploadPresignedUrl(UploadFilePreSignedUrlRequestDto request) {
         String fileName = request.name();
         String key = generateFileKey(fileName);
-        String presignedUrl = generatePresignedUploadUrl(key);
+        String presignedUrl = generatePresignedUploadUrl(key, request.checksumSha256());
 
         return new UploadPreSignedUrlResponseDto(presignedUrl, key);
     }
@@ -102,10 +107,15 @@ public class S3Service {
 
     //파일 업로드용 Presigned URL 생성 (15분 유효)
     public String generatePresignedUploadUrl(String key) {
+        return generatePresignedUploadUrl(key, null);
+    }
+
+    // 체크섬을 함께 서명하면 S3 가 업로드된 내용과 대조하고, 객체에 SHA-256 을 저장함 (findContentSha256 으로 조회)
+    public String generatePresignedUploadUrl(String key, String checksumSha256) {
         try {
             PutObjectPresignRequest putObjectRequest = PutObjectPresignRequest.builder()
                     .signatureDuration(Duration.ofMinutes(15))
-                    .putObjectRequest(req -> req.bucket(bucketName).key(key))
+                    .putObjectRequest(req -> req.bucket(bucketName).key(key).checksumSHA256(checksumSha256))
                     .build();
 
             PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(putObjectRequest);
@@ -207,6 +217,30 @@ public class S3Service {
         }
     }
 
+    // 업로드 시 저장된 SHA-256 체크섬을 16진수로 반환 (다운로드 없이 HEAD 로 조회)
+    // 체크섬 없이 올렸거나 멀티파트 업로드라 전체 내용의 해시가 아니면(값에 '-파트 수'가 붙음) 비어 있음
+    public Optional<String> findContentSha256(String fileKey) {
+        try {
+            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .checksumMode(ChecksumMode.ENABLED)
+                    .build();
+
+            HeadObjectResponse response = s3Client.headObject(headObjectRequest);
+            String checksum = response.checksumSHA256();
+            if (checksum == null || checksum.contains("-")) {
+                return Optional.empty();
+            }
+            return Optional.of(HexFormat.of().formatHex(Base64.getDecoder().decode(checksum)));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception | IllegalArgumentException e) {
+            log.warn("Failed to read SHA-256 checksum of file key '{}': {}", fileKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     // S3Service.java에 추가
     public boolean doesFileExist(String fileKey) {
         try {
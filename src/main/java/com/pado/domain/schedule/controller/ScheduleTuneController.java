@@ -3,9 +3,11 @@ package com.pado.domain.schedule.controller;
 import com.pado.domain.schedule.dto.request.ScheduleCreateRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleTuneCreateRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleTuneParticipantRequestDto;
+import com.pado.domain.schedule.dto.request.ScheduleTuneVoteDeltaRequestDto;
 import com.pado.domain.schedule.dto.response.ScheduleCompleteResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneDetailResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneParticipantResponseDto;
+import com.pado.domain.schedule.dto.response.ScheduleTuneRecommendationResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneResponseDto;
 import com.pado.domain.schedule.service.ScheduleTuneService;
 import com.pado.global.exception.dto.ErrorResponseDto;
@@ -119,7 +121,7 @@ public class ScheduleTuneController {
     @Api404TuningScheduleNotFoundError
     @Operation(
         summary = "조율 상세",
-        description = "조율 상세 정보를 조회합니다(슬롯별 OR 비트맵을 [binary_number] 배열로 반환하고, 참가자 이름/비트 값을 함께 제공합니다).",
+        description = "조율 상세 정보를 조회합니다(슬롯별 OR 비트맵을 [binary_number] 배열과 base64 candidate_bitmap 으로 반환하고, 참가자 이름/비트 위치를 함께 제공합니다).",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(
@@ -130,10 +132,12 @@ public class ScheduleTuneController {
                 {
                   "title":"주간 정기 회의",
                   "description":"안건: 진행상황 점검",
-                  "candidate_dates":,[1]
+                  "candidate_dates":[1],
                   "available_start_time":"2025-09-21T10:00:00",
                   "available_end_time":"2025-09-21T12:00:00",
-                  "participants":[{"id":1,"name":"Alice","candidate_number":1}]
+                  "participants":[{"id":1,"name":"Alice","candidate_number":1,"bit_index":0}],
+                  "candidate_bitmap":"AQ==",
+                  "bitmap_width":1
                 }
                 """
         )
@@ -148,6 +152,49 @@ public class ScheduleTuneController {
         return ResponseEntity.ok(scheduleTuneService.findScheduleTuneDetail(tuneId));
     }
 
+    @Api403ForbiddenStudyMemberOnlyError
+    @Api404TuningScheduleNotFoundError
+    @Operation(
+        summary = "조율 추천 시간대",
+        description = "연속 슬롯 window_slots 개로 이루어진 구간마다 모두 참여 가능한 인원을 세어 상위 limit 개 구간을 반환합니다(필수 참여자 가능 수 > 전체 가능 수 > 이른 시간 순, 날짜를 넘는 구간은 제외).",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(
+        schema = @Schema(implementation = ScheduleTuneRecommendationResponseDto.class),
+        examples = @ExampleObject(
+            name = "tune_recommendations",
+            value = """
+                [
+                  {
+                    "start_time":"2025-09-21T10:00:00",
+                    "end_time":"2025-09-21T11:00:00",
+                    "available_count":5,
+                    "required_available_count":1,
+                    "all_required_available":true
+                  }
+                ]
+                """
+        )
+    ))
+    @Parameters({
+        @Parameter(name = "tune_id", description = "조율 ID", required = true, example = "1234"),
+        @Parameter(name = "window_slots", description = "구간 길이(슬롯 수, 기본값: 2)", example = "2"),
+        @Parameter(name = "limit", description = "반환할 구간 수 (1~20, 기본값: 5)", example = "5"),
+        @Parameter(name = "require_leader", description = "스터디 리더를 필수 참여자로 포함 (기본값: false)", example = "true"),
+        @Parameter(name = "required_participant_ids", description = "필수 참여자 ID 목록 (쉼표로 구분)", example = "1,2")
+    })
+    @GetMapping("schedule-tunes/{tune_id}/recommendations")
+    public ResponseEntity<List<ScheduleTuneRecommendationResponseDto>> getScheduleTuneRecommendations(
+        @PathVariable("tune_id") Long tuneId,
+        @RequestParam(name = "window_slots", defaultValue = "2") int windowSlots,
+        @RequestParam(name = "limit", defaultValue = "5") int limit,
+        @RequestParam(name = "require_leader", defaultValue = "false") boolean requireLeader,
+        @RequestParam(name = "required_participant_ids", required = false) List<Long> requiredParticipantIds
+    ) {
+        return ResponseEntity.ok(scheduleTuneService.recommendSlots(
+            tuneId, windowSlots, limit, requireLeader, requiredParticipantIds));
+    }
+
     @Api403ForbiddenStudyMemberOnlyError
     @Api404TuningScheduleNotFoundError
     @Operation(
@@ -197,6 +244,55 @@ public class ScheduleTuneController {
         return ResponseEntity.ok(scheduleTuneService.participate(tuneId, request));
     }
 
+    @Api403ForbiddenStudyMemberOnlyError
+    @Api404TuningScheduleNotFoundError
+    @Operation(
+        summary = "조율 참여 변경분 반영",
+        description = "바뀐 슬롯 구간만 전송합니다. clear 구간을 불가능으로 바꾼 뒤 set 구간을 가능으로 바꾸며, 다른 멤버의 선택은 그대로 유지됩니다. 구간은 0 <= from <= to < 전체 슬롯 수여야 합니다.",
+        security = @SecurityRequirement(name = "bearerAuth"),
+        requestBody = @RequestBody(
+            required = true,
+            description = "슬롯 구간 변경분",
+            content = @Content(
+                schema = @Schema(implementation = ScheduleTuneVoteDeltaRequestDto.class),
+                examples = @ExampleObject(
+                    name = "vote_delta",
+                    value = """
+                        { "set": [{ "from": 0, "to": 3 }], "clear": [{ "from": 8, "to": 8 }] }
+                        """
+                )
+            )
+        )
+    )
+    @ApiResponse(responseCode = "200", description = "참여 반영 성공", content = @Content(
+        schema = @Schema(implementation = ScheduleTuneParticipantResponseDto.class),
+        examples = @ExampleObject(
+            name = "vote_delta_ok",
+            value = """
+                { "message":"updated" }
+                """
+        )
+    ))
+    @ApiResponse(responseCode = "400", description = "유효성 오류", content = @Content(
+        schema = @Schema(implementation = ErrorResponseDto.class),
+        examples = @ExampleObject(
+            name = "INVALID_INPUT",
+            value = """
+                { "code":"INVALID_INPUT","message":"슬롯 구간은 0 <= from <= to < 12 이어야 합니다.","errors":null,"timestamp":"2025-09-19T10:00:00","path":"/api/schedule-tunes/100/participants" }
+                """
+        )
+    ))
+    @Parameters({
+        @Parameter(name = "tune_id", description = "조율 ID", required = true, example = "1234")
+    })
+    @PatchMapping("schedule-tunes/{tune_id}/participants")
+    public ResponseEntity<ScheduleTuneParticipantResponseDto> updateScheduleTuneVote(
+        @PathVariable("tune_id") Long tuneId,
+        @Valid @org.springframework.web.bind.annotation.RequestBody ScheduleTuneVoteDeltaRequestDto request
+    ) {
+        return ResponseEntity.ok(scheduleTuneService.updateVote(tuneId, request));
+    }
+
     @Api403ForbiddenStudyLeaderOnlyError
     @Api404TuningScheduleNotFoundError
     @Operation(
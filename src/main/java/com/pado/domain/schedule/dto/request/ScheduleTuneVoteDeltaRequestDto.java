@@ -0,0 +1,37 @@
+package com.pado.domain.schedule.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.List;
+
+@Schema(description = "조율 참여 변경분 DTO (바뀐 슬롯 구간만 전송, clear 적용 후 set 적용)")
+public record ScheduleTuneVoteDeltaRequestDto(
+    @Schema(description = "가능으로 바꿀 슬롯 구간 목록")
+    @JsonProperty("set")
+    List<@Valid SlotRange> set,
+
+    @Schema(description = "불가능으로 바꿀 슬롯 구간 목록")
+    @JsonProperty("clear")
+    List<@Valid SlotRange> clear
+) {
+
+    @Schema(description = "슬롯 인덱스 구간 (양 끝 포함)")
+    public record SlotRange(
+        @Schema(description = "시작 슬롯 인덱스", example = "0")
+        @JsonProperty("from")
+        @NotNull(message = "from은 필수입니다.")
+        @PositiveOrZero(message = "from은 0 이상이어야 합니다.")
+        Integer from,
+
+        @Schema(description = "끝 슬롯 인덱스 (포함)", example = "3")
+        @JsonProperty("to")
+        @NotNull(message = "to는 필수입니다.")
+        @PositiveOrZero(message = "to는 0 이상이어야 합니다.")
+        Integer to
+    ) {
+
+    }
+}
@@ -13,7 +13,8 @@ public record ScheduleTuneDetailResponseDto(
         @Schema(description = "일정 설명", example = "모두가 가능한 날짜에 스터디 모임을 잡기 위해 날짜 조율을 시작합니다.")
         String description,
 
-        @Schema(description = "후보 날짜의 가능한 시간들을 나타내는 비트마스크 배열", example = "[3, 5, 2]")
+        @Schema(description = "후보 날짜의 가능한 시간들을 나타내는 비트마스크 배열 (앞 64명까지만 표현, candidate_bitmap 사용 권장)",
+                example = "[3, 5, 2]", deprecated = true)
         List<Long> candidate_dates,
 
         @Schema(description = "참여 가능 시작 시간", example = "2025-09-10T10:00:00")
@@ -23,5 +24,13 @@ public record ScheduleTuneDetailResponseDto(
         LocalDateTime available_end_time,
 
         @Schema(description = "참여자 목록 및 선택한 후보 날짜")
-        List<ScheduleTuneParticipantDto> participants
+        List<ScheduleTuneParticipantDto> participants,
+
+        @Schema(description = "슬롯별 가능 멤버 비트맵 (base64). 슬롯마다 ceil(bitmap_width / 8) 바이트가 순서대로 이어지며, "
+                + "참여자 bit_index 가 i 이면 슬롯 안 (i / 8) 번째 바이트의 (i % 8) 번째 비트",
+                example = "AwUC")
+        String candidate_bitmap,
+
+        @Schema(description = "슬롯 하나의 비트 수 (참여자 bit_index 범위)", example = "3")
+        Integer bitmap_width
 ) {}
\ No newline at end of file
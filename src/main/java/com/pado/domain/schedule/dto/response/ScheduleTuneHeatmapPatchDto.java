@@ -0,0 +1,36 @@
+package com.pado.domain.schedule.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "조율 히트맵 실시간 패치 DTO (/topic/studies/{studyId}/tunes/{tuneId}, 전송 주기 동안의 변경을 합친 값)")
+public record ScheduleTuneHeatmapPatchDto(
+        @Schema(description = "조율 ID", example = "1")
+        Long tune_id,
+
+        @Schema(description = "멤버별 변경 구간 목록")
+        List<MemberPatch> patches
+) {
+
+    @Schema(description = "멤버 한 명의 변경 구간 (clear 적용 후 set 적용)")
+    public record MemberPatch(
+            @Schema(description = "candidate_bitmap 에서의 멤버 비트 위치", example = "3")
+            Integer bit_index,
+
+            @Schema(description = "가능으로 바뀐 슬롯 구간 목록")
+            List<SlotRange> set,
+
+            @Schema(description = "불가능으로 바뀐 슬롯 구간 목록")
+            List<SlotRange> clear
+    ) {}
+
+    @Schema(description = "슬롯 인덱스 구간 (양 끝 포함)")
+    public record SlotRange(
+            @Schema(description = "시작 슬롯 인덱스", example = "0")
+            Integer from,
+
+            @Schema(description = "끝 슬롯 인덱스 (포함)", example = "3")
+            Integer to
+    ) {}
+}
@@ -11,8 +11,11 @@ public record ScheduleTuneParticipantDto(
         @Schema(description = "참여자 닉네임", example = "스터디원1")
         String name,
 
-        @Schema(description = "선택한 후보 시간을 나타내는 비트마스크 값. 각 비트는 시간 슬롯을 의미합니다.",
-                example = "21")
+        @Schema(description = "선택한 후보 시간을 나타내는 비트마스크 값. 각 비트는 시간 슬롯을 의미합니다. (bit_index 가 63 이상이면 0, bit_index 사용 권장)",
+                example = "21", deprecated = true)
         @NotNull(message = "후보 날짜 정보는 필수 입력 항목입니다.")
-        Long candidate_number
+        Long candidate_number,
+
+        @Schema(description = "candidate_bitmap 에서 이 참여자의 비트 위치 (0부터)", example = "0")
+        Integer bit_index
 ) {}
\ No newline at end of file
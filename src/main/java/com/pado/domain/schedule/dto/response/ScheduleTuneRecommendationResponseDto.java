@@ -0,0 +1,23 @@
+package com.pado.domain.schedule.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "조율 추천 시간대 응답 DTO")
+public record ScheduleTuneRecommendationResponseDto(
+        @Schema(description = "추천 시작 시간", example = "2025-09-21T10:00:00")
+        LocalDateTime start_time,
+
+        @Schema(description = "추천 종료 시간", example = "2025-09-21T11:00:00")
+        LocalDateTime end_time,
+
+        @Schema(description = "구간 전체에 참여 가능한 인원 수", example = "5")
+        int available_count,
+
+        @Schema(description = "필수 참여자 중 구간 전체에 참여 가능한 인원 수", example = "1")
+        int required_available_count,
+
+        @Schema(description = "필수 참여자가 모두 참여 가능한지 여부", example = "true")
+        boolean all_required_available
+) {}
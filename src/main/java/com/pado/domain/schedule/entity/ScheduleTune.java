@@ -55,6 +55,17 @@ public class ScheduleTune extends AuditingEntity {
     @Column(name = "status", nullable = false, length = 20)
     private ScheduleTuneStatus status;
 
+    // 멤버 x 슬롯 가능 여부 비트 행렬 (SlotMatrix 직렬화)
+    // null 이면 schedule_tune_slot 행에 저장하던 이전 조율 (ScheduleTuneMatrixMigrator 가 옮김)
+    @Lob
+    @Column(name = "occupancy_matrix")
+    private byte[] occupancyMatrix;
+
+    // 투표는 행렬 컬럼 하나를 덮어쓰므로 동시 투표는 버전으로 충돌을 감지
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "scheduleTune", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ScheduleTuneParticipant> participants = new ArrayList<>();
 
@@ -70,7 +81,8 @@ public class ScheduleTune extends AuditingEntity {
         LocalTime availableStartTime,
         LocalTime availableEndTime,
         Integer slotMinutes,
-        ScheduleTuneStatus status) {
+        ScheduleTuneStatus status,
+        byte[] occupancyMatrix) {
         this.studyId = studyId;
         this.title = title;
         this.description = description;
@@ -80,6 +92,11 @@ public class ScheduleTune extends AuditingEntity {
         this.availableEndTime = availableEndTime;
         this.slotMinutes = (slotMinutes == null ? 30 : slotMinutes);
         this.status = (status == null ? ScheduleTuneStatus.PENDING : status);
+        this.occupancyMatrix = occupancyMatrix;
+    }
+
+    public void updateOccupancyMatrix(byte[] occupancyMatrix) {
+        this.occupancyMatrix = occupancyMatrix;
     }
 
     public void complete() {
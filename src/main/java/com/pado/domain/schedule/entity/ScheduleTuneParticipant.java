@@ -37,6 +37,11 @@ public class ScheduleTuneParticipant extends AuditingEntity {
     @Column(name = "study_member_id", nullable = false)
     private Long studyMemberId;
 
+    // 조율 비트 행렬에서 이 참여자의 비트 위치 (0부터, 멤버 수 제한 없음)
+    @Column(name = "bit_index", nullable = false)
+    private Integer bitIndex;
+
+    // 이전 API 호환용 2^bit_index (63 이상이면 0)
     @Column(name = "candidate_number", nullable = false)
     private Long candidateNumber;
 
@@ -46,10 +51,12 @@ public class ScheduleTuneParticipant extends AuditingEntity {
     @Builder
     public ScheduleTuneParticipant(ScheduleTune scheduleTune,
         Long studyMemberId,
+        Integer bitIndex,
         Long candidateNumber,
         LocalDateTime votedAt) {
         this.scheduleTune = scheduleTune;
         this.studyMemberId = studyMemberId;
+        this.bitIndex = bitIndex;
         this.candidateNumber = candidateNumber;
         this.votedAt = votedAt;
     }
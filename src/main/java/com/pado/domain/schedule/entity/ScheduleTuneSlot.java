@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+// 슬롯마다 한 행씩 두던 이전 저장 방식 (ScheduleTune.occupancyMatrix 로 옮긴 뒤 삭제됨)
 @Entity
 @Table(
     name = "schedule_tune_slot",
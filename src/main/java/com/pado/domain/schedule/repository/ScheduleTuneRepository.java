@@ -5,6 +5,7 @@ import com.pado.domain.schedule.entity.ScheduleTuneStatus;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +16,8 @@ public interface ScheduleTuneRepository extends JpaRepository<ScheduleTune, Long
     Optional<ScheduleTune> findByIdAndStudyId(Long id, Long studyId);
 
     boolean existsByIdAndStatus(Long id, ScheduleTuneStatus status);
+
+    // 아직 슬롯 행에만 가능 여부가 저장된 이전 조율
+    @Query("select t.id from ScheduleTune t where t.occupancyMatrix is null order by t.id")
+    List<Long> findIdsWithoutOccupancyMatrix();
 }
@@ -3,15 +3,8 @@ package com.pado.domain.schedule.repository;
 import com.pado.domain.schedule.entity.ScheduleTuneSlot;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
-
 @Repository
 public interface ScheduleTuneSlotRepository extends JpaRepository<ScheduleTuneSlot, Long> {
 
@@ -20,10 +13,4 @@ public interface ScheduleTuneSlotRepository extends JpaRepository<ScheduleTuneSl
     boolean existsByScheduleTuneId(Long scheduleTuneId);
 
     void deleteByScheduleTuneId(Long scheduleTuneId);
-
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000"))
-    @Query("select s from ScheduleTuneSlot s where s.scheduleTune.id = :tuneId order by s.slotIndex asc")
-    List<ScheduleTuneSlot> findByScheduleTuneIdOrderBySlotIndexAscForUpdate(
-        @Param("tuneId") Long tuneId);
 }
@@ -0,0 +1,132 @@
+package com.pado.domain.schedule.service;
+
+import com.pado.domain.schedule.dto.response.ScheduleTuneHeatmapPatchDto;
+import com.pado.domain.schedule.dto.response.ScheduleTuneHeatmapPatchDto.MemberPatch;
+import com.pado.domain.schedule.dto.response.ScheduleTuneHeatmapPatchDto.SlotRange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 조율 투표로 바뀐 멤버 비트를 모아 조율별로 한 주기에 한 번의 패치 프레임으로 전송
+// 구독 권한은 StompAuthChannelInterceptor 의 /topic/studies/{studyId}/** 스터디원 검증을 그대로 사용
+// 커밋된 투표만 반영하고, 같은 멤버의 연속 투표는 슬롯별 마지막 값으로 합쳐서 보냄
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleTuneHeatmapCoalescer {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // <tuneId, 전송 대기 중인 변경>
+    private final Map<Long, PendingTune> pendingByTune = new ConcurrentHashMap<>();
+
+    // 투표 전후 멤버 행을 비교해 실제로 바뀐 슬롯만 기록 (트랜잭션 안이면 커밋 이후)
+    public void record(Long studyId, Long tuneId, int bitIndex, BitSet before, BitSet after) {
+        BitSet changed = (BitSet) before.clone();
+        changed.xor(after);
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            merge(studyId, tuneId, bitIndex, changed, after);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                merge(studyId, tuneId, bitIndex, changed, after);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.tune.heatmap.flush-interval-ms:200}")
+    public void flush() {
+        for (Long tuneId : pendingByTune.keySet()) {
+            PendingTune pending = pendingByTune.remove(tuneId);
+            if (pending == null || pending.members.isEmpty()) {
+                continue;
+            }
+
+            try {
+                messagingTemplate.convertAndSend(
+                        "/topic/studies/" + pending.studyId + "/tunes/" + tuneId,
+                        new ScheduleTuneHeatmapPatchDto(tuneId, pending.toPatches())
+                );
+            } catch (MessagingException e) {
+                log.warn("조율 히트맵 패치 전송 실패: tuneId={}, message={}", tuneId, e.getMessage());
+            }
+        }
+    }
+
+    private void merge(Long studyId, Long tuneId, int bitIndex, BitSet changed, BitSet after) {
+        pendingByTune.compute(tuneId, (id, pending) -> {
+            PendingTune merged = pending != null ? pending : new PendingTune(studyId);
+            merged.members.computeIfAbsent(bitIndex, i -> new PendingMember()).merge(changed, after);
+            return merged;
+        });
+    }
+
+    private static List<SlotRange> toRanges(BitSet bits) {
+        List<SlotRange> ranges = new ArrayList<>();
+        for (int from = bits.nextSetBit(0); from >= 0; ) {
+            int to = bits.nextClearBit(from) - 1;
+            ranges.add(new SlotRange(from, to));
+            from = bits.nextSetBit(to + 1);
+        }
+        return ranges;
+    }
+
+    private static final class PendingTune {
+
+        private final Long studyId;
+        // <bitIndex, 변경> (bit_index 순으로 전송)
+        private final Map<Integer, PendingMember> members = new TreeMap<>();
+
+        private PendingTune(Long studyId) {
+            this.studyId = studyId;
+        }
+
+        private List<MemberPatch> toPatches() {
+            return members.entrySet().stream()
+                    .map(entry -> entry.getValue().toPatch(entry.getKey()))
+                    .toList();
+        }
+    }
+
+    private static final class PendingMember {
+
+        // 이번 주기에 한 번이라도 바뀐 슬롯과, 그 슬롯의 마지막 값
+        private final BitSet changed = new BitSet();
+        private final BitSet value = new BitSet();
+
+        private void merge(BitSet newlyChanged, BitSet after) {
+            BitSet latest = (BitSet) after.clone();
+            latest.and(newlyChanged);
+            value.andNot(newlyChanged);
+            value.or(latest);
+            changed.or(newlyChanged);
+        }
+
+        private MemberPatch toPatch(int bitIndex) {
+            BitSet set = (BitSet) changed.clone();
+            set.and(value);
+            BitSet clear = (BitSet) changed.clone();
+            clear.andNot(value);
+            return new MemberPatch(bitIndex, toRanges(set), toRanges(clear));
+        }
+    }
+}
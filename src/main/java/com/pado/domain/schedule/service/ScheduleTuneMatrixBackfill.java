@@ -0,0 +1,41 @@
+package com.pado.domain.schedule.service;
+
+import com.pado.domain.schedule.repository.ScheduleTuneRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+// 서버 시작 시 슬롯 행에만 저장된 이전 조율을 비트 행렬로 옮김
+// 모두 옮겨진 뒤에는 schedule_tune_slot 테이블을 삭제해도 됨 (sql/migration/schedule_tune_matrix.sql)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleTuneMatrixBackfill {
+
+    private final ScheduleTuneMatrixMigrator migrator;
+    private final ScheduleTuneRepository scheduleTuneRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Long> tuneIds = scheduleTuneRepository.findIdsWithoutOccupancyMatrix();
+        int migrated = 0;
+        for (Long tuneId : tuneIds) {
+            try {
+                if (migrator.migrate(tuneId)) {
+                    migrated++;
+                }
+            } catch (DataAccessException e) {
+                // 동시에 투표가 들어와 먼저 옮겨졌거나 일시 오류, 다음 기동 또는 첫 투표 때 다시 옮김
+                log.warn("Schedule tune matrix migration skipped. tuneId={}, message={}",
+                    tuneId, e.getMessage());
+            }
+        }
+        if (migrated > 0) {
+            log.info("Migrated {} schedule tunes to occupancy matrix.", migrated);
+        }
+    }
+}
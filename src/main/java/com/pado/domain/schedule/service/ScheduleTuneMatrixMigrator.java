@@ -0,0 +1,78 @@
+package com.pado.domain.schedule.service;
+
+import com.pado.domain.schedule.entity.ScheduleTune;
+import com.pado.domain.schedule.entity.ScheduleTuneParticipant;
+import com.pado.domain.schedule.entity.ScheduleTuneSlot;
+import com.pado.domain.schedule.repository.ScheduleTuneParticipantRepository;
+import com.pado.domain.schedule.repository.ScheduleTuneRepository;
+import com.pado.domain.schedule.repository.ScheduleTuneSlotRepository;
+import com.pado.domain.schedule.util.BitMaskUtils;
+import com.pado.domain.schedule.util.SlotMatrix;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 조율 가능 여부 저장소를 슬롯별 행(schedule_tune_slot)에서 조율당 비트 행렬 한 행으로 옮김
+// 행렬이 없는 이전 조율은 읽을 때 슬롯 행으로 행렬을 만들어 쓰고, 처음 저장할 때 슬롯 행을 지움
+@Component
+@RequiredArgsConstructor
+public class ScheduleTuneMatrixMigrator {
+
+    private final ScheduleTuneRepository scheduleTuneRepository;
+    private final ScheduleTuneSlotRepository scheduleTuneSlotRepository;
+    private final ScheduleTuneParticipantRepository scheduleTuneParticipantRepository;
+
+    public SlotMatrix load(ScheduleTune tune) {
+        if (tune.getOccupancyMatrix() != null) {
+            return SlotMatrix.fromBytes(tune.getOccupancyMatrix());
+        }
+        return fromSlots(
+            scheduleTuneSlotRepository.findByScheduleTuneIdOrderBySlotIndexAsc(tune.getId()),
+            maxBitIndex(tune.getId()) + 1);
+    }
+
+    // 호출한 트랜잭션 안에서 행렬을 반영, 이전 조율이었다면 슬롯 행도 함께 삭제
+    public void store(ScheduleTune tune, SlotMatrix matrix) {
+        boolean legacy = tune.getOccupancyMatrix() == null;
+        tune.updateOccupancyMatrix(matrix.toBytes());
+        scheduleTuneRepository.save(tune);
+        if (legacy) {
+            scheduleTuneSlotRepository.deleteByScheduleTuneId(tune.getId());
+        }
+    }
+
+    @Transactional
+    public boolean migrate(Long tuneId) {
+        ScheduleTune tune = scheduleTuneRepository.findById(tuneId).orElse(null);
+        if (tune == null || tune.getOccupancyMatrix() != null) {
+            return false;
+        }
+        store(tune, load(tune));
+        return true;
+    }
+
+    // 슬롯 행의 occupancy_bits 버퍼 크기를 멤버 수로 사용 (탈퇴한 멤버의 비트 위치도 유지)
+    // candidate_number = 0 이던 참여자는 이전 비트 범위 밖의 bit_index 를 새로 받으므로 그 위치까지 넓힘
+    static SlotMatrix fromSlots(List<ScheduleTuneSlot> slots, int minMemberCount) {
+        int slotWidth = slots.isEmpty() ? 0 : slots.get(0).getOccupancyBits().length * 8;
+        int memberCount = Math.max(slotWidth, minMemberCount);
+        SlotMatrix matrix = SlotMatrix.empty(memberCount, slots.size());
+        for (int slot = 0; slot < slots.size(); slot++) {
+            byte[] bits = slots.get(slot).getOccupancyBits();
+            for (int member = 0; member < Math.min(memberCount, bits.length * 8); member++) {
+                if (BitMaskUtils.getBit(bits, member)) {
+                    matrix.set(member, slot, true);
+                }
+            }
+        }
+        return matrix;
+    }
+
+    private int maxBitIndex(Long tuneId) {
+        return scheduleTuneParticipantRepository.findByScheduleTuneId(tuneId).stream()
+            .mapToInt(ScheduleTuneParticipant::getBitIndex)
+            .max()
+            .orElse(-1);
+    }
+}
@@ -2,10 +2,12 @@ package com.pado.domain.schedule.service;
 
 import com.pado.domain.schedule.dto.request.ScheduleTuneCreateRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleTuneParticipantRequestDto;
+import com.pado.domain.schedule.dto.request.ScheduleTuneVoteDeltaRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleCreateRequestDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneDetailResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneParticipantResponseDto;
+import com.pado.domain.schedule.dto.response.ScheduleTuneRecommendationResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleCompleteResponseDto;
 import java.util.List;
 
@@ -17,8 +19,14 @@ public interface ScheduleTuneService {
 
     ScheduleTuneDetailResponseDto findScheduleTuneDetail(Long tuneId);
 
+    List<ScheduleTuneRecommendationResponseDto> recommendSlots(Long tuneId, int windowSlots,
+        int limit, boolean requireLeader, List<Long> requiredParticipantIds);
+
     ScheduleTuneParticipantResponseDto participate(Long tuneId,
         ScheduleTuneParticipantRequestDto request);
 
+    ScheduleTuneParticipantResponseDto updateVote(Long tuneId,
+        ScheduleTuneVoteDeltaRequestDto request);
+
     ScheduleCompleteResponseDto complete(Long tuneId, ScheduleCreateRequestDto request);
 }
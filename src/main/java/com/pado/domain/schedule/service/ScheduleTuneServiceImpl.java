@@ -3,21 +3,24 @@ package com.pado.domain.schedule.service;
 import com.pado.domain.schedule.dto.request.ScheduleCreateRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleTuneCreateRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleTuneParticipantRequestDto;
+import com.pado.domain.schedule.dto.request.ScheduleTuneVoteDeltaRequestDto;
+import com.pado.domain.schedule.dto.request.ScheduleTuneVoteDeltaRequestDto.SlotRange;
 import com.pado.domain.schedule.dto.response.ScheduleCompleteResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneDetailResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneParticipantDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneParticipantResponseDto;
+import com.pado.domain.schedule.dto.response.ScheduleTuneRecommendationResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneResponseDto;
 import com.pado.domain.schedule.entity.Schedule;
 import com.pado.domain.schedule.entity.ScheduleTune;
 import com.pado.domain.schedule.entity.ScheduleTuneParticipant;
-import com.pado.domain.schedule.entity.ScheduleTuneSlot;
 import com.pado.domain.schedule.entity.ScheduleTuneStatus;
 import com.pado.domain.schedule.repository.ScheduleRepository;
 import com.pado.domain.schedule.repository.ScheduleTuneParticipantRepository;
 import com.pado.domain.schedule.repository.ScheduleTuneRepository;
-import com.pado.domain.schedule.repository.ScheduleTuneSlotRepository;
 import com.pado.domain.schedule.util.BitMaskUtils;
+import com.pado.domain.schedule.util.SlotMatrix;
+import com.pado.domain.schedule.util.SlotWindowRanker;
 import com.pado.domain.study.entity.Study;
 import com.pado.domain.study.entity.StudyMember;
 import com.pado.domain.study.repository.StudyMemberRepository;
@@ -31,12 +34,20 @@ import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -45,10 +56,14 @@ import org.springframework.stereotype.Service;
 @Transactional
 public class ScheduleTuneServiceImpl implements ScheduleTuneService {
 
+    private static final int SLOT_MINUTES = 30;
+    private static final int MAX_RECOMMENDATIONS = 20;
+
     private final ScheduleTuneRepository scheduleTuneRepository;
     private final ScheduleTuneParticipantRepository scheduleTuneParticipantRepository;
-    private final ScheduleTuneSlotRepository scheduleTuneSlotRepository;
+    private final ScheduleTuneMatrixMigrator matrixMigrator;
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleTuneHeatmapCoalescer heatmapCoalescer;
 
     private final StudyRepository studyRepository;
     private final StudyMemberRepository studyMemberRepository;
@@ -64,6 +79,11 @@ public class ScheduleTuneServiceImpl implements ScheduleTuneService {
         validateDateTimeWindow(request.startDate(), request.endDate(),
             request.availableStartTime(), request.availableEndTime());
 
+        List<StudyMember> members = studyMemberRepository.findByStudyId(studyId);
+        int slotCount = countSlots(request.startDate(), request.endDate(),
+            request.availableStartTime(), request.availableEndTime(), SLOT_MINUTES);
+
+        // 슬롯별 행 대신 멤버 x 슬롯 비트 행렬을 조율 행에 함께 저장 (INSERT 한 번)
         ScheduleTune tune = ScheduleTune.builder()
             .studyId(studyId)
             .title(request.title())
@@ -72,36 +92,24 @@ public class ScheduleTuneServiceImpl implements ScheduleTuneService {
             .endDate(request.endDate())
             .availableStartTime(request.availableStartTime())
             .availableEndTime(request.availableEndTime())
-            .slotMinutes(30)
+            .slotMinutes(SLOT_MINUTES)
             .status(ScheduleTuneStatus.PENDING)
+            .occupancyMatrix(SlotMatrix.empty(members.size(), slotCount).toBytes())
             .build();
         ScheduleTune saved = scheduleTuneRepository.save(tune);
 
-        List<StudyMember> members = studyMemberRepository.findByStudyId(studyId);
         List<ScheduleTuneParticipant> participants = new ArrayList<>(members.size());
-        long bit = 1L;
-        for (StudyMember m : members) {
+        for (int i = 0; i < members.size(); i++) {
             participants.add(ScheduleTuneParticipant.builder()
                 .scheduleTune(saved)
-                .studyMemberId(m.getId())
-                .candidateNumber(bit)
+                .studyMemberId(members.get(i).getId())
+                .bitIndex(i)
+                .candidateNumber(BitMaskUtils.candidateNumberOf(i))
                 .votedAt(null)
                 .build());
-            bit <<= 1;
         }
         scheduleTuneParticipantRepository.saveAll(participants);
 
-        int memberCount = participants.size();
-        int bytes = Math.max(1, (memberCount + 7) / 8);
-        List<ScheduleTuneSlot> slots = buildSlots(
-            saved,
-            request.startDate(), request.endDate(),
-            request.availableStartTime(), request.availableEndTime(),
-            saved.getSlotMinutes(),
-            bytes
-        );
-        scheduleTuneSlotRepository.saveAll(slots);
-
         return saved.getId();
     }
 
@@ -148,15 +156,16 @@ public class ScheduleTuneServiceImpl implements ScheduleTuneService {
             partDtos.add(new ScheduleTuneParticipantDto(
                 p.getId(),
                 nameByStudyMemberId.get(p.getStudyMemberId()),
-                p.getCandidateNumber()
+                p.getCandidateNumber(),
+                p.getBitIndex()
             ));
         }
 
-        List<ScheduleTuneSlot> slots =
-            scheduleTuneSlotRepository.findByScheduleTuneIdOrderBySlotIndexAsc(tune.getId());
-        List<Long> candidateDates = new ArrayList<>(slots.size());
-        for (ScheduleTuneSlot s : slots) {
-            candidateDates.add(BitMaskUtils.toUnsignedLong(s.getOccupancyBits()));
+        // candidate_dates 는 앞 64명까지만 담기는 이전 형식, 전체 비트는 candidate_bitmap 으로 전달
+        SlotMatrix matrix = matrixMigrator.load(tune);
+        List<Long> candidateDates = new ArrayList<>(matrix.slotCount());
+        for (int slot = 0; slot < matrix.slotCount(); slot++) {
+            candidateDates.add(matrix.lowWord(slot));
         }
 
         LocalDateTime availableStart = LocalDateTime.of(tune.getStartDate(),
@@ -170,13 +179,106 @@ public class ScheduleTuneServiceImpl implements ScheduleTuneService {
             candidateDates,
             availableStart,
             availableEnd,
-            partDtos
+            partDtos,
+            matrix.toBase64(),
+            matrix.memberCount()
         );
     }
 
     @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<ScheduleTuneRecommendationResponseDto> recommendSlots(Long tuneId, int windowSlots,
+        int limit, boolean requireLeader, List<Long> requiredParticipantIds) {
+        User currentUser = getCurrentUser();
+        ScheduleTune tune = scheduleTuneRepository.findById(tuneId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PENDING_SCHEDULE_NOT_FOUND));
+        if (!studyMemberService.isStudyMember(currentUser, tune.getStudyId())) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_STUDY_MEMBER_ONLY);
+        }
+
+        int slotsPerDay = countSlots(tune.getStartDate(), tune.getStartDate(),
+            tune.getAvailableStartTime(), tune.getAvailableEndTime(), tune.getSlotMinutes());
+        if (windowSlots < 1 || windowSlots > slotsPerDay) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                "window_slots는 1 이상 하루 슬롯 수(" + slotsPerDay + ") 이하여야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_RECOMMENDATIONS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                "limit은 1 이상 " + MAX_RECOMMENDATIONS + " 이하여야 합니다.");
+        }
+
+        SlotMatrix matrix = matrixMigrator.load(tune);
+        long[] required = requiredColumn(tune, matrix, requireLeader, requiredParticipantIds);
+        int requiredCount = required == null ? 0 : BitMaskUtils.popcount(required);
+
+        List<SlotWindowRanker.Window> windows =
+            SlotWindowRanker.topWindows(matrix, windowSlots, slotsPerDay, required, limit);
+
+        List<ScheduleTuneRecommendationResponseDto> result = new ArrayList<>(windows.size());
+        for (SlotWindowRanker.Window w : windows) {
+            LocalDateTime start = LocalDateTime.of(
+                    tune.getStartDate().plusDays(w.startSlot() / slotsPerDay),
+                    tune.getAvailableStartTime())
+                .plusMinutes((long) (w.startSlot() % slotsPerDay) * tune.getSlotMinutes());
+            result.add(new ScheduleTuneRecommendationResponseDto(
+                start,
+                start.plusMinutes((long) windowSlots * tune.getSlotMinutes()),
+                w.availableCount(),
+                w.requiredAvailableCount(),
+                w.requiredAvailableCount() == requiredCount
+            ));
+        }
+        return result;
+    }
+
+    // 동시 투표는 조율 행의 버전 충돌로 감지하고, 새 트랜잭션에서 최신 행렬을 다시 읽어 재시도
+    @Override
+    @Retryable(
+        retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${schedule.tune.vote.max-attempts:10}",
+        backoff = @Backoff(delay = 10, maxDelay = 200, multiplier = 2, random = true)
+    )
     public ScheduleTuneParticipantResponseDto participate(Long tuneId,
         ScheduleTuneParticipantRequestDto request) {
+        List<Long> candidateDates = request.candidateDates();
+        return vote(tuneId, (matrix, bitIndex) -> {
+            if (candidateDates.size() != matrix.slotCount()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "candidate_dates 길이가 슬롯 수와 다릅니다.");
+            }
+            matrix.setMember(bitIndex, slot -> candidateDates.get(slot) != 0L);
+        });
+    }
+
+    // 바뀐 구간만 받아 본인 비트만 SET/CLEAR, 다른 멤버의 비트는 재시도 때 읽은 최신 값 그대로 유지
+    @Override
+    @Retryable(
+        retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${schedule.tune.vote.max-attempts:10}",
+        backoff = @Backoff(delay = 10, maxDelay = 200, multiplier = 2, random = true)
+    )
+    public ScheduleTuneParticipantResponseDto updateVote(Long tuneId,
+        ScheduleTuneVoteDeltaRequestDto request) {
+        List<SlotRange> clear = Objects.requireNonNullElse(request.clear(), List.of());
+        List<SlotRange> set = Objects.requireNonNullElse(request.set(), List.of());
+        if (clear.isEmpty() && set.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "set 또는 clear 중 하나는 있어야 합니다.");
+        }
+        return vote(tuneId, (matrix, bitIndex) -> {
+            validateRanges(clear, matrix.slotCount());
+            validateRanges(set, matrix.slotCount());
+            for (SlotRange range : clear) {
+                matrix.setRange(bitIndex, range.from(), range.to(), false);
+            }
+            for (SlotRange range : set) {
+                matrix.setRange(bitIndex, range.from(), range.to(), true);
+            }
+        });
+    }
+
+    // 투표 공통 처리: 권한/상태 확인 후 행렬의 본인 비트만 바꾸고 조율 행 하나를 버전 조건으로 저장
+    // 바뀐 구간은 커밋 이후 히트맵 패치로 모아서 스터디원에게 전송
+    private ScheduleTuneParticipantResponseDto vote(Long tuneId,
+        ObjIntConsumer<SlotMatrix> applyVote) {
         User currentUser = getCurrentUser();
         ScheduleTune tune = scheduleTuneRepository.findById(tuneId)
             .orElseThrow(() -> new BusinessException(ErrorCode.PENDING_SCHEDULE_NOT_FOUND));
@@ -196,30 +298,29 @@ public class ScheduleTuneServiceImpl implements ScheduleTuneService {
             .findByScheduleTuneIdAndStudyMemberId(tune.getId(), member.getId())
             .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT, "조율 참여 대상이 아닙니다."));
 
-        int bitIndex = BitMaskUtils.bitIndexFromCandidateNumber(participant.getCandidateNumber());
-
-        List<ScheduleTuneSlot> slots =
-            scheduleTuneSlotRepository.findByScheduleTuneIdOrderBySlotIndexAscForUpdate(
-                tune.getId());
-
-        if (request.candidateDates().size() != slots.size()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT, "candidate_dates 길이가 슬롯 수와 다릅니다.");
-        }
-
-        for (int i = 0; i < slots.size(); i++) {
-            ScheduleTuneSlot slot = slots.get(i);
-            boolean selected = request.candidateDates().get(i) != 0L;
-            byte[] bits = slot.getOccupancyBits();
-            BitMaskUtils.setBit(bits, bitIndex, selected);
-        }
+        SlotMatrix matrix = matrixMigrator.load(tune);
+        int bitIndex = participant.getBitIndex();
+        BitSet before = matrix.row(bitIndex);
+        applyVote.accept(matrix, bitIndex);
 
         participant.markVotedNow();
         scheduleTuneParticipantRepository.save(participant);
-        scheduleTuneSlotRepository.saveAll(slots);
+        matrixMigrator.store(tune, matrix);
+        heatmapCoalescer.record(studyId, tune.getId(), bitIndex, before, matrix.row(bitIndex));
 
         return new ScheduleTuneParticipantResponseDto("updated");
     }
 
+    private void validateRanges(List<SlotRange> ranges, int slotCount) {
+        for (SlotRange range : ranges) {
+            if (range.from() == null || range.to() == null
+                || range.from() < 0 || range.from() > range.to() || range.to() >= slotCount) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "슬롯 구간은 0 <= from <= to < " + slotCount + " 이어야 합니다.");
+            }
+        }
+    }
+
     @Override
     public ScheduleCompleteResponseDto complete(Long tuneId, ScheduleCreateRequestDto request) {
         User currentUser = getCurrentUser();
@@ -254,37 +355,55 @@ public class ScheduleTuneServiceImpl implements ScheduleTuneService {
     }
 
 
-    private List<ScheduleTuneSlot> buildSlots(
-        ScheduleTune tune,
+    // 필수 참여자(리더 및 지정 참여자)의 비트만 켠 열, 지정이 없으면 null
+    private long[] requiredColumn(ScheduleTune tune, SlotMatrix matrix, boolean requireLeader,
+        List<Long> requiredParticipantIds) {
+        Set<Long> requiredIds = requiredParticipantIds == null
+            ? Set.of() : new HashSet<>(requiredParticipantIds);
+        if (!requireLeader && requiredIds.isEmpty()) {
+            return null;
+        }
+
+        Long leaderMemberId = null;
+        if (requireLeader) {
+            Study study = findStudy(tune.getStudyId());
+            leaderMemberId = studyMemberRepository.findByStudyIdAndUserId(study.getId(),
+                    study.getLeader().getId())
+                .map(StudyMember::getId)
+                .orElse(null);
+        }
+
+        long[] required = matrix.emptyColumn();
+        int matched = 0;
+        for (ScheduleTuneParticipant p : scheduleTuneParticipantRepository.findByScheduleTuneId(
+            tune.getId())) {
+            boolean listed = requiredIds.contains(p.getId());
+            if (listed) {
+                matched++;
+            }
+            if ((listed || p.getStudyMemberId().equals(leaderMemberId))
+                && p.getBitIndex() < matrix.memberCount()) {
+                BitMaskUtils.setBit(required, p.getBitIndex());
+            }
+        }
+        if (matched != requiredIds.size()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                "required_participant_ids에 조율 참여자가 아닌 ID가 있습니다.");
+        }
+        return required;
+    }
+
+    // 하루 가능 시간대에 들어가는 슬롯 수 x 일 수 (끝 시각을 넘는 마지막 조각은 버림)
+    private int countSlots(
         LocalDate startDate,
         LocalDate endDate,
         LocalTime availStart,
         LocalTime availEnd,
-        int slotMinutes,
-        int occupancyBytes
+        int slotMinutes
     ) {
-        List<ScheduleTuneSlot> slots = new ArrayList<>();
-        LocalDate cur = startDate;
-        int idx = 0;
-        while (!cur.isAfter(endDate)) {
-            LocalDateTime s = LocalDateTime.of(cur, availStart);
-            LocalDateTime e = LocalDateTime.of(cur, availEnd);
-            LocalDateTime ptr = s;
-            while (!ptr.plusMinutes(slotMinutes).isAfter(e)) {
-                LocalDateTime slotStart = ptr;
-                LocalDateTime slotEnd = ptr.plusMinutes(slotMinutes);
-                slots.add(ScheduleTuneSlot.builder()
-                    .scheduleTune(tune)
-                    .slotIndex(idx++)
-                    .startTime(slotStart)
-                    .endTime(slotEnd)
-                    .occupancyBits(new byte[occupancyBytes])
-                    .build());
-                ptr = slotEnd;
-            }
-            cur = cur.plusDays(1);
-        }
-        return slots;
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        long slotsPerDay = ChronoUnit.MINUTES.between(availStart, availEnd) / slotMinutes;
+        return Math.toIntExact(days * slotsPerDay);
     }
 
     private void validateDateTimeWindow(LocalDate startDate, LocalDate endDate, LocalTime s,
@@ -26,6 +26,12 @@ public final class BitMaskUtils {
         bytes[byteIndex] = (byte) cur;
     }
 
+    public static boolean getBit(byte[] bytes, int bitIndex) {
+        int byteIndex = bitIndex / 8;
+        ensureCapacity(bytes, byteIndex);
+        return (Byte.toUnsignedInt(bytes[byteIndex]) & (1 << (bitIndex % 8))) != 0;
+    }
+
     public static long toUnsignedLong(byte[] bytes) {
         int len = Math.min(bytes.length, 8);
         long v = 0L;
@@ -36,6 +42,36 @@ public final class BitMaskUtils {
         return v;
     }
 
+    // 이전 API 용 candidate_number (2^bitIndex), long 으로 표현할 수 없는 위치는 0
+    public static long candidateNumberOf(int bitIndex) {
+        return bitIndex < Long.SIZE - 1 ? 1L << bitIndex : 0L;
+    }
+
+    public static int popcount(long[] words, int from, int to) {
+        int c = 0;
+        for (int i = from; i < to; i++) {
+            c += Long.bitCount(words[i]);
+        }
+        return c;
+    }
+
+    public static int popcount(long[] words) {
+        return popcount(words, 0, words.length);
+    }
+
+    // |a AND b|, 두 배열 길이는 같아야 함
+    public static int andPopcount(long[] a, long[] b) {
+        int c = 0;
+        for (int i = 0; i < a.length; i++) {
+            c += Long.bitCount(a[i] & b[i]);
+        }
+        return c;
+    }
+
+    public static void setBit(long[] words, int bitIndex) {
+        words[bitIndex >>> 6] |= 1L << bitIndex;
+    }
+
     public static int popcount(byte[] bytes) {
         int c = 0;
         for (byte b : bytes) {
@@ -0,0 +1,205 @@
+package com.pado.domain.schedule.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+// 조율 하나의 멤버 x 슬롯 가능 여부를 long[] 하나에 담는 비트 행렬
+// 열 우선(column-major) 배치: 슬롯 하나가 연속된 wordsPerSlot 개의 long 을 차지하고,
+// 멤버 m 의 비트는 각 슬롯 열의 (m / 64) 번째 워드, (m % 64) 번째 비트
+// 직렬화 형식: [memberCount:int][slotCount:int][words:long...] (big-endian)
+// 멤버 수 제한이 없고, 슬롯 연산은 워드 단위 AND/popcount 루프라 멤버마다 객체를 만들지 않음
+public final class SlotMatrix {
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final int memberCount;
+    private final int slotCount;
+    private final int wordsPerSlot;
+    private final long[] words;
+
+    private SlotMatrix(int memberCount, int slotCount, long[] words) {
+        this.memberCount = memberCount;
+        this.slotCount = slotCount;
+        this.wordsPerSlot = wordsPerSlot(memberCount);
+        this.words = words;
+    }
+
+    public static SlotMatrix empty(int memberCount, int slotCount) {
+        if (memberCount < 0 || slotCount < 0) {
+            throw new IllegalArgumentException("matrix size must not be negative");
+        }
+        return new SlotMatrix(memberCount, slotCount,
+            new long[Math.multiplyExact(wordsPerSlot(memberCount), slotCount)]);
+    }
+
+    public static SlotMatrix fromBytes(byte[] bytes) {
+        if (bytes.length < HEADER_BYTES) {
+            throw new IllegalArgumentException("occupancy_matrix header is missing");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int memberCount = buffer.getInt();
+        int slotCount = buffer.getInt();
+
+        SlotMatrix matrix = empty(memberCount, slotCount);
+        if (buffer.remaining() != matrix.words.length * Long.BYTES) {
+            throw new IllegalArgumentException("occupancy_matrix length does not match its header");
+        }
+        buffer.asLongBuffer().get(matrix.words);
+        return matrix;
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + words.length * Long.BYTES);
+        buffer.putInt(memberCount).putInt(slotCount);
+        buffer.asLongBuffer().put(words);
+        return buffer.array();
+    }
+
+    public int memberCount() {
+        return memberCount;
+    }
+
+    public int slotCount() {
+        return slotCount;
+    }
+
+    public boolean get(int member, int slot) {
+        return (words[wordIndex(member, slot)] & (1L << member)) != 0L;
+    }
+
+    public void set(int member, int slot, boolean value) {
+        int index = wordIndex(member, slot);
+        if (value) {
+            words[index] |= 1L << member;
+        } else {
+            words[index] &= ~(1L << member);
+        }
+    }
+
+    // 멤버 한 명의 전체 슬롯 선택을 한 번에 덮어씀 (슬롯마다 같은 위치의 워드 하나만 바뀜)
+    public void setMember(int member, IntPredicate selected) {
+        checkMember(member);
+        int index = member >>> 6;
+        long mask = 1L << member;
+        for (int slot = 0; slot < slotCount; slot++, index += wordsPerSlot) {
+            if (selected.test(slot)) {
+                words[index] |= mask;
+            } else {
+                words[index] &= ~mask;
+            }
+        }
+    }
+
+    // 멤버 한 명의 [fromSlot, toSlot] 구간만 바꿈 (변경분 투표용)
+    public void setRange(int member, int fromSlot, int toSlot, boolean value) {
+        checkMember(member);
+        checkSlot(fromSlot);
+        checkSlot(toSlot);
+        long mask = 1L << member;
+        int index = fromSlot * wordsPerSlot + (member >>> 6);
+        for (int slot = fromSlot; slot <= toSlot; slot++, index += wordsPerSlot) {
+            if (value) {
+                words[index] |= mask;
+            } else {
+                words[index] &= ~mask;
+            }
+        }
+    }
+
+    // 멤버 한 명의 슬롯 선택 (투표 전후 비교로 바뀐 구간을 구할 때 사용)
+    public BitSet row(int member) {
+        checkMember(member);
+        BitSet row = new BitSet(slotCount);
+        int index = member >>> 6;
+        long mask = 1L << member;
+        for (int slot = 0; slot < slotCount; slot++, index += wordsPerSlot) {
+            if ((words[index] & mask) != 0L) {
+                row.set(slot);
+            }
+        }
+        return row;
+    }
+
+    // 슬롯 열의 첫 워드 (앞 64명의 비트, 이전 API 의 candidate_number 합과 같은 값)
+    public long lowWord(int slot) {
+        checkSlot(slot);
+        return words[slot * wordsPerSlot];
+    }
+
+    // 해당 슬롯에 가능하다고 표시한 멤버 수
+    public int count(int slot) {
+        checkSlot(slot);
+        int from = slot * wordsPerSlot;
+        return BitMaskUtils.popcount(words, from, from + wordsPerSlot);
+    }
+
+    // 모든 비트가 꺼진 열 (필수 멤버 집합 등)
+    public long[] emptyColumn() {
+        return new long[wordsPerSlot];
+    }
+
+    // 모든 멤버 비트가 켜진 열 (andInto 의 시작 값)
+    public long[] fullColumn() {
+        long[] column = new long[wordsPerSlot];
+        Arrays.fill(column, -1L);
+        int tailBits = memberCount & (Long.SIZE - 1);
+        if (tailBits != 0) {
+            column[wordsPerSlot - 1] = (1L << tailBits) - 1L;
+        } else if (memberCount == 0) {
+            column[0] = 0L;
+        }
+        return column;
+    }
+
+    // column &= 슬롯 열 (연속 슬롯 모두 가능한 멤버 집합 계산용)
+    public void andInto(int slot, long[] column) {
+        checkSlot(slot);
+        if (column.length != wordsPerSlot) {
+            throw new IllegalArgumentException("column length must be " + wordsPerSlot);
+        }
+        int from = slot * wordsPerSlot;
+        for (int i = 0; i < wordsPerSlot; i++) {
+            column[i] &= words[from + i];
+        }
+    }
+
+    // 응답용 인코딩: 슬롯마다 ceil(memberCount / 8) 바이트를 이어 붙인 뒤 base64
+    // 슬롯 안에서는 little-endian 비트 순서 (bit_index i 는 (i / 8) 번째 바이트의 (i % 8) 번째 비트)
+    public String toBase64() {
+        int bytesPerSlot = (memberCount + 7) >>> 3;
+        byte[] bytes = new byte[Math.multiplyExact(bytesPerSlot, slotCount)];
+        int pos = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int from = slot * wordsPerSlot;
+            for (int b = 0; b < bytesPerSlot; b++) {
+                bytes[pos++] = (byte) (words[from + (b >>> 3)] >>> ((b & 7) << 3));
+            }
+        }
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private int wordIndex(int member, int slot) {
+        checkMember(member);
+        checkSlot(slot);
+        return slot * wordsPerSlot + (member >>> 6);
+    }
+
+    private void checkMember(int member) {
+        if (member < 0 || member >= memberCount) {
+            throw new IllegalArgumentException("member index out of range: " + member);
+        }
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= slotCount) {
+            throw new IllegalArgumentException("slot index out of range: " + slot);
+        }
+    }
+
+    private static int wordsPerSlot(int memberCount) {
+        return Math.max(1, (memberCount + Long.SIZE - 1) >>> 6);
+    }
+}
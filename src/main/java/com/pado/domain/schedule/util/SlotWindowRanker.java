@@ -0,0 +1,72 @@
+package com.pado.domain.schedule.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 연속 슬롯 windowSlots 개로 이루어진 구간마다 모두 가능한 멤버 수를 세어 상위 구간을 고름
+// 구간 가능 멤버 = 각 슬롯 열의 워드 단위 AND, 인원 수 = Long.bitCount 합
+// 정렬 기준: 필수 멤버 중 가능한 수 > 전체 가능 수 > 이른 시작 슬롯
+// 반복 중에는 미리 잡은 버퍼만 재사용하고, 결과 객체는 마지막에 상위 limit 개만 만듦
+public final class SlotWindowRanker {
+
+    private SlotWindowRanker() {
+    }
+
+    public record Window(int startSlot, int availableCount, int requiredAvailableCount) {
+    }
+
+    // slotsPerDay: 하루 슬롯 수, 날짜를 넘어가는 구간은 시간상 연속이 아니므로 제외
+    // required: 필수 멤버 열 (없으면 null)
+    public static List<Window> topWindows(SlotMatrix matrix, int windowSlots, int slotsPerDay,
+        long[] required, int limit) {
+        if (windowSlots <= 0 || slotsPerDay <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("windowSlots, slotsPerDay and limit must be positive");
+        }
+
+        long[] full = matrix.fullColumn();
+        long[] acc = new long[full.length];
+        long[] topKeys = new long[limit];
+        int[] topSlots = new int[limit];
+        int size = 0;
+
+        int lastStart = matrix.slotCount() - windowSlots;
+        for (int start = 0; start <= lastStart; start++) {
+            if (start % slotsPerDay + windowSlots > slotsPerDay) {
+                continue;
+            }
+
+            System.arraycopy(full, 0, acc, 0, full.length);
+            for (int slot = start; slot < start + windowSlots; slot++) {
+                matrix.andInto(slot, acc);
+            }
+
+            int available = BitMaskUtils.popcount(acc);
+            int requiredAvailable = required == null ? 0 : BitMaskUtils.andPopcount(acc, required);
+            long key = ((long) requiredAvailable << 32) | available;
+            size = offer(topKeys, topSlots, size, key, start);
+        }
+
+        List<Window> windows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long key = topKeys[i];
+            windows.add(new Window(topSlots[i], (int) key, (int) (key >>> 32)));
+        }
+        return windows;
+    }
+
+    // 내림차순 상위 목록에 삽입, 같은 점수면 먼저 들어온(이른) 구간을 앞에 둠
+    private static int offer(long[] keys, int[] slots, int size, long key, int slot) {
+        if (size == keys.length && key <= keys[size - 1]) {
+            return size;
+        }
+        int pos = size == keys.length ? size - 1 : size;
+        while (pos > 0 && keys[pos - 1] < key) {
+            keys[pos] = keys[pos - 1];
+            slots[pos] = slots[pos - 1];
+            pos--;
+        }
+        keys[pos] = key;
+        slots[pos] = slot;
+        return Math.min(size + 1, keys.length);
+    }
+}
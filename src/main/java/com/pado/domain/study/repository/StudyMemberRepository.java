@@ -25,6 +25,13 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
         """)
     List<StudyMember> findByStudyIdAndUserIdIn(@Param("studyId") Long studyId, @Param("userIds") Set<Long> userIds);
 
+    @Query("""
+            select sm.id
+            from StudyMember sm
+            where sm.study.id = :studyId and sm.user.id IN :userIds
+        """)
+    List<Long> findIdsByStudyIdAndUserIdIn(@Param("studyId") Long studyId, @Param("userIds") Set<Long> userIds);
+
     int countByStudyId(long studyId);
 
     long countByStudy(Study study);
@@ -4,6 +4,8 @@ import com.pado.domain.chat.entity.ChatMessage;
 import com.pado.domain.chat.entity.LastReadMessage;
 import com.pado.domain.chat.repository.ChatMessageRepository;
 import com.pado.domain.chat.repository.LastReadMessageRepository;
+import com.pado.domain.chat.service.ChatHistoryReplicator;
+import com.pado.domain.chat.service.ReadCursorIndex;
 import com.pado.domain.study.dto.request.StudyApplicationStatusChangeRequestDto;
 import com.pado.domain.study.dto.request.StudyApplyRequestDto;
 import com.pado.domain.study.dto.response.StudyApplicantDetailDto;
@@ -37,6 +39,8 @@ public class StudyMemberServiceImpl implements StudyMemberService {
     private final StudyApplicationRepository studyApplicationRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final LastReadMessageRepository lastReadMessageRepository;
+    private final ReadCursorIndex readCursorIndex;
+    private final ChatHistoryReplicator chatHistoryReplicator;
 
     @Override
     @Transactional
@@ -104,6 +108,7 @@ public class StudyMemberServiceImpl implements StudyMemberService {
 
             LastReadMessage lastReadMessage = new LastReadMessage(member, latestMessageId);
             lastReadMessageRepository.save(lastReadMessage);
+            readCursorIndex.invalidate(studyId);
 
         } else if (newStatus.equals(StudyApplicationStatus.REJECTED)) {
             studyApplicationRepository.delete(application);
@@ -177,6 +182,9 @@ public class StudyMemberServiceImpl implements StudyMemberService {
         }
 
         studyMemberRepository.delete(memberToKick);
+        readCursorIndex.invalidate(studyId);
+        // 탈퇴한 멤버가 보낸 메시지의 발신자 정보가 바뀌므로 최신 메시지 캐시도 제거
+        chatHistoryReplicator.invalidate(studyId);
     }
 
     @Override
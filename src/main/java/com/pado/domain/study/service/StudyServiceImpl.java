@@ -3,6 +3,8 @@ package com.pado.domain.study.service;
 import com.pado.domain.chat.entity.LastReadMessage;
 import com.pado.domain.chat.repository.ChatMessageRepository;
 import com.pado.domain.chat.repository.LastReadMessageRepository;
+import com.pado.domain.chat.service.ChatHistoryReplicator;
+import com.pado.domain.chat.service.ReadCursorIndex;
 import com.pado.domain.shared.entity.Category;
 import com.pado.domain.shared.entity.Region;
 import com.pado.domain.study.dto.request.StudyCreateRequestDto;
@@ -35,6 +37,8 @@ public class StudyServiceImpl implements StudyService {
     private final StudyMemberRepository studyMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final LastReadMessageRepository lastReadMessageRepository;
+    private final ReadCursorIndex readCursorIndex;
+    private final ChatHistoryReplicator chatHistoryReplicator;
 
     private static final int MAX_PAGE_SIZE = 50;
 
@@ -128,6 +132,9 @@ public class StudyServiceImpl implements StudyService {
         }
 
         studyMemberRepository.delete(studyMember);
+        readCursorIndex.invalidate(studyId);
+        // 탈퇴한 멤버가 보낸 메시지의 발신자 정보가 바뀌므로 최신 메시지 캐시도 제거
+        chatHistoryReplicator.invalidate(studyId);
     }
 
     @Override
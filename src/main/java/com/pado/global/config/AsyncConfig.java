@@ -10,12 +10,14 @@ import java.util.concurrent.ThreadPoolExecutor;
 @Configuration
 public class AsyncConfig {
 
+    // 퀴즈 생성 오케스트레이션(텍스트 추출, 저장) 전용 플랫폼 스레드 풀
+    // AI 호출은 GeminiRequestExecutor에서 처리하므로 작업이 짧고, 몰리는 요청은 큐에서 대기
     @Bean(name = "quizThreadPool")
     public Executor quizThreadPool() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(50);
+        executor.setQueueCapacity(500);
         executor.setThreadNamePrefix("QuizGen-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.initialize();
@@ -0,0 +1,32 @@
+package com.pado.global.config;
+
+import com.pado.infrastruture.ai.GeminiProperties;
+import com.pado.infrastruture.ai.QuestionGenerationStrategy;
+import com.pado.infrastruture.ai.impl.BatchedQuestionGenerationStrategy;
+import com.pado.infrastruture.ai.impl.GeminiClient;
+import com.pado.infrastruture.ai.impl.PerQuestionGenerationStrategy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 퀴즈 문제 생성 방식 설정 (gemini.api.generation-mode)
+// batched     : 여러 문제를 한 번의 호출로 생성 (기반 텍스트를 묶음당 한 번만 전송)
+// per-question: 문제마다 한 번씩 호출
+@Configuration
+public class QuestionGenerationConfig {
+
+    private static final String MODE_PROPERTY = "gemini.api.generation-mode";
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "batched", matchIfMissing = true)
+    public QuestionGenerationStrategy batchedQuestionGenerationStrategy(GeminiClient geminiClient,
+                                                                        GeminiProperties geminiProperties) {
+        return new BatchedQuestionGenerationStrategy(geminiClient, geminiProperties.getQuestionsPerRequest());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "per-question")
+    public QuestionGenerationStrategy perQuestionGenerationStrategy(GeminiClient geminiClient) {
+        return new PerQuestionGenerationStrategy(geminiClient);
+    }
+}
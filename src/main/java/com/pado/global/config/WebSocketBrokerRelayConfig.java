@@ -0,0 +1,50 @@
+package com.pado.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pado.infrastruture.websocket.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+
+// 웹소켓 브로커 모드 설정 (app.websocket.broker.mode)
+// simple: 서버 내 SimpleBroker만 사용 (단일 서버)
+// redis : SimpleBroker + Redis pub/sub으로 모든 서버에 메시지 복제 (다중 서버)
+@Configuration
+public class WebSocketBrokerRelayConfig {
+
+    private static final String MODE_PROPERTY = "app.websocket.broker.mode";
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "redis")
+    public RedisMessageListenerContainer brokerRelayListenerContainer(LettuceConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "redis")
+    public BrokerMessageBus redisBrokerMessageBus(RedisTemplate<String, String> redisTemplate,
+                                                  RedisMessageListenerContainer brokerRelayListenerContainer,
+                                                  ObjectMapper objectMapper) {
+        return new RedisBrokerMessageBus(redisTemplate, brokerRelayListenerContainer, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "redis")
+    public BrokerRelayChannelInterceptor brokerRelayChannelInterceptor(BrokerMessageBus brokerMessageBus) {
+        return new BrokerRelayChannelInterceptor(brokerMessageBus);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "redis")
+    public BrokerRelayReceiver brokerRelayReceiver(BrokerMessageBus brokerMessageBus,
+                                                   @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        return new BrokerRelayReceiver(brokerMessageBus, brokerChannel);
+    }
+}
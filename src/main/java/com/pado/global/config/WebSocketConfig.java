@@ -3,8 +3,10 @@ package com.pado.global.config;
 import com.pado.global.auth.resolver.WebSocketCurrentUserArgumentResolver;
 import com.pado.global.auth.websocket.StompAuthChannelInterceptor;
 import com.pado.global.exception.common.WebSocketExceptionHandler;
+import com.pado.infrastruture.websocket.BrokerRelayChannelInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -23,6 +25,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
     private final WebSocketCurrentUserArgumentResolver webSocketCurrentUserArgumentResolver;
+    private final ObjectProvider<BrokerRelayChannelInterceptor> brokerRelayChannelInterceptor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -34,6 +37,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         // 개인 메세지용 prefix
         registry.setUserDestinationPrefix("/user");
+
+        // 다중 서버 모드면 브로커로 가는 메시지를 다른 서버로 복제 (app.websocket.broker.mode)
+        brokerRelayChannelInterceptor.ifAvailable(interceptor ->
+                registry.configureBrokerChannel().interceptors(interceptor));
     }
 
     @Override
@@ -99,6 +99,8 @@ public enum ErrorCode {
         "파일 처리 중 오류가 발생했습니다."),
     API_RESPONSE_INVALID(HttpStatus.INTERNAL_SERVER_ERROR, "API_RESPONSE_INVALID",
         "Gemini AI API가 유효하지 않은 결과를 반환하였습니다."),
+    AI_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI_SERVICE_UNAVAILABLE",
+        "AI 서비스를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요."),
     UNSUPPORTED_QUESTION_TYPE(HttpStatus.BAD_REQUEST, "UNSUPPORTED_QUESTION_TYPE",
         "지원하지 않는 문제 형식입니다."),
     QUIZ_NOT_ACTIVE(HttpStatus.BAD_REQUEST, "QUIZ_NOT_ACTIVE", "퀴즈 상태가 Active가 아닙니다."),
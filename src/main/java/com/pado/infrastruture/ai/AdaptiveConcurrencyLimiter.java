@@ -0,0 +1,93 @@
+package com.pado.infrastruture.ai;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// AIMD 방식의 동시 요청 한도
+// 응답이 빠르면 한도를 조금씩(1/limit) 늘리고, 429 나 지연이 기준을 넘으면 절반으로 줄임
+// 한 번의 과부하로 동시에 실패한 요청들이 한도를 연달아 깎지 않도록 감소는 쿨다운 동안 한 번만 적용
+// 가상 스레드에서 대기하므로 synchronized 대신 ReentrantLock 사용 (캐리어 스레드 고정 방지)
+final class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final long decreaseCooldownNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+
+    AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, long latencyThresholdNanos,
+                               long decreaseCooldownNanos, LongSupplier nanoClock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.decreaseCooldownNanos = decreaseCooldownNanos;
+        this.nanoClock = nanoClock;
+        this.limit = maxLimit;
+        this.lastDecreaseNanos = nanoClock.getAsLong() - decreaseCooldownNanos;
+    }
+
+    void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= currentLimit()) {
+                released.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // overloaded: 공급자가 한도 초과를 알렸거나 서버 오류로 응답한 경우
+    void release(long latencyNanos, boolean overloaded) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (overloaded || latencyNanos > latencyThresholdNanos) {
+                decrease();
+            } else {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int currentLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease() {
+        long now = nanoClock.getAsLong();
+        if (now - lastDecreaseNanos < decreaseCooldownNanos) {
+            return;
+        }
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        lastDecreaseNanos = now;
+    }
+}
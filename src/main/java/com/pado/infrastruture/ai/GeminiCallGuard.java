@@ -0,0 +1,170 @@
+package com.pado.infrastruture.ai;
+
+import com.google.genai.errors.ApiException;
+import com.pado.global.exception.common.BusinessException;
+import com.pado.global.exception.common.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Gemini 호출 한 건을 감싸는 보호 장치
+// 1. 서킷 브레이커: 공급자 장애(5xx, 429, 네트워크 오류)가 이어지면 바로 실패시켜 스레드와 할당량을 아낌
+// 2. 토큰 버킷: 공급자 분당 할당량(gemini.api.requests-per-minute)을 넘지 않도록 요청 시작 간격 조절
+// 3. 적응형 동시성 한도: 429/지연이 보이면 동시 요청 수를 줄이고, 회복되면 천천히 늘림
+// 호출은 GeminiRequestExecutor 의 가상 스레드에서 실행되므로 대기는 블로킹으로 처리
+@Slf4j
+@Component
+public class GeminiCallGuard {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+
+    enum Outcome {
+        SUCCESS, THROTTLED, SERVER_ERROR, CLIENT_ERROR, IO_ERROR
+    }
+
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final TokenBucket tokenBucket;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final LongSupplier nanoClock;
+    private final LongConsumer parkNanos;
+
+    private final Map<Outcome, Timer> latencyTimers = new EnumMap<>(Outcome.class);
+    private final Counter rejectedCalls;
+
+    @Autowired
+    public GeminiCallGuard(GeminiProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime, LockSupport::parkNanos);
+    }
+
+    // 테스트에서는 가짜 시계와, 기다린 만큼 그 시계를 앞당기는 parkNanos 를 넘김
+    GeminiCallGuard(GeminiProperties properties, MeterRegistry meterRegistry,
+                    LongSupplier nanoClock, LongConsumer parkNanos) {
+        this.nanoClock = nanoClock;
+        this.parkNanos = parkNanos;
+        this.circuitBreaker = new GeminiCircuitBreaker(
+                properties.getCircuitWindowSize(),
+                properties.getCircuitFailureRateThreshold(),
+                TimeUnit.SECONDS.toNanos(properties.getCircuitOpenSeconds()),
+                nanoClock
+        );
+        this.tokenBucket = new TokenBucket(properties.getRequestsPerMinute(), properties.getRateLimitBurst(), nanoClock);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                Math.min(properties.getMinConcurrentRequests(), properties.getMaxConcurrentRequests()),
+                properties.getMaxConcurrentRequests(),
+                TimeUnit.MILLISECONDS.toNanos(properties.getLatencyThresholdMillis()),
+                TimeUnit.SECONDS.toNanos(1),
+                nanoClock
+        );
+
+        for (Outcome outcome : Outcome.values()) {
+            latencyTimers.put(outcome, Timer.builder("gemini.request.latency")
+                    .description("Gemini 호출 한 건의 응답 시간")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.rejectedCalls = Counter.builder("gemini.request.rejected")
+                .description("서킷이 열려 있어 보내지 않고 실패시킨 호출 수")
+                .register(meterRegistry);
+
+        Gauge.builder("gemini.limiter.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::currentLimit)
+                .description("현재 허용된 동시 요청 수 (AIMD)")
+                .register(meterRegistry);
+        Gauge.builder("gemini.limiter.inflight", concurrencyLimiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("응답을 기다리는 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("gemini.limiter.tokens", tokenBucket, TokenBucket::availableTokens)
+                .description("토큰 버킷에 남은 토큰 수 (음수면 예약 대기 중)")
+                .register(meterRegistry);
+        Gauge.builder("gemini.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> request) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            rejectedCalls.increment();
+            throw new BusinessException(ErrorCode.AI_SERVICE_UNAVAILABLE, "Gemini circuit is open.");
+        }
+
+        try {
+            awaitToken();
+            concurrencyLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored();
+            throw new BusinessException(ErrorCode.AI_SERVICE_UNAVAILABLE, "Interrupted while waiting for a Gemini slot.");
+        }
+
+        long start = nanoClock.getAsLong();
+        Outcome outcome = Outcome.IO_ERROR;
+        try {
+            T result = request.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (ApiException e) {
+            outcome = classify(e);
+            throw e;
+        } finally {
+            long latency = nanoClock.getAsLong() - start;
+            latencyTimers.get(outcome).record(latency, TimeUnit.NANOSECONDS);
+            record(outcome, latency);
+        }
+    }
+
+    GeminiCircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    int concurrencyLimit() {
+        return concurrencyLimiter.currentLimit();
+    }
+
+    private void awaitToken() throws InterruptedException {
+        long waitNanos = tokenBucket.reserve();
+        long deadline = nanoClock.getAsLong() + waitNanos;
+        while (waitNanos > 0) {
+            parkNanos.accept(waitNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitNanos = deadline - nanoClock.getAsLong();
+        }
+    }
+
+    private void record(Outcome outcome, long latencyNanos) {
+        boolean overloaded = outcome == Outcome.THROTTLED || outcome == Outcome.SERVER_ERROR;
+        concurrencyLimiter.release(latencyNanos, overloaded);
+
+        switch (outcome) {
+            case SUCCESS, CLIENT_ERROR -> circuitBreaker.onSuccess();
+            case THROTTLED -> {
+                tokenBucket.drain();
+                circuitBreaker.onFailure();
+                log.warn("Gemini rate limit hit. Concurrency limit is now {}.", concurrencyLimiter.currentLimit());
+            }
+            case SERVER_ERROR, IO_ERROR -> circuitBreaker.onFailure();
+        }
+    }
+
+    // 4xx(429 제외)는 요청 자체의 문제이므로 공급자 장애로 보지 않음
+    private Outcome classify(ApiException e) {
+        if (e.code() == TOO_MANY_REQUESTS) {
+            return Outcome.THROTTLED;
+        }
+        return e.code() >= SERVER_ERROR ? Outcome.SERVER_ERROR : Outcome.CLIENT_ERROR;
+    }
+}
@@ -0,0 +1,104 @@
+package com.pado.infrastruture.ai;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+// 최근 windowSize 개 호출의 실패율로 여닫는 서킷 브레이커
+// OPEN 동안은 호출을 바로 거절하고, openDuration 이 지나면 HALF_OPEN 에서 한 건만 시험 호출
+final class GeminiCircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final boolean[] failures;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int cursor;
+    private int failureCount;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    GeminiCircuitBreaker(int windowSize, int failureRateThreshold, long openDurationNanos, LongSupplier nanoClock) {
+        this.failures = new boolean[windowSize];
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+            state = State.HALF_OPEN;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset();
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded == failures.length && failureCount * 100 >= failureRateThreshold * failures.length) {
+            open();
+        }
+    }
+
+    // 결과를 판단할 수 없이 끝난 호출 (인터럽트 등): 시험 호출 자리만 반납
+    synchronized void onIgnored() {
+        probeInFlight = false;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == failures.length && failures[cursor]) {
+            failureCount--;
+        }
+        failures[cursor] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        cursor = (cursor + 1) % failures.length;
+        recorded = Math.min(recorded + 1, failures.length);
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = nanoClock.getAsLong();
+        probeInFlight = false;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        probeInFlight = false;
+        recorded = 0;
+        cursor = 0;
+        failureCount = 0;
+        Arrays.fill(failures, false);
+    }
+}
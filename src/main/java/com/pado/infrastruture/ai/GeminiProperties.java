@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 @Component
@@ -17,4 +18,30 @@ public class GeminiProperties {
     private String apiKey;
     @NotBlank
     private String modelName = "gemini-2.5-flash";
-}
\ No newline at end of file
+    // 비어있으면 SDK 기본 엔드포인트 사용 (로컬 스텁 서버 등으로 바꿀 때 지정)
+    private String baseUrl;
+    // batched 모드에서 한 번의 호출로 생성할 최대 문제 수
+    @Min(1)
+    private int questionsPerRequest = 10;
+    // 동시에 보낼 수 있는 최대 요청 수
+    @Min(1)
+    private int maxConcurrentRequests = 20;
+    // 요청 수가 줄어들 때 내려갈 수 있는 최소 동시 요청 수
+    @Min(1)
+    private int minConcurrentRequests = 2;
+    // 공급자 분당 요청 할당량과 순간 허용량
+    @Min(1)
+    private int requestsPerMinute = 300;
+    @Min(1)
+    private int rateLimitBurst = 20;
+    // 응답이 이 시간보다 늦으면 과부하로 보고 동시 요청 수를 줄임
+    @Min(1)
+    private long latencyThresholdMillis = 60_000;
+    // 최근 circuitWindowSize 개 호출 중 실패 비율(%)이 기준 이상이면 circuitOpenSeconds 동안 호출 차단
+    @Min(1)
+    private int circuitWindowSize = 20;
+    @Min(1)
+    private int circuitFailureRateThreshold = 50;
+    @Min(1)
+    private int circuitOpenSeconds = 30;
+}
@@ -0,0 +1,49 @@
+package com.pado.infrastruture.ai;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+// Gemini 호출 전용 실행기
+// 호출은 최대 180초까지 블로킹되므로 작업마다 가상 스레드를 사용하고,
+// 동시에 나가는 요청 수는 세마포어로 제한 (대기 중인 작업은 가상 스레드에서 permit을 기다림)
+@Component
+public class GeminiRequestExecutor implements Executor, DisposableBean {
+
+    private final ExecutorService delegate = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    public GeminiRequestExecutor(GeminiProperties geminiProperties) {
+        this.permits = new Semaphore(geminiProperties.getMaxConcurrentRequests(), true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    // permit을 기다리고 있는 요청 수
+    public int waitingRequests() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.shutdown();
+    }
+}
@@ -0,0 +1,22 @@
+package com.pado.infrastruture.ai;
+
+import com.pado.infrastruture.ai.dto.AiQuestionDto;
+import com.pado.infrastruture.ai.dto.QuestionPrompt;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+
+// 문제별 기반 텍스트와 집중 영역(QuestionPrompt)으로 퀴즈 문제를 생성하는 방식
+// 실패한 문제는 건너뛰고 성공한 문제만 반환
+// onGenerated 는 호출 하나가 끝날 때마다 새로 생성된 문제 수를 받음 (진행 상황 알림용)
+public interface QuestionGenerationStrategy {
+
+    CompletableFuture<List<AiQuestionDto>> generate(List<QuestionPrompt> prompts, Executor executor, IntConsumer onGenerated);
+
+    default CompletableFuture<List<AiQuestionDto>> generate(List<QuestionPrompt> prompts, Executor executor) {
+        return generate(prompts, executor, count -> {
+        });
+    }
+}
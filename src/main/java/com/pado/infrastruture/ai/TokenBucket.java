@@ -0,0 +1,48 @@
+package com.pado.infrastruture.ai;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// 분당 허용 요청 수만큼 토큰을 채우는 버킷
+// reserve() 는 토큰을 먼저 예약하고 기다려야 할 시간을 돌려주므로, 대기는 락 밖에서 함
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(int permitsPerMinute, int burst, LongSupplier nanoClock) {
+        this.capacity = burst;
+        this.tokensPerNano = permitsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    // 토큰 하나를 예약하고, 사용 가능해질 때까지 기다려야 하는 시간(ns)을 반환
+    synchronized long reserve() {
+        refill();
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    // 공급자가 한도 초과(429)를 알리면 남은 토큰을 비워 잠시 요청을 멈춤
+    synchronized void drain() {
+        refill();
+        tokens = Math.min(tokens, 0);
+    }
+
+    synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
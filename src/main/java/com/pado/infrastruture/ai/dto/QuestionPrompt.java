@@ -0,0 +1,8 @@
+package com.pado.infrastruture.ai.dto;
+
+// 문제 하나를 만들 때 보낼 기반 텍스트(context)와 집중 영역(hint, 없으면 null)
+public record QuestionPrompt(
+        String context,
+        String hint
+) {
+}
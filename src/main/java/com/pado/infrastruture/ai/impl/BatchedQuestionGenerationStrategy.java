@@ -0,0 +1,64 @@
+package com.pado.infrastruture.ai.impl;
+
+import com.pado.infrastruture.ai.QuestionGenerationStrategy;
+import com.pado.infrastruture.ai.dto.AiQuestionDto;
+import com.pado.infrastruture.ai.dto.QuestionPrompt;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+
+// 같은 기반 텍스트를 쓰는 연속된 문제를 questionsPerRequest개씩 묶어 한 번의 호출로 여러 문제를 구조화된 응답으로 받음
+// 기반 텍스트 전송 횟수가 문제 수에서 묶음 수로 줄어듦
+@Slf4j
+@RequiredArgsConstructor
+public class BatchedQuestionGenerationStrategy implements QuestionGenerationStrategy {
+
+    private final GeminiClient geminiClient;
+    private final int questionsPerRequest;
+
+    @Override
+    public CompletableFuture<List<AiQuestionDto>> generate(List<QuestionPrompt> prompts, Executor executor, IntConsumer onGenerated) {
+        List<CompletableFuture<List<AiQuestionDto>>> futures = partition(prompts).stream()
+                .map(group -> geminiClient.generateQuestions(
+                                group.get(0).context(),
+                                group.stream().map(QuestionPrompt::hint).toList(),
+                                executor)
+                        .thenApply(questions -> {
+                            onGenerated.accept(questions.size());
+                            return questions;
+                        })
+                        .exceptionally(ex -> {
+                            log.warn("Multi-question generation failed; skipping {} items.", group.size(), ex);
+                            return List.of();
+                        }))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> futures.stream()
+                        .flatMap(future -> future.join().stream())
+                        .toList());
+    }
+
+    // 기반 텍스트가 바뀌는 지점이나 묶음 크기에 도달하면 새 묶음 시작
+    private List<List<QuestionPrompt>> partition(List<QuestionPrompt> prompts) {
+        List<List<QuestionPrompt>> groups = new ArrayList<>();
+        List<QuestionPrompt> current = new ArrayList<>();
+        for (QuestionPrompt prompt : prompts) {
+            boolean contextChanged = !current.isEmpty() && !current.get(0).context().equals(prompt.context());
+            if (contextChanged || current.size() == questionsPerRequest) {
+                groups.add(current);
+                current = new ArrayList<>();
+            }
+            current.add(prompt);
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+}
@@ -5,8 +5,11 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.genai.Client;
 import com.google.genai.types.*;
+import com.pado.global.exception.common.BusinessException;
+import com.pado.infrastruture.ai.GeminiCallGuard;
 import com.pado.infrastruture.ai.GeminiProperties;
 import com.pado.infrastruture.ai.dto.AiQuestionDto;
+import com.pado.infrastruture.ai.dto.AiQuizResponseDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import java.util.concurrent.Executor;
@@ -23,12 +26,16 @@ public class GeminiClient {
 
     private final Client client;
     private final String modelName;
+    private final GeminiCallGuard callGuard;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public GeminiClient(GeminiProperties geminiProperties) {
-        HttpOptions httpOptions = HttpOptions.builder()
-                .timeout(180)
-                .build();
+    public GeminiClient(GeminiProperties geminiProperties, GeminiCallGuard callGuard) {
+        HttpOptions.Builder httpOptionsBuilder = HttpOptions.builder()
+                .timeout(180);
+        if (geminiProperties.getBaseUrl() != null && !geminiProperties.getBaseUrl().isBlank()) {
+            httpOptionsBuilder.baseUrl(geminiProperties.getBaseUrl());
+        }
+        HttpOptions httpOptions = httpOptionsBuilder.build();
 
         this.client = Client.builder()
                 .apiKey(geminiProperties.getApiKey())
@@ -36,6 +43,7 @@ public class GeminiClient {
                 .build();
 
         this.modelName = geminiProperties.getModelName();
+        this.callGuard = callGuard;
     }
 
     public CompletableFuture<AiQuestionDto> generateSingleQuestion(String context, String hint, Executor executor) {
@@ -48,7 +56,7 @@ public class GeminiClient {
 
             log.info("Sending single-question request. Context Length: {}, Hint: '{}'", context.length(), hint);
             try {
-                GenerateContentResponse response = client.models.generateContent(modelName, content, config);
+                GenerateContentResponse response = callGuard.call(() -> client.models.generateContent(modelName, content, config));
                 if (response.finishReason().knownEnum() != FinishReason.Known.STOP) {
                     handleNonStopFinishReason(response);
                 }
@@ -59,6 +67,10 @@ public class GeminiClient {
             } catch (IOException e) {
                 log.error("Failed to parse Gemini JSON response.", e);
                 throw new RuntimeException("Failed to parse LLM response", e);
+            } catch (BusinessException e) {
+                // 서킷이 열려 바로 거절된 호출
+                log.warn("Gemini call rejected: {}", e.getMessage());
+                throw e;
             } catch (Exception e) {
                 log.error("Failed to generate a single question. Context length: {}", context.length(), e);
                 throw new RuntimeException("Failed to generate content", e);
@@ -66,6 +78,41 @@ public class GeminiClient {
         }, executor);
     }
 
+    // 기반 텍스트를 한 번만 보내고 hint 수만큼의 문제를 하나의 JSON 응답으로 받음
+    public CompletableFuture<List<AiQuestionDto>> generateQuestions(String context, List<String> hints, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            Objects.requireNonNull(context, "Context cannot be null");
+
+            final var prompt = buildMultiQuestionPrompt(context, hints);
+            final var content = Content.fromParts(Part.fromText(prompt));
+            final var config = buildMultiQuestionGenerationConfig(hints.size());
+
+            log.info("Sending multi-question request. Context Length: {}, Question Count: {}", context.length(), hints.size());
+            try {
+                GenerateContentResponse response = callGuard.call(() -> client.models.generateContent(modelName, content, config));
+                if (response.finishReason().knownEnum() != FinishReason.Known.STOP) {
+                    handleNonStopFinishReason(response);
+                }
+
+                AiQuizResponseDto quizResponse = objectMapper.readValue(response.text(), AiQuizResponseDto.class);
+                List<AiQuestionDto> questions = quizResponse.questions() != null ? quizResponse.questions() : List.of();
+                log.info("Gemini multi-question generation completed. Requested: {}, Received: {}", hints.size(), questions.size());
+                return questions;
+
+            } catch (IOException e) {
+                log.error("Failed to parse Gemini JSON response.", e);
+                throw new RuntimeException("Failed to parse LLM response", e);
+            } catch (BusinessException e) {
+                // 서킷이 열려 바로 거절된 호출
+                log.warn("Gemini call rejected: {}", e.getMessage());
+                throw e;
+            } catch (Exception e) {
+                log.error("Failed to generate questions. Context length: {}", context.length(), e);
+                throw new RuntimeException("Failed to generate content", e);
+            }
+        }, executor);
+    }
+
     private String buildSingleQuestionPrompt(String context, String hint) {
         String hintSection = (hint != null && !hint.isBlank())
                 ? "\n### 집중 영역 ###\n" + hint + "\n"
@@ -92,6 +139,64 @@ public class GeminiClient {
             """.formatted(hintSection, context);
     }
 
+    private String buildMultiQuestionPrompt(String context, List<String> hints) {
+        StringBuilder hintSection = new StringBuilder();
+        for (int i = 0; i < hints.size(); i++) {
+            String hint = hints.get(i);
+            hintSection.append(i + 1).append(". ")
+                    .append(hint != null && !hint.isBlank() ? hint : "텍스트 전체에서 자유롭게 출제")
+                    .append("\n");
+        }
+
+        return """
+                너는 한국의 전문 퀴즈 출제자이며, 학생이 이해하기 쉽고 정확한 학습용 퀴즈만 제작해야 한다.
+                학습용 퀴즈를 자연스러운 한국어로 만들며, 문제와 해설은 학생이 이해하기 쉽게 작성한다.
+                주어진 텍스트 전체를 참고하여 서로 내용이 겹치지 않는 학습용 퀴즈 %d개를 생성해라.
+                i번째 문제는 '문제별 집중 영역'의 i번째 항목을 중심으로 만든다.
+
+                ### 지침 ###
+                1. 응답은 반드시 JSON 형식이어야 하며, 다른 부가 설명은 절대 포함하지 마. 각 문제 객체의 키 이름과 구조는 변경하지 말고, 반드시 지정된 JSON 형식으로 반환해야 한다.
+                2. `explanation` 필드는 문제와 정답에 대한 상세한 해설이며, 존댓말로 작성한다.
+                3. 문제 유형은 문제마다 MULTIPLE_CHOICE 또는 SHORT_ANSWER 중 하나를 랜덤으로 선택하라.
+                4. 객관식 문제(`MULTIPLE_CHOICE`)의 정답은 반드시 하나여야 해. 객관식 문제의 선택지는 2~4개로 제한한다.
+                5. 주관식 문제(`SHORT_ANSWER`)의 정답(`sampleAnswer`)은 반드시 하나의 단어여야 해. 답변이 영어일 경우에는 문제(`questionText`)에 명시해.
+                6. `questions` 배열에 정확히 %d개의 문제를 집중 영역 순서대로 담아라.
+
+                ### 문제별 집중 영역 ###
+                %s
+                ### 기반 텍스트 ###
+                ---
+                %s
+                ---
+                """.formatted(hints.size(), hints.size(), hintSection, context);
+    }
+
+    private GenerateContentConfig buildMultiQuestionGenerationConfig(int questionCount) {
+        final var commonRequired = ImmutableList.of("questionType", "questionText", "explanation");
+        final var questionSchema = ImmutableMap.of("oneOf", List.of(
+                buildMultipleChoiceSchema(commonRequired),
+                buildShortAnswerSchema(commonRequired)
+        ));
+
+        final var finalSchema = ImmutableMap.of(
+                "type", "object",
+                "properties", ImmutableMap.of(
+                        "questions", ImmutableMap.of(
+                                "type", "array",
+                                "minItems", questionCount,
+                                "maxItems", questionCount,
+                                "items", questionSchema
+                        )
+                ),
+                "required", ImmutableList.of("questions")
+        );
+
+        return GenerateContentConfig.builder()
+                .responseMimeType("application/json")
+                .responseJsonSchema(finalSchema)
+                .build();
+    }
+
     private GenerateContentConfig buildSingleQuestionGenerationConfig() {
         final var commonRequired = ImmutableList.of("questionType", "questionText", "explanation");
         final var multipleChoiceSchema = buildMultipleChoiceSchema(commonRequired);
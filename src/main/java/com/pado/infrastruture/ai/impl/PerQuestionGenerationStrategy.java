@@ -0,0 +1,44 @@
+package com.pado.infrastruture.ai.impl;
+
+import com.pado.infrastruture.ai.QuestionGenerationStrategy;
+import com.pado.infrastruture.ai.dto.AiQuestionDto;
+import com.pado.infrastruture.ai.dto.QuestionPrompt;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+
+// 문제 하나당 한 번씩 호출 (호출마다 해당 문제의 기반 텍스트를 전송)
+@Slf4j
+@RequiredArgsConstructor
+public class PerQuestionGenerationStrategy implements QuestionGenerationStrategy {
+
+    private final GeminiClient geminiClient;
+
+    @Override
+    public CompletableFuture<List<AiQuestionDto>> generate(List<QuestionPrompt> prompts, Executor executor, IntConsumer onGenerated) {
+        // prompt 리스트를 순회하면서 AI 문제 생성 요청
+        List<CompletableFuture<AiQuestionDto>> futures = prompts.stream()
+                .map(prompt -> geminiClient.generateSingleQuestion(prompt.context(), prompt.hint(), executor)
+                        .thenApply(question -> {
+                            onGenerated.accept(1);
+                            return question;
+                        })
+                        .exceptionally(ex -> {
+                            log.warn("Single-question generation failed; skipping this item.", ex);
+                            return null;
+                        }))
+                .toList();
+
+        // 모든 작업이 끝날 때까지 기다림 -> 성공한 결과만 모아서 반환
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+}
@@ -1,6 +1,8 @@
 package com.pado.infrastruture.listener;
 
 import com.pado.domain.material.event.MaterialDeletedEvent;
+import com.pado.domain.material.event.MaterialFilesUploadedEvent;
+import com.pado.domain.quiz.service.FileExtractionWorker;
 import com.pado.infrastruture.s3.S3FileDeleter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
@@ -11,10 +13,17 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class MaterialEventListener {
     private final S3FileDeleter s3FileDeleter;
+    private final FileExtractionWorker fileExtractionWorker;
 
     @Async
     @TransactionalEventListener
     public void handleMaterialDeletedEvent(MaterialDeletedEvent event) {
         s3FileDeleter.deleteFiles(event.fileKeys());
     }
+
+    // 큐에 넣기만 하므로 커밋한 스레드에서 바로 처리
+    @TransactionalEventListener
+    public void handleMaterialFilesUploadedEvent(MaterialFilesUploadedEvent event) {
+        fileExtractionWorker.enqueue(event.fileIds());
+    }
 }
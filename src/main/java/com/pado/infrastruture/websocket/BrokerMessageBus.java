@@ -0,0 +1,12 @@
+package com.pado.infrastruture.websocket;
+
+import java.util.function.Consumer;
+
+// 서버 간 브로커 메시지 전달 수단
+// publish한 메시지는 자신을 제외한 다른 서버의 구독자에게만 전달됨
+public interface BrokerMessageBus {
+
+    void publish(RelayedBrokerMessage message);
+
+    void subscribe(Consumer<RelayedBrokerMessage> handler);
+}
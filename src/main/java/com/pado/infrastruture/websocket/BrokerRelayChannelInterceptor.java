@@ -0,0 +1,54 @@
+package com.pado.infrastruture.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.util.MimeType;
+
+// brokerChannel로 들어오는 애플리케이션 메시지(/topic 브로드캐스트, /user 개인 메시지)를 다른 서버로 복제
+// 각 서버의 SimpleBroker는 자신에게 연결된 세션에만 전달하므로, 복제된 메시지는 각 서버에서 다시 brokerChannel로 주입됨
+@RequiredArgsConstructor
+public class BrokerRelayChannelInterceptor implements ChannelInterceptor {
+
+    // 다른 서버에서 전달받은 메시지 표시 (다시 전파하지 않음)
+    public static final String RELAYED_HEADER = "padoRelayed";
+
+    private final BrokerMessageBus brokerMessageBus;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (shouldRelay(message)) {
+            MessageHeaders headers = message.getHeaders();
+            MimeType contentType = headers.get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+
+            brokerMessageBus.publish(new RelayedBrokerMessage(
+                    null,
+                    SimpMessageHeaderAccessor.getDestination(headers),
+                    contentType != null ? contentType.toString() : null,
+                    (byte[]) message.getPayload()
+            ));
+        }
+        return message;
+    }
+
+    private boolean shouldRelay(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return false;
+        }
+        if (headers.containsKey(RELAYED_HEADER)) {
+            return false;
+        }
+        // 세션별로 변환된 /user 메시지는 원본 /user 메시지가 이미 전파되었으므로 제외
+        if (headers.containsKey(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION)) {
+            return false;
+        }
+        return SimpMessageHeaderAccessor.getDestination(headers) != null
+                && message.getPayload() instanceof byte[];
+    }
+}
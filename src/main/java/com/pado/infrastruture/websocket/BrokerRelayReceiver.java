@@ -0,0 +1,42 @@
+package com.pado.infrastruture.websocket;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+// 다른 서버에서 전달된 메시지를 이 서버의 brokerChannel로 주입해 로컬 구독자에게 전달
+@Slf4j
+@RequiredArgsConstructor
+public class BrokerRelayReceiver {
+
+    private final BrokerMessageBus brokerMessageBus;
+    private final MessageChannel brokerChannel;
+
+    @PostConstruct
+    public void subscribe() {
+        brokerMessageBus.subscribe(this::deliver);
+    }
+
+    void deliver(RelayedBrokerMessage relayed) {
+        // 서버 내부 이벤트(STOMP 목적지가 아닌 채널)는 브로커로 주입하지 않음
+        if (relayed.destination() == null || !relayed.destination().startsWith("/")) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayed.destination());
+        if (relayed.contentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(relayed.contentType()));
+        }
+        accessor.setHeader(BrokerRelayChannelInterceptor.RELAYED_HEADER, true);
+
+        if (!brokerChannel.send(MessageBuilder.createMessage(relayed.payload(), accessor.getMessageHeaders()))) {
+            log.warn("전달받은 브로커 메시지 주입 실패: destination={}", relayed.destination());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.pado.infrastruture.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Redis pub/sub 기반 구현 (모든 서버가 같은 채널을 구독)
+@Slf4j
+public class RedisBrokerMessageBus implements BrokerMessageBus {
+
+    private static final String RELAY_CHANNEL = "ws:broker:relay";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisBrokerMessageBus(RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(RelayedBrokerMessage message) {
+        try {
+            String body = objectMapper.writeValueAsString(message.withOrigin(nodeId));
+            redisTemplate.convertAndSend(RELAY_CHANNEL, body);
+        } catch (JsonProcessingException e) {
+            log.error("브로커 메시지 직렬화 실패: destination={}", message.destination(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<RelayedBrokerMessage> handler) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                RelayedBrokerMessage relayed = objectMapper.readValue(message.getBody(), RelayedBrokerMessage.class);
+                if (!nodeId.equals(relayed.originNodeId())) {
+                    handler.accept(relayed);
+                }
+            } catch (IOException e) {
+                log.error("브로커 메시지 역직렬화 실패", e);
+            }
+        }, new ChannelTopic(RELAY_CHANNEL));
+    }
+}
@@ -0,0 +1,14 @@
+package com.pado.infrastruture.websocket;
+
+// 다른 서버로 전달되는 브로커 메시지 (payload는 이미 직렬화된 STOMP 본문)
+public record RelayedBrokerMessage(
+        String originNodeId,
+        String destination,
+        String contentType,
+        byte[] payload
+) {
+
+    public RelayedBrokerMessage withOrigin(String nodeId) {
+        return new RelayedBrokerMessage(nodeId, destination, contentType, payload);
+    }
+}
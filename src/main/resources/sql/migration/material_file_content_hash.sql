@@ -0,0 +1,24 @@
+-- 추출 텍스트를 material_file.extracted_text 에서 파일 내용 해시(SHA-256) 기준 공유 테이블(extracted_text)로 이전
+-- 1) 배포 전에 컬럼/테이블 추가 (기존 행은 content_hash = NULL 로 남음)
+--    extracted_text 컬럼은 그대로 두어 배포 중에도 이전 버전 노드가 기존 텍스트를 읽을 수 있게 함
+ALTER TABLE material_file
+    ADD COLUMN content_hash VARCHAR(100) NULL AFTER processing_status;
+
+CREATE TABLE extracted_text (
+                                id BIGINT NOT NULL AUTO_INCREMENT,
+                                content_hash VARCHAR(100) NOT NULL,
+                                mime_type VARCHAR(255) NOT NULL,
+                                content MEDIUMTEXT NOT NULL,
+                                PRIMARY KEY (id),
+                                UNIQUE KEY uk_extracted_text_content_hash (content_hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 2) 배포 후 기존 텍스트는 일괄로 옮기거나 초기화하지 않음
+--    키가 원본 파일 바이트의 해시라 DB 에 남은 텍스트만으로는 계산할 수 없으므로,
+--    해시가 없는 완료 파일은 퀴즈 생성에 처음 쓰일 때 한 번 다시 내려받아 해시를 기록하고 공유 테이블에 저장함
+--    남은 파일 확인:
+--    SELECT COUNT(*) FROM material_file WHERE processing_status = 'COMPLETED' AND content_hash IS NULL;
+
+-- 3) 모든 노드가 새 버전으로 바뀐 뒤 별도 작업으로 이전 컬럼 삭제 (File 엔티티는 더 이상 이 컬럼을 매핑하지 않음)
+--    위 결과가 0 이 아니어도 남은 파일은 다음 사용 때 다시 추출되므로 삭제 시점은 운영 상황에 맞춰 결정
+-- ALTER TABLE material_file DROP COLUMN extracted_text;
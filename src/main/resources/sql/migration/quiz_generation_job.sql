@@ -0,0 +1,24 @@
+-- 퀴즈 생성을 노드 메모리의 비동기 작업에서 DB 작업 큐(quiz_generation_job)로 이전
+-- 1) 배포 전에 테이블 추가
+CREATE TABLE quiz_generation_job (
+                                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                     quiz_id BIGINT NOT NULL,
+                                     status VARCHAR(20) NOT NULL,
+                                     attempts INT NOT NULL DEFAULT 0,
+                                     next_attempt_at TIMESTAMP NOT NULL,
+                                     lease_owner VARCHAR(100),
+                                     lease_expires_at TIMESTAMP NULL,
+                                     last_error VARCHAR(500),
+                                     created_at TIMESTAMP NOT NULL,
+                                     updated_at TIMESTAMP NOT NULL,
+                                     UNIQUE KEY uk_quiz_generation_job_quiz_id (quiz_id),
+                                     INDEX idx_quiz_generation_job_status_next (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE quiz_generation_job ADD CONSTRAINT fk_qgj_quiz FOREIGN KEY (quiz_id) REFERENCES quiz(id) ON DELETE CASCADE;
+
+-- 2) 배포 후 QuizGenerationJobWorker 가 기동 시 작업 행 없이 GENERATING 으로 남은 퀴즈를 큐에 등록함
+--    남은 퀴즈 확인:
+--    SELECT COUNT(*) FROM quiz q
+--    WHERE q.status = 'GENERATING'
+--      AND NOT EXISTS (SELECT 1 FROM quiz_generation_job j WHERE j.quiz_id = q.id);
@@ -0,0 +1,13 @@
+-- 조율 가능 여부를 슬롯별 행(schedule_tune_slot)에서 조율당 비트 행렬(schedule_tune.occupancy_matrix)로 이전
+-- 1) 배포 전에 컬럼 추가 (기존 행은 occupancy_matrix = NULL 로 남음)
+ALTER TABLE schedule_tune
+    ADD COLUMN occupancy_matrix MEDIUMBLOB NULL,
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- 2) 배포 후 ScheduleTuneMatrixBackfill 이 기동 시 NULL 인 조율을 행렬로 옮기고 슬롯 행을 삭제함
+--    (옮기기 전 조율도 조회는 슬롯 행으로, 첫 투표 때 행렬로 옮겨 저장)
+--    남은 조율 확인:
+--    SELECT COUNT(*) FROM schedule_tune WHERE occupancy_matrix IS NULL;
+
+-- 3) 위 결과가 0 이 된 뒤 이전 테이블 삭제 (ScheduleTuneSlot 엔티티/리포지토리도 함께 제거)
+-- DROP TABLE schedule_tune_slot;
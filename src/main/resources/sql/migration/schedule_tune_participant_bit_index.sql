@@ -0,0 +1,31 @@
+-- 조율 참여자 비트 위치를 candidate_number(2^k, 최대 64명)에서 bit_index(제한 없음)로 이전
+-- 1) 컬럼 추가 후 기존 행은 candidate_number 의 지수로 채움 (1 << 63 은 음수로 저장되어 있으므로 63)
+ALTER TABLE schedule_tune_participant ADD COLUMN bit_index INT NULL AFTER study_member_id;
+
+UPDATE schedule_tune_participant
+SET bit_index = CASE
+                    WHEN candidate_number < 0 THEN 63
+                    ELSE ROUND(LOG2(candidate_number))
+                END
+WHERE candidate_number <> 0;
+
+-- 2) 65번째 멤버부터는 이전 코드(bit <<= 1)에서 candidate_number = 0 으로 저장됨 (LOG2(0) = NULL)
+--    조율마다 현재 최대 위치 다음부터 id 순으로 겹치지 않는 위치를 배정
+--    (이 멤버들의 투표는 이전 비트 마스크에 남지 않았으므로 새 위치의 비트는 비어 있음)
+UPDATE schedule_tune_participant p
+    JOIN (
+        SELECT z.id,
+               m.max_index + ROW_NUMBER() OVER (PARTITION BY z.schedule_tune_id ORDER BY z.id) AS bit_index
+        FROM schedule_tune_participant z
+                 JOIN (
+            SELECT schedule_tune_id, COALESCE(MAX(bit_index), -1) AS max_index
+            FROM schedule_tune_participant
+            GROUP BY schedule_tune_id
+        ) m ON m.schedule_tune_id = z.schedule_tune_id
+        WHERE z.candidate_number = 0
+    ) assigned ON assigned.id = p.id
+SET p.bit_index = assigned.bit_index;
+
+-- 3) 남은 NULL 이 없는지 확인한 뒤 NOT NULL 로 변경
+--    SELECT COUNT(*) FROM schedule_tune_participant WHERE bit_index IS NULL;
+ALTER TABLE schedule_tune_participant MODIFY COLUMN bit_index INT NOT NULL;
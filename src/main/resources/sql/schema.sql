@@ -4,6 +4,7 @@ SET FOREIGN_KEY_CHECKS = 0;
 -- 1) 기존 테이블 삭제
 DROP TABLE IF EXISTS attendance;
 DROP TABLE IF EXISTS material_file;
+DROP TABLE IF EXISTS extracted_text;
 DROP TABLE IF EXISTS material;
 DROP TABLE IF EXISTS schedule_tune_participant;
 DROP TABLE IF EXISTS schedule_tune_slot;
@@ -23,6 +24,7 @@ DROP TABLE IF EXISTS multiple_choice_question;
 DROP TABLE IF EXISTS short_answer_question;
 DROP TABLE IF EXISTS quiz_question;
 DROP TABLE IF EXISTS quiz_file_source;
+DROP TABLE IF EXISTS quiz_generation_job;
 DROP TABLE IF EXISTS quiz;
 DROP TABLE IF EXISTS study_member;
 DROP TABLE IF EXISTS study;
@@ -125,7 +127,7 @@ CREATE TABLE material_file (
                                material_id BIGINT NOT NULL,
                                size BIGINT NOT NULL,
                                processing_status VARCHAR(50),
-                               extracted_text MEDIUMTEXT,
+                               content_hash VARCHAR(100),
                                file_key VARCHAR(255) NOT NULL,
                                file_type VARCHAR(255) NOT NULL,
                                name VARCHAR(255) NOT NULL,
@@ -133,6 +135,15 @@ CREATE TABLE material_file (
                                UNIQUE KEY uk_material_file_key (file_key)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+CREATE TABLE extracted_text (
+                                id BIGINT NOT NULL AUTO_INCREMENT,
+                                content_hash VARCHAR(100) NOT NULL,
+                                mime_type VARCHAR(255) NOT NULL,
+                                content MEDIUMTEXT NOT NULL,
+                                PRIMARY KEY (id),
+                                UNIQUE KEY uk_extracted_text_content_hash (content_hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 CREATE TABLE schedule_tune (
                                id BIGINT NOT NULL AUTO_INCREMENT,
                                available_start_time TIME(6) NOT NULL,
@@ -146,6 +157,8 @@ CREATE TABLE schedule_tune (
                                description TEXT NULL,
                                title VARCHAR(255) NOT NULL,
                                status ENUM ('PENDING','COMPLETED') NOT NULL,
+                               occupancy_matrix MEDIUMBLOB NULL,
+                               version BIGINT NOT NULL DEFAULT 0,
                                PRIMARY KEY (id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
@@ -153,6 +166,7 @@ CREATE TABLE schedule_tune_participant (
                                            id BIGINT NOT NULL AUTO_INCREMENT,
                                            schedule_tune_id BIGINT NOT NULL,
                                            study_member_id BIGINT NOT NULL,
+                                           bit_index INT NOT NULL,
                                            candidate_number BIGINT NOT NULL,
                                            created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
                                            updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
@@ -246,6 +260,21 @@ CREATE TABLE quiz (
                       updated_at TIMESTAMP NOT NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+CREATE TABLE quiz_generation_job (
+                                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                     quiz_id BIGINT NOT NULL,
+                                     status VARCHAR(20) NOT NULL,
+                                     attempts INT NOT NULL DEFAULT 0,
+                                     next_attempt_at TIMESTAMP NOT NULL,
+                                     lease_owner VARCHAR(100),
+                                     lease_expires_at TIMESTAMP NULL,
+                                     last_error VARCHAR(500),
+                                     created_at TIMESTAMP NOT NULL,
+                                     updated_at TIMESTAMP NOT NULL,
+                                     UNIQUE KEY uk_quiz_generation_job_quiz_id (quiz_id),
+                                     INDEX idx_quiz_generation_job_status_next (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 CREATE TABLE quiz_file_source (
                                   quiz_id BIGINT NOT NULL,
                                   file_id BIGINT NOT NULL,
@@ -345,6 +374,7 @@ ALTER TABLE reflection ADD CONSTRAINT fk_reflection_study_member FOREIGN KEY (st
 ALTER TABLE reflection ADD CONSTRAINT fk_reflection_schedule FOREIGN KEY (schedule_id) REFERENCES schedule(id) ON DELETE SET NULL;
 ALTER TABLE quiz ADD CONSTRAINT fk_quiz_study FOREIGN KEY (study_id) REFERENCES study(id) ON DELETE CASCADE;
 ALTER TABLE quiz ADD CONSTRAINT fk_quiz_user FOREIGN KEY (created_by) REFERENCES users(id) ON DELETE CASCADE;
+ALTER TABLE quiz_generation_job ADD CONSTRAINT fk_qgj_quiz FOREIGN KEY (quiz_id) REFERENCES quiz(id) ON DELETE CASCADE;
 ALTER TABLE quiz_file_source ADD CONSTRAINT fk_qfs_quiz FOREIGN KEY (quiz_id) REFERENCES quiz(id) ON DELETE CASCADE;
 ALTER TABLE quiz_file_source ADD CONSTRAINT fk_qfs_file FOREIGN KEY (file_id) REFERENCES material_file(id) ON DELETE CASCADE;
 ALTER TABLE quiz_question ADD CONSTRAINT fk_qq_quiz FOREIGN KEY (quiz_id) REFERENCES quiz(id) ON DELETE CASCADE;
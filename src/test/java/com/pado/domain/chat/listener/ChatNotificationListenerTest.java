@@ -4,6 +4,7 @@ import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
 import com.pado.domain.chat.entity.ChatMessage;
 import com.pado.domain.chat.entity.MessageType;
 import com.pado.domain.chat.repository.ChatMessageRepository;
+import com.pado.domain.chat.service.RedisChatUnreadCounter;
 import com.pado.domain.material.event.NoticeCreatedEvent;
 import com.pado.domain.schedule.event.ScheduleCreatedEvent;
 import com.pado.domain.study.entity.Study;
@@ -19,6 +20,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -44,6 +46,12 @@ class ChatNotificationListenerTest {
     @Mock
     private StudyRepository studyRepository;
 
+    @Mock
+    private RedisChatUnreadCounter unreadCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Study study;
     private User leader;
 
@@ -0,0 +1,150 @@
+package com.pado.domain.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatDeliveryDispatcherTest {
+
+    private static final Long STUDY_ID = 1L;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatDeliveryDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new ChatDeliveryDispatcher(messagingTemplate, meterRegistry, 2, 100, 1, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void 트랜잭션_안의_전송은_커밋_이후에_실행() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        dispatcher.send(STUDY_ID, "/topic/studies/1/chats", "hello");
+        verifyNoInteractions(messagingTemplate);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        verify(messagingTemplate, timeout(1000)).convertAndSend("/topic/studies/1/chats", (Object) "hello");
+        assertThat(meterRegistry.get("chat.delivery.dispatch.latency").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void 롤백되면_전송하지_않음() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        dispatcher.send(STUDY_ID, "/topic/studies/1/chats", "hello");
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        dispatcher.shutdown();
+
+        // then
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void 같은_스터디의_작업은_요청_순서대로_실행() throws InterruptedException {
+        // given
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(50);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            int order = i;
+            dispatcher.execute(STUDY_ID, () -> {
+                executed.add(order);
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isSorted().hasSize(50);
+        assertThat(meterRegistry.get("chat.delivery.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void 레인_큐가_가득_차면_자리가_날_때까지_기다렸다가_순서대로_전송() throws InterruptedException {
+        // given: 레인 1개, 큐 1칸
+        dispatcher.shutdown();
+        dispatcher = new ChatDeliveryDispatcher(messagingTemplate, meterRegistry, 1, 1, 1, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        dispatcher.execute(STUDY_ID, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            executed.add("first");
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        dispatcher.execute(STUDY_ID, () -> executed.add("queued"));
+
+        // when: 큐가 가득 찬 상태의 요청은 레인이 비워질 때까지 기다림
+        Thread producer = new Thread(() -> dispatcher.execute(STUDY_ID, () -> executed.add("overflow")));
+        producer.start();
+        Thread.sleep(50);
+        release.countDown();
+        producer.join(1000);
+        dispatcher.shutdown();
+
+        // then
+        assertThat(executed).containsExactly("first", "queued", "overflow");
+        assertThat(meterRegistry.get("chat.delivery.backpressure").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 알림_작업은_채팅_레인과_별도로_실행() throws InterruptedException {
+        // given: 채팅 레인을 막아 둠
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch notified = new CountDownLatch(1);
+        dispatcher.execute(STUDY_ID, () -> awaitQuietly(release));
+
+        // when
+        dispatcher.executeNotification(notified::countDown);
+
+        // then
+        assertThat(notified.await(1, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
+import com.pado.domain.chat.dto.response.ChatReactionCountDto;
+import com.pado.domain.chat.entity.MessageType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatHistoryCacheTest {
+
+    private static final Long STUDY_ID = 1L;
+
+    private ChatHistoryCache chatHistoryCache;
+
+    @BeforeEach
+    void setUp() {
+        chatHistoryCache = new ChatHistoryCache();
+        ReflectionTestUtils.setField(chatHistoryCache, "windowSize", 5);
+        ReflectionTestUtils.setField(chatHistoryCache, "maxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(chatHistoryCache, "ttlMillis", 60_000L);
+    }
+
+    @Test
+    void 첫_페이지와_구간_안의_커서_조회는_캐시에서_응답() {
+        // given: 메시지 10..6 (더 오래된 메시지가 DB에 남아있음)
+        chatHistoryCache.load(STUDY_ID, 0L, messages(10, 6), false);
+
+        // when
+        Optional<ChatHistoryPage> firstPage = chatHistoryCache.findPage(STUDY_ID, null, 3);
+        Optional<ChatHistoryPage> nearHead = chatHistoryCache.findPage(STUDY_ID, 10L, 3);
+
+        // then
+        assertThat(firstPage).isPresent();
+        assertThat(ids(firstPage.get())).containsExactly(10L, 9L, 8L);
+        assertThat(firstPage.get().hasNext()).isTrue();
+        assertThat(ids(nearHead.get())).containsExactly(9L, 8L, 7L);
+    }
+
+    @Test
+    void 구간_아래쪽까지_필요한_조회는_캐시_미스() {
+        // given
+        chatHistoryCache.load(STUDY_ID, 0L, messages(10, 6), false);
+
+        // when & then
+        assertThat(chatHistoryCache.findPage(STUDY_ID, 8L, 3)).isEmpty();
+        assertThat(chatHistoryCache.findPage(STUDY_ID, null, 5)).isEmpty();
+    }
+
+    @Test
+    void 스터디의_모든_메시지를_가진_구간은_마지막_페이지도_응답() {
+        // given
+        chatHistoryCache.load(STUDY_ID, 0L, messages(3, 1), true);
+
+        // when
+        Optional<ChatHistoryPage> page = chatHistoryCache.findPage(STUDY_ID, null, 20);
+
+        // then
+        assertThat(ids(page.get())).containsExactly(3L, 2L, 1L);
+        assertThat(page.get().hasNext()).isFalse();
+    }
+
+    @Test
+    void 새_메시지_추가시_가장_오래된_메시지를_밀어냄() {
+        // given
+        chatHistoryCache.load(STUDY_ID, 0L, messages(5, 1), true);
+
+        // when
+        chatHistoryCache.append(STUDY_ID, message(6L));
+
+        // then
+        assertThat(ids(chatHistoryCache.findPage(STUDY_ID, null, 4).get())).containsExactly(6L, 5L, 4L, 3L);
+        assertThat(chatHistoryCache.findPage(STUDY_ID, 3L, 4)).isEmpty();
+    }
+
+    @Test
+    void 삭제와_리액션_변경을_구간에_반영() {
+        // given
+        chatHistoryCache.load(STUDY_ID, 0L, messages(3, 1), true);
+
+        // when
+        chatHistoryCache.remove(STUDY_ID, 2L);
+        chatHistoryCache.updateReactionCounts(STUDY_ID, List.of(new ChatReactionCountDto(3L, 1L, 0L)));
+
+        // then
+        ChatHistoryPage page = chatHistoryCache.findPage(STUDY_ID, null, 20).get();
+        assertThat(ids(page)).containsExactly(3L, 1L);
+        assertThat(page.messages().get(0).likeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 유효_시간이_지난_구간은_캐시_미스() {
+        // given
+        ReflectionTestUtils.setField(chatHistoryCache, "ttlMillis", -1L);
+        chatHistoryCache.load(STUDY_ID, 0L, messages(3, 1), true);
+
+        // when & then
+        assertThat(chatHistoryCache.findPage(STUDY_ID, null, 20)).isEmpty();
+    }
+
+    @Test
+    void 로딩_중에_변경이_있었으면_로딩_결과를_버림() {
+        // given
+        long version = chatHistoryCache.currentVersion(STUDY_ID);
+        chatHistoryCache.append(STUDY_ID, message(4L));
+
+        // when
+        chatHistoryCache.load(STUDY_ID, version, messages(3, 1), true);
+
+        // then
+        assertThat(chatHistoryCache.findPage(STUDY_ID, null, 20)).isEmpty();
+    }
+
+    @Test
+    void 메모리_상한을_넘으면_가장_오래_조회되지_않은_스터디부터_제거() {
+        // given: 스터디 하나 분량만 들어가는 상한
+        ReflectionTestUtils.setField(chatHistoryCache, "maxBytes", 1_500L);
+        chatHistoryCache.load(1L, 0L, messages(5, 1), true);
+        chatHistoryCache.load(2L, 0L, messages(5, 1), true);
+
+        // when & then
+        assertThat(chatHistoryCache.findPage(1L, null, 20)).isEmpty();
+        assertThat(chatHistoryCache.findPage(2L, null, 20)).isPresent();
+    }
+
+    private List<ChatMessageResponseDto> messages(long newestId, long oldestId) {
+        return LongStream.rangeClosed(oldestId, newestId)
+                .map(id -> newestId - id + oldestId)
+                .mapToObj(this::message)
+                .toList();
+    }
+
+    private ChatMessageResponseDto message(long id) {
+        return new ChatMessageResponseDto(
+                id, MessageType.CHAT, 1L, "test", "message " + id, null,
+                0L, 0L, 0L, LocalDateTime.now()
+        );
+    }
+
+    private List<Long> ids(ChatHistoryPage page) {
+        return page.messages().stream()
+                .map(ChatMessageResponseDto::messageId)
+                .toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.pado.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
+import com.pado.domain.chat.dto.response.ChatReactionCountDto;
+import com.pado.domain.chat.entity.MessageType;
+import com.pado.infrastruture.websocket.BrokerMessageBus;
+import com.pado.infrastruture.websocket.RelayedBrokerMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서버 두 대의 캐시가 버스를 통해 같은 변경을 반영하는지 확인
+class ChatHistoryReplicatorTest {
+
+    private static final Long STUDY_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<RelayedBrokerMessage> published = new CopyOnWriteArrayList<>();
+
+    private ChatHistoryCache cacheA;
+    private ChatHistoryCache cacheB;
+    private ChatHistoryReplicator replicatorA;
+    private ChatHistoryReplicator replicatorB;
+
+    @BeforeEach
+    void setUp() {
+        cacheA = cache();
+        cacheB = cache();
+        replicatorA = replicator(cacheA);
+        replicatorB = replicator(cacheB);
+
+        cacheA.load(STUDY_ID, 0L, List.of(message(2L), message(1L)), true);
+        cacheB.load(STUDY_ID, 0L, List.of(message(2L), message(1L)), true);
+    }
+
+    @Test
+    void 다른_서버에서_커밋된_메시지와_리액션을_반영() {
+        // when
+        replicatorA.append(STUDY_ID, message(3L));
+        replicatorA.updateReactionCounts(STUDY_ID, List.of(new ChatReactionCountDto(2L, 4L, 1L)));
+        published.forEach(replicatorB::receive);
+
+        // then
+        List<ChatMessageResponseDto> page = cacheB.findPage(STUDY_ID, null, 20).get().messages();
+        assertThat(page).extracting(ChatMessageResponseDto::messageId).containsExactly(3L, 2L, 1L);
+        assertThat(page.get(1).likeCount()).isEqualTo(4L);
+    }
+
+    @Test
+    void 트랜잭션_안의_무효화는_커밋_이후에_모든_서버에_반영() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            replicatorA.invalidate(STUDY_ID);
+            assertThat(cacheA.findPage(STUDY_ID, null, 20)).isPresent();
+            assertThat(published).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        published.forEach(replicatorB::receive);
+
+        // then
+        assertThat(cacheA.findPage(STUDY_ID, null, 20)).isEmpty();
+        assertThat(cacheB.findPage(STUDY_ID, null, 20)).isEmpty();
+    }
+
+    @Test
+    void STOMP_메시지는_무시() {
+        // when
+        replicatorB.receive(new RelayedBrokerMessage("node-a", "/topic/studies/1/chats", "application/json", new byte[0]));
+
+        // then
+        assertThat(cacheB.findPage(STUDY_ID, null, 20).get().messages()).hasSize(2);
+    }
+
+    private ChatHistoryReplicator replicator(ChatHistoryCache cache) {
+        BrokerMessageBus bus = new BrokerMessageBus() {
+            @Override
+            public void publish(RelayedBrokerMessage message) {
+                published.add(message);
+            }
+
+            @Override
+            public void subscribe(Consumer<RelayedBrokerMessage> handler) {
+            }
+        };
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("brokerMessageBus", bus);
+        return new ChatHistoryReplicator(cache, beanFactory.getBeanProvider(BrokerMessageBus.class), objectMapper);
+    }
+
+    private static ChatHistoryCache cache() {
+        ChatHistoryCache cache = new ChatHistoryCache();
+        ReflectionTestUtils.setField(cache, "windowSize", 5);
+        ReflectionTestUtils.setField(cache, "maxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(cache, "ttlMillis", 60_000L);
+        return cache;
+    }
+
+    private static ChatMessageResponseDto message(long id) {
+        return new ChatMessageResponseDto(
+                id, MessageType.CHAT, 1L, "test", "message " + id, null,
+                0L, 0L, 0L, LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.dto.response.ChatReactionCountDto;
+import com.pado.domain.chat.dto.response.UpdatedChatRoomBatchResponseDto;
+import com.pado.domain.chat.dto.response.UpdatedChatRoomResponseDto;
+import com.pado.domain.chat.entity.UpdateType;
+import com.pado.domain.chat.repository.ChatReactionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatReactionUpdateCoalescerTest {
+
+    @InjectMocks
+    private ChatReactionUpdateCoalescer coalescer;
+
+    @Mock
+    private ChatReactionRepository chatReactionRepository;
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private ChatHistoryReplicator chatHistoryReplicator;
+
+    private static final Long STUDY_ID = 1L;
+
+    @Test
+    void 같은_스터디의_리액션_변경은_한_프레임으로_전송() {
+        // given
+        coalescer.markChanged(STUDY_ID, 10L);
+        coalescer.markChanged(STUDY_ID, 10L);
+        coalescer.markChanged(STUDY_ID, 11L);
+        when(chatReactionRepository.findReactionCountsByMessageIdIn(argThat(ids -> Set.copyOf(ids).equals(Set.of(10L, 11L)))))
+                .thenReturn(List.of(new ChatReactionCountDto(10L, 2L, 0L)));
+
+        // when
+        coalescer.flush();
+
+        // then
+        ArgumentCaptor<UpdatedChatRoomBatchResponseDto> captor = ArgumentCaptor.forClass(UpdatedChatRoomBatchResponseDto.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/studies/1/reactions"), captor.capture());
+        verify(messagingTemplate, never()).convertAndSend(eq("/topic/studies/1/updates"), any(Object.class));
+
+        UpdatedChatRoomBatchResponseDto batch = captor.getValue();
+        assertThat(batch.type()).isEqualTo(UpdateType.IMOJI_BATCH);
+        assertThat(batch.updates()).hasSize(2);
+        assertThat(batch.updates().get(0).messageId()).isEqualTo(10L);
+        assertThat(batch.updates().get(0).likeCount()).isEqualTo(2L);
+        // 리액션이 모두 사라진 메시지는 0으로 전송
+        assertThat(batch.updates().get(1).likeCount()).isZero();
+        assertThat(batch.updates().get(1).dislikeCount()).isZero();
+    }
+
+    @Test
+    void 기존_클라이언트용_메시지별_프레임도_전송() {
+        // given
+        ReflectionTestUtils.setField(coalescer, "legacyUpdateFrames", true);
+        coalescer.markChanged(STUDY_ID, 10L);
+        when(chatReactionRepository.findReactionCountsByMessageIdIn(List.of(10L)))
+                .thenReturn(List.of(new ChatReactionCountDto(10L, 3L, 1L)));
+
+        // when
+        coalescer.flush();
+
+        // then
+        verify(messagingTemplate).convertAndSend(eq("/topic/studies/1/reactions"), any(UpdatedChatRoomBatchResponseDto.class));
+        verify(messagingTemplate).convertAndSend("/topic/studies/1/updates",
+                (Object) new UpdatedChatRoomResponseDto(UpdateType.IMOJI, 10L, 3L, 1L));
+    }
+
+    @Test
+    void 전송한_변경은_다음_주기에_다시_보내지_않음() {
+        // given
+        coalescer.markChanged(STUDY_ID, 10L);
+        when(chatReactionRepository.findReactionCountsByMessageIdIn(List.of(10L)))
+                .thenReturn(List.of(new ChatReactionCountDto(10L, 1L, 0L)));
+
+        // when
+        coalescer.flush();
+        coalescer.flush();
+
+        // then
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void 삭제된_메시지의_변경은_전송하지_않음() {
+        // given
+        coalescer.markChanged(STUDY_ID, 10L);
+
+        // when
+        coalescer.discard(STUDY_ID, 10L);
+        coalescer.flush();
+
+        // then
+        verifyNoInteractions(chatReactionRepository, messagingTemplate);
+    }
+}
@@ -4,12 +4,15 @@ import com.pado.domain.chat.dto.request.ChatMessageRequestDto;
 import com.pado.domain.chat.dto.request.ReactionRequestDto;
 import com.pado.domain.chat.dto.response.ChatMessageListResponseDto;
 import com.pado.domain.chat.dto.response.ChatMessageResponseDto;
-import com.pado.domain.chat.dto.response.ChatReactionCountDto;
-import com.pado.domain.chat.dto.response.UpdatedChatRoomResponseDto;
+import com.pado.domain.chat.dto.response.UnreadCountResponseDto;
 import com.pado.domain.chat.entity.*;
+import com.pado.domain.chat.event.ChatMessageDeletedEvent;
+import com.pado.domain.chat.event.ChatReactionChangedEvent;
 import com.pado.domain.chat.repository.ChatMessageRepository;
 import com.pado.domain.chat.repository.ChatReactionRepository;
+import com.pado.domain.chat.repository.LastReadMessageJdbcRepository;
 import com.pado.domain.chat.repository.LastReadMessageRepository;
+import com.pado.domain.chat.repository.dto.MemberReadCursorDto;
 import com.pado.domain.study.entity.Study;
 import com.pado.domain.study.entity.StudyMember;
 import com.pado.domain.study.repository.StudyMemberRepository;
@@ -26,6 +29,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -52,11 +56,27 @@ class ChatServiceTest {
     @Mock
     private LastReadMessageRepository lastReadRepository;
     @Mock
+    private LastReadMessageJdbcRepository lastReadJdbcRepository;
+    @Mock
     private RedisChatModalManager modalManager;
     @Mock
+    private RedisChatUnreadCounter unreadCounter;
+    @Mock
+    private ReadCursorBuffer readCursorBuffer;
+    @Mock
+    private ReadCursorIndex readCursorIndex;
+    @Mock
     private SimpMessagingTemplate messagingTemplate;
     @Mock
+    private ChatDeliveryDispatcher deliveryDispatcher;
+    @Mock
     private ChatReactionRepository chatReactionRepository;
+    @Mock
+    private ChatReactionUpdateCoalescer reactionUpdateCoalescer;
+    @Mock
+    private ChatHistoryCache chatHistoryCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private static final Long TEST_USER_ID = 1L;
     private static final Long TEST_STUDY_ID = 1L;
@@ -115,9 +135,7 @@ class ChatServiceTest {
             requestDto = new ChatMessageRequestDto("안녕하세요!");
             when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(chatMessage);
             when(modalManager.getOpenSocketUserIds(TEST_STUDY_ID)).thenReturn(new HashSet<>());
-            when(lastReadRepository.countUnreadMembers(anyLong(), anyLong())).thenReturn(0L);
-            when(chatReactionRepository.findReactionCountsByMessageIdIn(List.of(TEST_MESSAGE_ID)))
-                    .thenReturn(List.of(new ChatReactionCountDto(TEST_MESSAGE_ID, 0L, 0L)));
+            when(readCursorIndex.countUnreadMembers(TEST_STUDY_ID, TEST_MESSAGE_ID)).thenReturn(0L);
 
             // when
             chatService.sendMessage(TEST_STUDY_ID, requestDto, user);
@@ -130,8 +148,8 @@ class ChatServiceTest {
             assertThat(savedMessage.getSender()).isEqualTo(studyMember);
 
             ArgumentCaptor<ChatMessageResponseDto> dtoCaptor = ArgumentCaptor.forClass(ChatMessageResponseDto.class);
-            verify(messagingTemplate, times(1))
-                    .convertAndSend(eq("/topic/studies/1/chats"), dtoCaptor.capture());
+            verify(deliveryDispatcher, times(1))
+                    .send(eq(TEST_STUDY_ID), eq("/topic/studies/1/chats"), dtoCaptor.capture());
             ChatMessageResponseDto sentDto = dtoCaptor.getValue();
             assertThat(sentDto.content()).isEqualTo("test message");
             assertThat(sentDto.senderName()).isEqualTo(user.getNickname());
@@ -178,32 +196,89 @@ class ChatServiceTest {
             // given
             requestDto = new ChatMessageRequestDto("안녕하세요!");
 
+            Set<Long> onlineUserIds = new HashSet<>(Arrays.asList(TEST_USER_ID, 2L));
+
+            when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(chatMessage);
+            when(modalManager.getOpenSocketUserIds(TEST_STUDY_ID)).thenReturn(onlineUserIds);
+            when(studyMemberRepository.findIdsByStudyIdAndUserIdIn(TEST_STUDY_ID, onlineUserIds))
+                    .thenReturn(List.of(TEST_STUDY_MEMBER_ID, 2L));
+            when(readCursorIndex.countUnreadMembers(TEST_STUDY_ID, TEST_MESSAGE_ID)).thenReturn(1L);
+
+            // when
+            chatService.sendMessage(TEST_STUDY_ID, requestDto, user);
+
+            // then
+            verify(readCursorBuffer).advanceAll(List.of(TEST_STUDY_MEMBER_ID, 2L), TEST_MESSAGE_ID);
+            verify(readCursorIndex).advance(TEST_STUDY_ID, List.of(TEST_STUDY_MEMBER_ID, 2L), TEST_MESSAGE_ID);
+            verify(lastReadRepository, never()).findByStudyMemberIn(anyList());
+
+            ArgumentCaptor<ChatMessageResponseDto> dtoCaptor = ArgumentCaptor.forClass(ChatMessageResponseDto.class);
+            verify(deliveryDispatcher).send(eq(TEST_STUDY_ID), eq("/topic/studies/1/chats"), dtoCaptor.capture());
+            assertThat(dtoCaptor.getValue().unreadMemberCount()).isEqualTo(1L);
+        }
+
+        @Test
+        void 인덱스가_로딩되지_않은_상태에서도_접속_멤버는_읽은_것으로_계산() {
+            // given
+            requestDto = new ChatMessageRequestDto("안녕하세요!");
+            ReadCursorIndex coldIndex = new ReadCursorIndex(lastReadRepository, readCursorBuffer);
+            ReflectionTestUtils.setField(coldIndex, "indexTtlMillis", 60_000L);
+            ReflectionTestUtils.setField(chatService, "readCursorIndex", coldIndex);
+
+            Set<Long> onlineUserIds = new HashSet<>(Arrays.asList(TEST_USER_ID, 2L));
+
+            when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(chatMessage);
+            when(modalManager.getOpenSocketUserIds(TEST_STUDY_ID)).thenReturn(onlineUserIds);
+            when(studyMemberRepository.findIdsByStudyIdAndUserIdIn(TEST_STUDY_ID, onlineUserIds))
+                    .thenReturn(List.of(TEST_STUDY_MEMBER_ID, 2L));
+            when(lastReadRepository.findReadCursorsByStudyId(TEST_STUDY_ID)).thenReturn(List.of(
+                    new MemberReadCursorDto(TEST_STUDY_MEMBER_ID, 0L),
+                    new MemberReadCursorDto(2L, 0L),
+                    new MemberReadCursorDto(3L, 0L)
+            ));
+            when(readCursorBuffer.pendingOf(anyLong())).thenReturn(Optional.empty());
+
+            // when
+            chatService.sendMessage(TEST_STUDY_ID, requestDto, user);
+
+            // then
+            ArgumentCaptor<ChatMessageResponseDto> dtoCaptor = ArgumentCaptor.forClass(ChatMessageResponseDto.class);
+            verify(deliveryDispatcher).send(eq(TEST_STUDY_ID), eq("/topic/studies/1/chats"), dtoCaptor.capture());
+            assertThat(dtoCaptor.getValue().unreadMemberCount()).isEqualTo(1L);
+        }
+
+        @Test
+        void 미접속_멤버에게_카운터_기반_안읽은_메세지_수_전송() {
+            // given
+            requestDto = new ChatMessageRequestDto("안녕하세요!");
+
             User user2 = User.builder().email("user2@test.com").nickname("유저2").build();
             ReflectionTestUtils.setField(user2, "id", 2L);
             StudyMember member2 = StudyMember.builder().study(study).user(user2).build();
             ReflectionTestUtils.setField(member2, "id", 2L);
 
-            Set<Long> onlineUserIds = new HashSet<>(Arrays.asList(TEST_USER_ID, 2L));
-
-            LastReadMessage lastRead1 = LastReadMessage.builder().studyMember(studyMember).lastReadMessageId(0L).build();
-            LastReadMessage lastRead2 = LastReadMessage.builder().studyMember(member2).lastReadMessageId(0L).build();
-
             when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(chatMessage);
-            when(modalManager.getOpenSocketUserIds(TEST_STUDY_ID)).thenReturn(onlineUserIds);
-            when(studyMemberRepository.findByStudyIdAndUserIdIn(TEST_STUDY_ID, onlineUserIds))
-                    .thenReturn(Arrays.asList(studyMember, member2));
-            when(lastReadRepository.findByStudyMemberIn(anyList()))
-                    .thenReturn(Arrays.asList(lastRead1, lastRead2));
-            when(lastReadRepository.countUnreadMembers(TEST_STUDY_ID, TEST_MESSAGE_ID)).thenReturn(0L);
-            when(chatReactionRepository.findReactionCountsByMessageIdIn(List.of(TEST_MESSAGE_ID)))
-                    .thenReturn(List.of(new ChatReactionCountDto(TEST_MESSAGE_ID, 0L, 0L)));
+            when(modalManager.getOpenSocketUserIds(TEST_STUDY_ID)).thenReturn(Set.of(TEST_USER_ID));
+            when(studyMemberRepository.findIdsByStudyIdAndUserIdIn(eq(TEST_STUDY_ID), anySet()))
+                    .thenReturn(List.of(TEST_STUDY_MEMBER_ID));
+            when(studyMemberRepository.findByStudyIdFetchUser(TEST_STUDY_ID))
+                    .thenReturn(List.of(studyMember, member2));
+            when(unreadCounter.incrementAll(TEST_STUDY_ID, List.of(2L))).thenReturn(Map.of(2L, 3L));
+            // 커밋 이후 실행되는 작업을 바로 실행
+            doAnswer(invocation -> {
+                invocation.<Runnable>getArgument(0).run();
+                return null;
+            }).when(deliveryDispatcher).executeNotification(any(Runnable.class));
 
             // when
             chatService.sendMessage(TEST_STUDY_ID, requestDto, user);
 
             // then
-            assertThat(lastRead1.getLastReadMessageId()).isEqualTo(TEST_MESSAGE_ID);
-            assertThat(lastRead2.getLastReadMessageId()).isEqualTo(TEST_MESSAGE_ID);
+            ArgumentCaptor<UnreadCountResponseDto> unreadCaptor = ArgumentCaptor.forClass(UnreadCountResponseDto.class);
+            verify(messagingTemplate).convertAndSendToUser(
+                    eq("user2@test.com"), eq("/queue/studies/1/unread"), unreadCaptor.capture());
+            assertThat(unreadCaptor.getValue().unreadCount()).isEqualTo(3L);
+            verify(chatMessageRepository, never()).countByIdGreaterThanAndStudyId(anyLong(), anyLong());
         }
     }
 
@@ -221,7 +296,7 @@ class ChatServiceTest {
             // given
             when(chatMessageRepository.findChatMessagesWithCursor(TEST_STUDY_ID, null, 20))
                     .thenReturn(List.of(chatMessage));
-            when(lastReadRepository.getUnreadCountsForMessages(eq(TEST_STUDY_ID), anyList()))
+            when(readCursorIndex.getUnreadCounts(eq(TEST_STUDY_ID), anyList()))
                     .thenReturn(Map.of(TEST_MESSAGE_ID, 0L));
             when(chatReactionRepository.findReactionCountsByMessageIdIn(anyList()))
                     .thenReturn(Collections.emptyList());
@@ -237,6 +312,47 @@ class ChatServiceTest {
             assertThat(result.hasNext()).isFalse();
         }
 
+        @Test
+        void 최신_메세지_구간은_캐시에서_조회() {
+            // given
+            ChatMessageResponseDto cached = ChatMessageResponseDto.from(chatMessage, 2L, 0L, 0L);
+            when(studyMemberRepository.findByStudyIdAndUserId(TEST_STUDY_ID, TEST_USER_ID)).thenReturn(Optional.of(studyMember));
+            when(chatHistoryCache.findPage(TEST_STUDY_ID, null, 20))
+                    .thenReturn(Optional.of(new ChatHistoryPage(List.of(cached), false)));
+            when(readCursorIndex.getUnreadCounts(TEST_STUDY_ID, List.of(TEST_MESSAGE_ID)))
+                    .thenReturn(Map.of(TEST_MESSAGE_ID, 3L));
+
+            // when
+            ChatMessageListResponseDto result = chatService.getChatMessages(TEST_STUDY_ID, null, 20, user);
+
+            // then
+            assertThat(result.messages()).hasSize(1);
+            assertThat(result.messages().get(0).likeCount()).isEqualTo(2L);
+            assertThat(result.messages().get(0).unreadMemberCount()).isEqualTo(3L);
+            verify(chatMessageRepository, never()).findChatMessagesWithCursor(anyLong(), any(), anyInt());
+            verify(chatReactionRepository, never()).findReactionCountsByMessageIdIn(anyList());
+        }
+
+        @Test
+        void 첫_페이지_캐시_미스시_구간을_읽어_캐시에_등록() {
+            // given
+            when(studyMemberRepository.findByStudyIdAndUserId(TEST_STUDY_ID, TEST_USER_ID)).thenReturn(Optional.of(studyMember));
+            when(chatHistoryCache.windowSize()).thenReturn(100);
+            when(chatHistoryCache.currentVersion(TEST_STUDY_ID)).thenReturn(7L);
+            when(chatMessageRepository.findChatMessagesWithCursor(TEST_STUDY_ID, null, 100))
+                    .thenReturn(List.of(chatMessage));
+            when(chatReactionRepository.findReactionCountsByMessageIdIn(List.of(TEST_MESSAGE_ID)))
+                    .thenReturn(Collections.emptyList());
+
+            // when
+            ChatMessageListResponseDto result = chatService.getChatMessages(TEST_STUDY_ID, null, 20, user);
+
+            // then
+            assertThat(result.messages()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            verify(chatHistoryCache).load(eq(TEST_STUDY_ID), eq(7L), anyList(), eq(true));
+        }
+
         @Test
         void 스터디멤버가_아닌경우의_메세지목록_조회() {
             // given
@@ -307,8 +423,6 @@ class ChatServiceTest {
         void 정상적인_리액선_생성() {
             // given
             request = new ReactionRequestDto("LIKE");
-            when(chatReactionRepository.findReactionCountsByMessageIdIn(List.of(TEST_MESSAGE_ID)))
-                    .thenReturn(List.of(new ChatReactionCountDto(TEST_MESSAGE_ID, 1L, 0L)));
 
             // when
             chatService.createChatReaction(TEST_STUDY_ID, TEST_MESSAGE_ID, request, user);
@@ -317,7 +431,8 @@ class ChatServiceTest {
             ArgumentCaptor<ChatReaction> reactionCaptor = ArgumentCaptor.forClass(ChatReaction.class);
             verify(chatReactionRepository).save(reactionCaptor.capture());
             assertThat(reactionCaptor.getValue().getReactionType()).isEqualTo(ReactionType.LIKE);
-            verify(messagingTemplate).convertAndSend(eq("/topic/studies/1/updates"), any(UpdatedChatRoomResponseDto.class));
+            verify(eventPublisher).publishEvent(new ChatReactionChangedEvent(TEST_STUDY_ID, TEST_MESSAGE_ID));
+            verify(deliveryDispatcher, never()).send(anyLong(), anyString(), any());
         }
 
         @Test
@@ -326,15 +441,13 @@ class ChatServiceTest {
             request = new ReactionRequestDto("DISLIKE");
             when(chatReactionRepository.findByChatMessageAndStudyMember(chatMessage, studyMember))
                     .thenReturn(Optional.of(existingReaction));
-            when(chatReactionRepository.findReactionCountsByMessageIdIn(List.of(TEST_MESSAGE_ID)))
-                    .thenReturn(List.of(new ChatReactionCountDto(TEST_MESSAGE_ID, 0L, 1L)));
 
             // when
             chatService.updateChatReaction(TEST_STUDY_ID, TEST_MESSAGE_ID, request, user);
 
             // then
             assertThat(existingReaction.getReactionType()).isEqualTo(ReactionType.DISLIKE);
-            verify(messagingTemplate).convertAndSend(eq("/topic/studies/1/updates"), any(UpdatedChatRoomResponseDto.class));
+            verify(eventPublisher).publishEvent(new ChatReactionChangedEvent(TEST_STUDY_ID, TEST_MESSAGE_ID));
         }
 
         @Test
@@ -342,15 +455,13 @@ class ChatServiceTest {
             // given
             when(chatReactionRepository.findByChatMessageAndStudyMember(chatMessage, studyMember))
                     .thenReturn(Optional.of(existingReaction));
-            when(chatReactionRepository.findReactionCountsByMessageIdIn(List.of(TEST_MESSAGE_ID)))
-                    .thenReturn(List.of(new ChatReactionCountDto(TEST_MESSAGE_ID, 0L, 0L)));
 
             // when
             chatService.deleteChatReaction(TEST_STUDY_ID, TEST_MESSAGE_ID, user);
 
             // then
             verify(chatReactionRepository).delete(existingReaction);
-            verify(messagingTemplate).convertAndSend(eq("/topic/studies/1/updates"), any(UpdatedChatRoomResponseDto.class));
+            verify(eventPublisher).publishEvent(new ChatReactionChangedEvent(TEST_STUDY_ID, TEST_MESSAGE_ID));
         }
     }
 
@@ -373,7 +484,9 @@ class ChatServiceTest {
 
             // then
             verify(chatMessageRepository).delete(chatMessage);
-            verify(messagingTemplate).convertAndSend(eq("/topic/studies/1/updates"), any(Object.class));
+            verify(reactionUpdateCoalescer).discard(TEST_STUDY_ID, TEST_MESSAGE_ID);
+            verify(eventPublisher).publishEvent(new ChatMessageDeletedEvent(TEST_STUDY_ID, TEST_MESSAGE_ID));
+            verify(deliveryDispatcher).send(eq(TEST_STUDY_ID), eq("/topic/studies/1/updates"), any(Object.class));
         }
 
         @Test
@@ -396,6 +509,48 @@ class ChatServiceTest {
         }
     }
 
+    @Nested
+    class 읽음_위치_테스트 {
+
+        @BeforeEach
+        void setUp() {
+            when(studyMemberRepository.findByStudyIdAndUserId(TEST_STUDY_ID, TEST_USER_ID))
+                    .thenReturn(Optional.of(studyMember));
+        }
+
+        @Test
+        void 모달을_열면_조건부_UPDATE로_읽음_위치_반영() {
+            // given
+            LastReadMessage lastReadMessage = LastReadMessage.builder()
+                    .studyMember(studyMember)
+                    .lastReadMessageId(0L)
+                    .build();
+            when(lastReadRepository.findByStudyMember(studyMember)).thenReturn(Optional.of(lastReadMessage));
+            when(readCursorBuffer.pendingOf(TEST_STUDY_MEMBER_ID)).thenReturn(Optional.empty());
+            when(chatMessageRepository.findTopByStudyIdOrderByIdDesc(TEST_STUDY_ID)).thenReturn(Optional.of(chatMessage));
+            when(chatMessageRepository.findAllByIdGreaterThanAndStudyIdOrderByIdAsc(0L, TEST_STUDY_ID))
+                    .thenReturn(List.of(chatMessage));
+
+            // when
+            chatService.openChatModal(TEST_STUDY_ID, user);
+
+            // then
+            verify(lastReadJdbcRepository).updateLastReadMessageId(TEST_STUDY_MEMBER_ID, TEST_MESSAGE_ID);
+            assertThat(lastReadMessage.getLastReadMessageId()).isZero();
+        }
+
+        @Test
+        void 모달을_닫으면_해당_멤버의_버퍼만_반영() {
+            // when
+            chatService.closeChatModal(TEST_STUDY_ID, user);
+
+            // then
+            verify(modalManager).closeSocket(TEST_STUDY_ID, TEST_USER_ID);
+            verify(readCursorBuffer).flush(TEST_STUDY_MEMBER_ID);
+            verify(readCursorBuffer, never()).flush();
+        }
+    }
+
     @Nested
     @DisplayName("채팅 모달 관리 테스트")
     class ChatModalTests {
@@ -0,0 +1,122 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.repository.LastReadMessageRepository;
+import com.pado.domain.chat.repository.dto.MemberReadCursorDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadCursorIndexTest {
+
+    private static final Long STUDY_ID = 1L;
+
+    @InjectMocks
+    private ReadCursorIndex readCursorIndex;
+
+    @Mock
+    private LastReadMessageRepository lastReadRepository;
+
+    @Mock
+    private ReadCursorBuffer readCursorBuffer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(readCursorIndex, "indexTtlMillis", 60_000L);
+        lenient().when(readCursorBuffer.pendingOf(anyLong())).thenReturn(Optional.empty());
+        when(lastReadRepository.findReadCursorsByStudyId(STUDY_ID)).thenReturn(List.of(
+                new MemberReadCursorDto(1L, 10L),
+                new MemberReadCursorDto(2L, 10L),
+                new MemberReadCursorDto(3L, 5L),
+                new MemberReadCursorDto(4L, 0L)
+        ));
+    }
+
+    @Test
+    void 메세지별_안읽은_멤버_수_계산() {
+        // when
+        Map<Long, Long> unreadCounts = readCursorIndex.getUnreadCounts(STUDY_ID, List.of(1L, 5L, 6L, 10L, 11L));
+
+        // then
+        assertThat(unreadCounts).containsEntry(1L, 1L)
+                .containsEntry(5L, 1L)
+                .containsEntry(6L, 2L)
+                .containsEntry(10L, 2L)
+                .containsEntry(11L, 4L);
+    }
+
+    @Test
+    void 커서_이동_후에는_쿼리_없이_인덱스_갱신() {
+        // given
+        readCursorIndex.countUnreadMembers(STUDY_ID, 11L);
+
+        // when
+        readCursorIndex.advance(STUDY_ID, List.of(3L, 4L), 11L);
+        long unreadCount = readCursorIndex.countUnreadMembers(STUDY_ID, 11L);
+
+        // then
+        assertThat(unreadCount).isEqualTo(2L);
+        verify(lastReadRepository, times(1)).findReadCursorsByStudyId(STUDY_ID);
+    }
+
+    @Test
+    void 버퍼에_남은_커서를_반영하여_로딩() {
+        // given
+        when(readCursorBuffer.pendingOf(4L)).thenReturn(Optional.of(11L));
+
+        // when
+        long unreadCount = readCursorIndex.countUnreadMembers(STUDY_ID, 11L);
+
+        // then
+        assertThat(unreadCount).isEqualTo(3L);
+    }
+
+    @Test
+    void 무효화되면_다시_로딩() {
+        // given
+        readCursorIndex.countUnreadMembers(STUDY_ID, 11L);
+
+        // when
+        readCursorIndex.invalidate(STUDY_ID);
+        readCursorIndex.countUnreadMembers(STUDY_ID, 11L);
+
+        // then
+        verify(lastReadRepository, times(2)).findReadCursorsByStudyId(STUDY_ID);
+    }
+
+    @Test
+    void 트랜잭션_안의_무효화는_커밋_이후에_반영() {
+        // given
+        readCursorIndex.countUnreadMembers(STUDY_ID, 11L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            readCursorIndex.invalidate(STUDY_ID);
+            readCursorIndex.countUnreadMembers(STUDY_ID, 11L);
+            verify(lastReadRepository, times(1)).findReadCursorsByStudyId(STUDY_ID);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        readCursorIndex.countUnreadMembers(STUDY_ID, 11L);
+
+        // then
+        verify(lastReadRepository, times(2)).findReadCursorsByStudyId(STUDY_ID);
+    }
+}
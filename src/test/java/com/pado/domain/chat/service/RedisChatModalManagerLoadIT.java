@@ -0,0 +1,92 @@
+package com.pado.domain.chat.service;
+
+import com.pado.support.RedisContainerTestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@SpringBootTest
+class RedisChatModalManagerLoadIT extends RedisContainerTestConfig {
+
+    private static final long STUDY_ID = 1L;
+    private static final int ONLINE_MEMBERS = 30;
+    private static final int TOTAL_KEYS = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int SAMPLES = 500;
+
+    @Autowired
+    private RedisChatModalManager modalManager;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.execute((RedisConnection connection) -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @Test
+    void 전체_키가_100만개여도_접속자_조회_지연은_일정() {
+        // given
+        for (long userId = 1; userId <= ONLINE_MEMBERS; userId++) {
+            modalManager.openSocket(STUDY_ID, userId);
+        }
+        long baselineNanos = medianLookupNanos();
+
+        // when: 다른 스터디 모달 키, 리프레시 토큰 등 무관한 키로 키 공간을 채움
+        fillUnrelatedKeys(TOTAL_KEYS);
+        long loadedNanos = medianLookupNanos();
+
+        // then
+        assertThat(modalManager.getOpenSocketUserIds(STUDY_ID)).hasSize(ONLINE_MEMBERS);
+        assertThat(loadedNanos).isLessThan(baselineNanos * 3 + 1_000_000L);
+    }
+
+    private long medianLookupNanos() {
+        // 워밍업
+        for (int i = 0; i < 50; i++) {
+            modalManager.getOpenSocketUserIds(STUDY_ID);
+        }
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            modalManager.getOpenSocketUserIds(STUDY_ID);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    private void fillUnrelatedKeys(int count) {
+        byte[] value = "true".getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            int from = offset;
+            int to = Math.min(offset + BATCH_SIZE, count);
+            redisTemplate.executePipelined((RedisConnection connection) -> {
+                for (int i = from; i < to; i++) {
+                    String key = (i % 2 == 0)
+                            ? "chat:modal:" + (STUDY_ID + 1 + i) + ":" + i
+                            : "auth:refresh:" + i;
+                    connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8), value);
+                }
+                return null;
+            });
+        }
+        assertThat(redisTemplate.execute((RedisConnection connection) -> connection.serverCommands().dbSize()))
+                .isGreaterThanOrEqualTo((long) count);
+    }
+}
@@ -0,0 +1,93 @@
+package com.pado.domain.chat.service;
+
+import com.pado.domain.chat.repository.LastReadMessageRepository;
+import com.pado.domain.chat.repository.dto.MemberUnreadCountDto;
+import com.pado.domain.study.repository.StudyMemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisChatUnreadCounterTest {
+
+    @InjectMocks
+    private RedisChatUnreadCounter unreadCounter;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private LastReadMessageRepository lastReadRepository;
+    @Mock
+    private StudyMemberRepository studyMemberRepository;
+    @Mock
+    private RedisChatModalManager modalManager;
+    @Mock
+    private ReadCursorBuffer readCursorBuffer;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private RedisHashCommands hashCommands;
+
+    @Test
+    void 다른_노드가_동기화_중이면_집계하지_않음() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        unreadCounter.reconcile();
+
+        // then
+        verifyNoInteractions(lastReadRepository, readCursorBuffer);
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void 버퍼를_먼저_반영하고_비어_있는_필드만_채움() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(lastReadRepository.findAllMemberUnreadCounts())
+                .thenReturn(List.of(new MemberUnreadCountDto(1L, 10L, 3L)));
+        when(connection.hashCommands()).thenReturn(hashCommands);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+
+        // when
+        unreadCounter.reconcile();
+
+        // then
+        var inOrder = inOrder(readCursorBuffer, lastReadRepository);
+        inOrder.verify(readCursorBuffer).flush();
+        inOrder.verify(lastReadRepository).findAllMemberUnreadCounts();
+        verify(hashCommands).hSetNX(eq(bytes("chat:unread:1")), eq(bytes("10")), eq(bytes("3")));
+        verify(redisTemplate, never()).delete("chat:unread:1");
+        verify(redisTemplate).delete("chat:unread:reconcile:lock");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
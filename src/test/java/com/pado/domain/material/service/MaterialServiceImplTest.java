@@ -9,6 +9,7 @@ import com.pado.domain.material.entity.File;
 import com.pado.domain.material.entity.Material;
 import com.pado.domain.material.entity.MaterialCategory;
 import com.pado.domain.material.event.MaterialDeletedEvent;
+import com.pado.domain.material.event.MaterialFilesUploadedEvent;
 import com.pado.domain.material.repository.FileRepository;
 import com.pado.domain.material.repository.MaterialRepository;
 import com.pado.domain.s3.service.S3Service;
@@ -142,6 +143,7 @@ class MaterialServiceImplTest {
 
         verify(materialRepository).save(any(Material.class));
         verify(fileRepository).saveAll(anyList());
+        verify(eventPublisher).publishEvent(new MaterialFilesUploadedEvent(List.of(1L)));
     }
 
     @Test
@@ -0,0 +1,103 @@
+package com.pado.domain.quiz.repository;
+
+import com.pado.domain.quiz.entity.MultipleChoiceQuestion;
+import com.pado.domain.quiz.entity.Quiz;
+import com.pado.domain.quiz.entity.QuizQuestion;
+import com.pado.domain.quiz.entity.QuizStatus;
+import com.pado.domain.quiz.entity.ShortAnswerQuestion;
+import com.pado.domain.quiz.repository.dto.QuestionInsertDto;
+import com.pado.domain.shared.entity.Region;
+import com.pado.domain.study.entity.Study;
+import com.pado.domain.study.repository.StudyRepository;
+import com.pado.domain.user.entity.Gender;
+import com.pado.domain.user.entity.User;
+import com.pado.domain.user.repository.UserRepository;
+import com.pado.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, QuizQuestionJdbcRepository.class})
+class QuizQuestionJdbcRepositoryTest {
+
+    @Autowired
+    private QuizQuestionJdbcRepository quizQuestionJdbcRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("quiz@example.com")
+                .nickname("quizUser")
+                .passwordHash("password")
+                .gender(Gender.MALE)
+                .build());
+
+        Study study = studyRepository.save(Study.builder()
+                .title("Quiz Study")
+                .description("Quiz Description")
+                .maxMembers(10)
+                .region(Region.SEOUL)
+                .leader(user)
+                .build());
+
+        quiz = quizRepository.save(Quiz.builder()
+                .study(study)
+                .createdBy(user)
+                .title("배치 저장 퀴즈")
+                .status(QuizStatus.GENERATING)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void 객관식과_주관식_문제를_정답_선택지까지_연결해_저장() {
+        // given
+        List<QuestionInsertDto> questions = List.of(
+                new QuestionInsertDto("MULTIPLE_CHOICE", "자바의 상속 키워드는?", "extends 를 사용합니다.",
+                        List.of("implements", "extends", "super"), 1, null),
+                new QuestionInsertDto("SHORT_ANSWER", "JVM 의 풀네임은?", "Java Virtual Machine 입니다.",
+                        null, null, "JavaVirtualMachine")
+        );
+
+        // when
+        List<Long> questionIds = quizQuestionJdbcRepository.insertQuestions(quiz.getId(), questions);
+        entityManager.clear();
+
+        // then
+        assertThat(questionIds).hasSize(2);
+
+        MultipleChoiceQuestion multipleChoice = entityManager.find(MultipleChoiceQuestion.class, questionIds.get(0));
+        assertThat(multipleChoice.getQuiz().getId()).isEqualTo(quiz.getId());
+        assertThat(multipleChoice.getChoices()).extracting("choiceText")
+                .containsExactlyInAnyOrder("implements", "extends", "super");
+        assertThat(multipleChoice.getCorrectChoice().getChoiceText()).isEqualTo("extends");
+
+        ShortAnswerQuestion shortAnswer = entityManager.find(ShortAnswerQuestion.class, questionIds.get(1));
+        assertThat(shortAnswer.getAnswer()).isEqualTo("JavaVirtualMachine");
+
+        List<QuizQuestion> saved = quizRepository.findById(quiz.getId()).orElseThrow().getQuestions();
+        assertThat(saved).hasSize(2);
+    }
+}
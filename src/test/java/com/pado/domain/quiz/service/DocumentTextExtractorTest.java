@@ -0,0 +1,71 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.global.exception.common.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentTextExtractorTest {
+
+    @Test
+    void 추출하면서_공백을_합치고_문단_경계는_유지() throws Exception {
+        // given
+        DocumentTextExtractor extractor = new DocumentTextExtractor(100);
+        byte[] content = "  첫 줄\t\t내용\n\n\n둘째   줄  \n".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        ExtractedDocument document = extractor.extract(new ByteArrayInputStream(content), "note.txt");
+
+        // then
+        assertThat(document.mimeType()).isEqualTo("text/plain");
+        assertThat(document.text()).isEqualTo("첫 줄 내용\n둘째 줄");
+        assertThat(document.truncated()).isFalse();
+    }
+
+    @Test
+    void 글자_수_한도에_도달하면_그때까지의_텍스트만_반환() throws Exception {
+        // given
+        DocumentTextExtractor extractor = new DocumentTextExtractor(10);
+        byte[] content = "가나다 라마바 사아자 차카타 파하".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        ExtractedDocument document = extractor.extract(new ByteArrayInputStream(content), "note.txt");
+
+        // then
+        assertThat(document.text()).isEqualTo("가나다 라마바 사아");
+        assertThat(document.truncated()).isTrue();
+    }
+
+    @Test
+    void 내려받은_임시_파일은_경로로_바로_추출(@TempDir Path dir) throws Exception {
+        // given
+        DocumentTextExtractor extractor = new DocumentTextExtractor(100);
+        Path spooled = Files.write(dir.resolve("material-1.tmp"), "첫 줄\n\n둘째   줄".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ExtractedDocument document = extractor.extract(spooled, "note.txt");
+
+        // then
+        assertThat(document.mimeType()).isEqualTo("text/plain");
+        assertThat(document.text()).isEqualTo("첫 줄\n둘째 줄");
+        assertThat(spooled).exists();
+    }
+
+    @Test
+    void 허용되지_않은_형식이면_예외() {
+        // given
+        DocumentTextExtractor extractor = new DocumentTextExtractor(100);
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0, 0, 0, 0x0d, 'I', 'H', 'D', 'R'};
+
+        // when & then
+        assertThatThrownBy(() -> extractor.extract(new ByteArrayInputStream(png), "image.png"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.domain.material.entity.File;
+import com.pado.domain.material.repository.FileRepository;
+import com.pado.global.exception.common.BusinessException;
+import com.pado.global.exception.common.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileExtractionWorkerTest {
+
+    private static final Long FILE_ID = 1L;
+
+    @Mock
+    private FileProcessingService fileProcessingService;
+    @Mock
+    private FileRepository fileRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FileExtractionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new FileExtractionWorker(fileProcessingService, fileRepository, meterRegistry, 1, 10, 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void 일시적_오류는_재시도_후_추출_완료() {
+        // given
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(pendingFile()));
+        when(fileProcessingService.processFileAndUpdateState(FILE_ID))
+                .thenThrow(new BusinessException(ErrorCode.S3_SERVICE_ERROR))
+                .thenReturn("본문");
+
+        // when
+        worker.enqueue(List.of(FILE_ID));
+
+        // then
+        verify(fileProcessingService, timeout(1000).times(2)).processFileAndUpdateState(FILE_ID);
+        verify(fileProcessingService, after(100).times(2)).processFileAndUpdateState(FILE_ID);
+        assertThat(meterRegistry.counter("file.extraction.completed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 지원하지_않는_형식은_재시도하지_않음() {
+        // given
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(pendingFile()));
+        when(fileProcessingService.processFileAndUpdateState(FILE_ID))
+                .thenThrow(new BusinessException(ErrorCode.INVALID_FILE_FORMAT));
+
+        // when
+        worker.enqueue(List.of(FILE_ID));
+
+        // then
+        verify(fileProcessingService, timeout(1000)).processFileAndUpdateState(FILE_ID);
+        verify(fileProcessingService, after(100).times(1)).processFileAndUpdateState(FILE_ID);
+        assertThat(meterRegistry.counter("file.extraction.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 이미_추출된_파일은_건너뜀() {
+        // given
+        File completedFile = pendingFile();
+        completedFile.markAsCompleted("hash", "application/pdf");
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(completedFile));
+
+        // when
+        worker.enqueue(List.of(FILE_ID));
+
+        // then
+        verify(fileRepository, timeout(1000)).findById(FILE_ID);
+        verify(fileProcessingService, after(100).never()).processFileAndUpdateState(FILE_ID);
+    }
+
+    private File pendingFile() {
+        return new File("note.pdf", "materials/note.pdf", 1024L, ".pdf");
+    }
+}
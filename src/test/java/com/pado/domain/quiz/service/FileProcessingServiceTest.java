@@ -0,0 +1,173 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.domain.material.entity.ExtractedText;
+import com.pado.domain.material.entity.File;
+import com.pado.domain.material.repository.ExtractedTextRepository;
+import com.pado.domain.material.repository.FileRepository;
+import com.pado.domain.s3.service.S3Service;
+import com.pado.global.exception.common.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileProcessingServiceTest {
+
+    private static final Long FILE_ID = 1L;
+    private static final String FILE_KEY = "materials/note.txt";
+
+    @InjectMocks
+    private FileProcessingService fileProcessingService;
+
+    @Mock
+    private S3Service s3Service;
+    @Mock
+    private FileRepository fileRepository;
+    @Mock
+    private ExtractedTextRepository extractedTextRepository;
+    @Mock
+    private FileTransactionService fileTransactionService;
+    @Spy
+    private DocumentTextExtractor documentTextExtractor = new DocumentTextExtractor(100_000);
+
+    private File file;
+
+    @BeforeEach
+    void setUp() {
+        file = new File("note.txt", FILE_KEY, 64L, ".txt");
+        ReflectionTestUtils.setField(file, "id", FILE_ID);
+    }
+
+    @Test
+    void 같은_내용의_텍스트가_있으면_파싱_없이_재사용() throws Exception {
+        // given
+        String contentHash = sha256("공유된 본문");
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file));
+        when(s3Service.downloadFileAsStream(FILE_KEY)).thenReturn(stream("공유된 본문"));
+        when(extractedTextRepository.findByContentHash(contentHash))
+                .thenReturn(Optional.of(new ExtractedText(contentHash, "text/plain", "공유된 본문")));
+
+        // when
+        String text = fileProcessingService.processFileAndUpdateState(FILE_ID);
+
+        // then
+        assertThat(text).isEqualTo("공유된 본문");
+        verify(documentTextExtractor, never()).extract(any(Path.class), anyString());
+        verify(fileTransactionService, never()).saveExtractedText(any(), any(), any());
+        verify(fileTransactionService).markAsCompleted(FILE_ID, contentHash, "text/plain");
+    }
+
+    @Test
+    void 업로드_체크섬으로_같은_내용을_찾으면_다운로드하지_않음() throws Exception {
+        // given
+        String contentHash = sha256("공유된 본문");
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file));
+        when(s3Service.findContentSha256(FILE_KEY)).thenReturn(Optional.of(contentHash));
+        when(extractedTextRepository.findByContentHash(contentHash))
+                .thenReturn(Optional.of(new ExtractedText(contentHash, "text/plain", "공유된 본문")));
+
+        // when
+        String text = fileProcessingService.processFileAndUpdateState(FILE_ID);
+
+        // then
+        assertThat(text).isEqualTo("공유된 본문");
+        verify(s3Service, never()).downloadFileAsStream(any());
+        verify(fileTransactionService).markAsCompleted(FILE_ID, contentHash, "text/plain");
+    }
+
+    @Test
+    void 처음_보는_내용이면_추출해서_해시로_저장() throws Exception {
+        // given
+        String contentHash = sha256("스터디   자료\n\n본문");
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file));
+        when(s3Service.downloadFileAsStream(FILE_KEY)).thenReturn(stream("스터디   자료\n\n본문"));
+        when(extractedTextRepository.findByContentHash(contentHash)).thenReturn(Optional.empty());
+        when(fileTransactionService.saveExtractedText(contentHash, "text/plain", "스터디 자료\n본문"))
+                .thenReturn(new ExtractedText(contentHash, "text/plain", "스터디 자료\n본문"));
+
+        // when
+        String text = fileProcessingService.processFileAndUpdateState(FILE_ID);
+
+        // then
+        assertThat(text).isEqualTo("스터디 자료\n본문");
+        verify(documentTextExtractor).extract(any(Path.class), eq("note.txt"));
+        verify(fileTransactionService).markAsCompleted(FILE_ID, contentHash, "text/plain");
+    }
+
+    @Test
+    void 동시에_같은_내용을_저장하면_먼저_저장된_텍스트를_사용() throws Exception {
+        // given
+        String contentHash = sha256("본문");
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file));
+        when(s3Service.downloadFileAsStream(FILE_KEY)).thenReturn(stream("본문"));
+        when(extractedTextRepository.findByContentHash(contentHash))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new ExtractedText(contentHash, "text/plain", "먼저 저장된 본문")));
+        when(fileTransactionService.saveExtractedText(any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate content_hash"));
+
+        // when
+        String text = fileProcessingService.processFileAndUpdateState(FILE_ID);
+
+        // then
+        assertThat(text).isEqualTo("먼저 저장된 본문");
+        verify(fileTransactionService).markAsCompleted(FILE_ID, contentHash, "text/plain");
+    }
+
+    @Test
+    void 처리_완료된_파일은_S3_조회_없이_공유_텍스트를_반환() throws Exception {
+        // given
+        String contentHash = sha256("공유된 본문");
+        file.markAsCompleted(contentHash, "text/plain");
+        when(extractedTextRepository.findByContentHash(contentHash))
+                .thenReturn(Optional.of(new ExtractedText(contentHash, "text/plain", "공유된 본문")));
+
+        // when
+        String text = fileProcessingService.getExtractedText(file);
+
+        // then
+        assertThat(text).isEqualTo("공유된 본문");
+        verifyNoInteractions(s3Service, fileTransactionService);
+    }
+
+    @Test
+    void 추출에_실패하면_파일을_실패_상태로_변경() {
+        // given
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file));
+        when(s3Service.downloadFileAsStream(FILE_KEY)).thenThrow(new IllegalStateException("S3 unavailable"));
+
+        // when & then
+        assertThatThrownBy(() -> fileProcessingService.processFileAndUpdateState(FILE_ID))
+                .isInstanceOf(BusinessException.class);
+        verify(fileTransactionService).markAsFailed(FILE_ID);
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String sha256(String content) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+}
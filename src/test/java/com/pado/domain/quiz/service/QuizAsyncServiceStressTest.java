@@ -0,0 +1,136 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.domain.material.entity.File;
+import com.pado.domain.quiz.entity.Quiz;
+import com.pado.domain.quiz.repository.QuizRepository;
+import com.pado.domain.study.entity.Study;
+import com.pado.global.config.AsyncConfig;
+import com.pado.infrastruture.ai.GeminiProperties;
+import com.pado.infrastruture.ai.GeminiRequestExecutor;
+import com.pado.infrastruture.ai.dto.AiQuestionDto;
+import com.pado.infrastruture.ai.impl.GeminiClient;
+import com.pado.infrastruture.ai.impl.PerQuestionGenerationStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+// 응답이 느린 가짜 GeminiClient로 동시에 100개의 퀴즈를 생성해도
+// 오케스트레이션 풀이 고갈되거나 작업이 거절되지 않는지 확인
+@Tag("load")
+@ExtendWith(MockitoExtension.class)
+class QuizAsyncServiceStressTest {
+
+    private static final int CONCURRENT_QUIZZES = 100;
+    private static final int MAX_CONCURRENT_REQUESTS = 50;
+    private static final long GEMINI_LATENCY_MILLIS = 100;
+
+    @Mock
+    private QuizRepository quizRepository;
+    @Mock
+    private QuizTransactionService quizTransactionService;
+    @Mock
+    private FileProcessingService fileProcessingService;
+    @Mock
+    private QuestionBank questionBank;
+    @Mock
+    private QuizProgressPublisher progressPublisher;
+    @Mock
+    private GeminiClient geminiClient;
+
+    private ThreadPoolTaskExecutor quizThreadPool;
+    private GeminiRequestExecutor geminiRequestExecutor;
+    private QuizAsyncService quizAsyncService;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        GeminiProperties properties = new GeminiProperties();
+        properties.setMaxConcurrentRequests(MAX_CONCURRENT_REQUESTS);
+
+        quizThreadPool = (ThreadPoolTaskExecutor) new AsyncConfig().quizThreadPool();
+        geminiRequestExecutor = new GeminiRequestExecutor(properties);
+        quizAsyncService = new QuizAsyncService(
+                quizRepository,
+                new PerQuestionGenerationStrategy(geminiClient),
+                quizTransactionService,
+                fileProcessingService,
+                questionBank,
+                progressPublisher,
+                quizThreadPool,
+                geminiRequestExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        quizThreadPool.shutdown();
+        geminiRequestExecutor.destroy();
+    }
+
+    @Test
+    void 느린_AI_응답에도_동시_퀴즈_100개가_모두_생성() {
+        // given
+        when(quizRepository.findWithSourceFilesById(anyLong())).thenReturn(Optional.of(quizWithFile()));
+        when(fileProcessingService.getExtractedText(any())).thenReturn("학습 자료 본문 ".repeat(400));
+        when(geminiClient.generateSingleQuestion(any(), any(), any()))
+                .thenAnswer(invocation -> slowQuestion(invocation.getArgument(2)));
+
+        // when
+        List<CompletableFuture<Void>> futures = LongStream.rangeClosed(1, CONCURRENT_QUIZZES)
+                .mapToObj(quizAsyncService::processAndCallAiInBackground)
+                .toList();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .orTimeout(60, TimeUnit.SECONDS)
+                .join();
+
+        // then
+        verify(quizTransactionService, times(CONCURRENT_QUIZZES)).saveSuccessfulQuiz(anyLong(), any());
+        verify(quizTransactionService, never()).updateQuizStatusToFailed(anyLong());
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENT_REQUESTS);
+    }
+
+    private CompletableFuture<AiQuestionDto> slowQuestion(Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(GEMINI_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return new AiQuestionDto("SHORT_ANSWER", "문제", null, "해설입니다.", null, "정답");
+        }, executor);
+    }
+
+    private Quiz quizWithFile() {
+        File file = new File("material.pdf", "materials/material.pdf", 1024L, "application/pdf");
+        return Quiz.builder()
+                .study(Study.builder().id(1L).build())
+                .title("스트레스 테스트")
+                .sourceFiles(Set.of(file))
+                .build();
+    }
+}
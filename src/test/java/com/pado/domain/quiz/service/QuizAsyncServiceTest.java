@@ -0,0 +1,280 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.domain.material.entity.File;
+import com.pado.domain.quiz.entity.Quiz;
+import com.pado.domain.quiz.repository.QuizRepository;
+import com.pado.domain.study.entity.Study;
+import com.pado.global.exception.common.BusinessException;
+import com.pado.global.exception.common.ErrorCode;
+import com.pado.infrastruture.ai.GeminiRequestExecutor;
+import com.pado.infrastruture.ai.QuestionGenerationStrategy;
+import com.pado.infrastruture.ai.dto.AiQuestionDto;
+import com.pado.infrastruture.ai.dto.QuestionPrompt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class QuizAsyncServiceTest {
+
+    private static final Long QUIZ_ID = 1L;
+    private static final Long STUDY_ID = 10L;
+
+    @Mock
+    private QuizRepository quizRepository;
+    @Mock
+    private QuestionGenerationStrategy questionGenerationStrategy;
+    @Mock
+    private QuizTransactionService quizTransactionService;
+    @Mock
+    private FileProcessingService fileProcessingService;
+    @Mock
+    private QuestionBank questionBank;
+    @Mock
+    private QuizProgressPublisher progressPublisher;
+    @Mock
+    private GeminiRequestExecutor geminiRequestExecutor;
+
+    private QuizAsyncService quizAsyncService;
+
+    @BeforeEach
+    void setUp() {
+        quizAsyncService = new QuizAsyncService(
+                quizRepository,
+                questionGenerationStrategy,
+                quizTransactionService,
+                fileProcessingService,
+                questionBank,
+                progressPublisher,
+                Runnable::run,
+                geminiRequestExecutor
+        );
+    }
+
+    @Test
+    void 여러_파일의_텍스트를_파일_ID_순서로_합침() {
+        // given
+        File first = file(1L);
+        File second = file(2L);
+        File third = file(3L);
+        when(quizRepository.findWithSourceFilesById(QUIZ_ID))
+                .thenReturn(Optional.of(quizWith(Set.of(third, first, second))));
+        when(fileProcessingService.getExtractedText(first)).thenReturn("첫 번째");
+        when(fileProcessingService.getExtractedText(second)).thenReturn("두 번째");
+        when(fileProcessingService.getExtractedText(third)).thenReturn("세 번째");
+        when(questionGenerationStrategy.generate(any(), eq(geminiRequestExecutor), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("stop")));
+
+        // when
+        quizAsyncService.processAndCallAiInBackground(QUIZ_ID).join();
+
+        // then
+        assertThat(capturePrompts())
+                .extracting(QuestionPrompt::context)
+                .containsOnly("첫 번째\n\n---\n\n두 번째\n\n---\n\n세 번째");
+    }
+
+    @Test
+    void 일부_파일이_실패해도_나머지_텍스트로_생성() {
+        // given
+        File broken = file(1L);
+        File healthy = file(2L);
+        when(quizRepository.findWithSourceFilesById(QUIZ_ID))
+                .thenReturn(Optional.of(quizWith(Set.of(broken, healthy))));
+        when(fileProcessingService.getExtractedText(broken))
+                .thenThrow(new BusinessException(ErrorCode.INVALID_FILE_FORMAT));
+        when(fileProcessingService.getExtractedText(healthy)).thenReturn("정상 본문");
+        when(questionGenerationStrategy.generate(any(), eq(geminiRequestExecutor), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("stop")));
+
+        // when
+        quizAsyncService.processAndCallAiInBackground(QUIZ_ID).join();
+
+        // then
+        assertThat(capturePrompts())
+                .extracting(QuestionPrompt::context)
+                .containsOnly("정상 본문");
+    }
+
+    @Test
+    void 모든_파일이_실패하면_퀴즈를_실패_처리() {
+        // given
+        File broken = file(1L);
+        when(quizRepository.findWithSourceFilesById(QUIZ_ID))
+                .thenReturn(Optional.of(quizWith(Set.of(broken))));
+        when(fileProcessingService.getExtractedText(broken))
+                .thenThrow(new BusinessException(ErrorCode.S3_SERVICE_ERROR));
+
+        // when
+        quizAsyncService.processAndCallAiInBackground(QUIZ_ID).join();
+
+        // then
+        verify(questionGenerationStrategy, never()).generate(any(), any(), any());
+        verify(quizTransactionService).updateQuizStatusToFailed(QUIZ_ID);
+    }
+
+    @Test
+    void 긴_문서는_문제마다_개요와_배정된_청크만_전송() {
+        // given
+        File small = file(1L);
+        File large = file(2L);
+        when(quizRepository.findWithSourceFilesById(QUIZ_ID))
+                .thenReturn(Optional.of(quizWith(Set.of(small))))
+                .thenReturn(Optional.of(quizWith(Set.of(large))));
+        when(fileProcessingService.getExtractedText(small)).thenReturn(syntheticDocument(20_000));
+        when(fileProcessingService.getExtractedText(large)).thenReturn(syntheticDocument(2_000_000));
+        when(questionGenerationStrategy.generate(any(), eq(geminiRequestExecutor), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("stop")));
+
+        // when
+        quizAsyncService.processAndCallAiInBackground(QUIZ_ID).join();
+        List<QuestionPrompt> smallPrompts = captureAllPrompts();
+        clearInvocations(questionGenerationStrategy);
+        quizAsyncService.processAndCallAiInBackground(QUIZ_ID).join();
+        List<QuestionPrompt> largePrompts = captureAllPrompts();
+
+        // then
+
+        assertThat(smallPrompts).hasSize(10);
+        assertThat(largePrompts).hasSize(10);
+        int smallMax = smallPrompts.stream().mapToInt(prompt -> prompt.context().length()).max().orElseThrow();
+        int largeMax = largePrompts.stream().mapToInt(prompt -> prompt.context().length()).max().orElseThrow();
+        assertThat(largeMax).isLessThanOrEqualTo(8_000);
+        assertThat(largeMax).isLessThan(smallMax * 2);
+        // 문제마다 문서의 서로 다른 부분을 배정
+        assertThat(largePrompts).extracting(QuestionPrompt::context).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 문제_은행에_충분히_쌓여_있으면_모델을_호출하지_않음() {
+        // given
+        File source = file(1L);
+        when(quizRepository.findWithSourceFilesById(QUIZ_ID))
+                .thenReturn(Optional.of(quizWith(Set.of(source))));
+        when(fileProcessingService.getExtractedText(source)).thenReturn("짧은 본문");
+        when(questionBank.take(any(), eq(0), eq(5))).thenReturn(Collections.nCopies(5, shortAnswer()));
+
+        // when
+        quizAsyncService.processAndCallAiInBackground(QUIZ_ID).join();
+
+        // then
+        verify(questionGenerationStrategy, never()).generate(any(), any(), any());
+        verify(quizTransactionService).saveSuccessfulQuiz(eq(QUIZ_ID), argThat(dto -> dto.questions().size() == 5));
+        verify(progressPublisher).extracted(STUDY_ID, QUIZ_ID, 5);
+        verify(progressPublisher).questionGenerated(STUDY_ID, QUIZ_ID, 5, 5);
+    }
+
+    @Test
+    void 문제_은행에_모자란_만큼만_모델에_요청하고_새_문제를_은행에_저장() {
+        // given
+        File source = file(1L);
+        AiQuestionDto generated = shortAnswer();
+        when(quizRepository.findWithSourceFilesById(QUIZ_ID))
+                .thenReturn(Optional.of(quizWith(Set.of(source))));
+        when(fileProcessingService.getExtractedText(source)).thenReturn("짧은 본문");
+        when(questionBank.take(any(), eq(0), eq(5))).thenReturn(Collections.nCopies(3, shortAnswer()));
+        when(questionGenerationStrategy.generate(any(), eq(geminiRequestExecutor), any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(generated, generated)));
+
+        // when
+        quizAsyncService.processAndCallAiInBackground(QUIZ_ID).join();
+
+        // then
+        assertThat(capturePrompts()).hasSize(2);
+        verify(questionBank).store(QuestionBank.hashOf("짧은 본문"), 0, List.of(generated, generated));
+        verify(quizTransactionService).saveSuccessfulQuiz(eq(QUIZ_ID), argThat(dto -> dto.questions().size() == 5));
+    }
+
+    @Test
+    void 문제_은행은_TextChunker_청크_번호로_조회() {
+        // given
+        File large = file(1L);
+        String document = syntheticDocument(2_000_000);
+        when(quizRepository.findWithSourceFilesById(QUIZ_ID))
+                .thenReturn(Optional.of(quizWith(Set.of(large))));
+        when(fileProcessingService.getExtractedText(large)).thenReturn(document);
+        when(questionGenerationStrategy.generate(any(), eq(geminiRequestExecutor), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("stop")));
+
+        // when
+        quizAsyncService.processAndCallAiInBackground(QUIZ_ID).join();
+
+        // then
+        int chunkCount = TextChunker.split(document, 6_000).size();
+        List<Integer> expected = IntStream.range(0, 10)
+                .mapToObj(i -> (int) ((long) i * chunkCount / 10))
+                .distinct()
+                .toList();
+        ArgumentCaptor<Integer> chunkIndexes = ArgumentCaptor.forClass(Integer.class);
+        verify(questionBank, atLeastOnce()).take(eq(QuestionBank.hashOf(document)), chunkIndexes.capture(), anyInt());
+        assertThat(chunkIndexes.getAllValues()).containsExactlyElementsOf(expected);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<QuestionPrompt> capturePrompts() {
+        ArgumentCaptor<List<QuestionPrompt>> captor = ArgumentCaptor.forClass(List.class);
+        verify(questionGenerationStrategy).generate(captor.capture(), eq(geminiRequestExecutor), any());
+        return captor.getValue();
+    }
+
+    // 청크별로 나뉜 호출의 프롬프트를 순서대로 모음
+    @SuppressWarnings("unchecked")
+    private List<QuestionPrompt> captureAllPrompts() {
+        ArgumentCaptor<List<QuestionPrompt>> captor = ArgumentCaptor.forClass(List.class);
+        verify(questionGenerationStrategy, atLeastOnce()).generate(captor.capture(), eq(geminiRequestExecutor), any());
+        return captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private AiQuestionDto shortAnswer() {
+        return new AiQuestionDto("SHORT_ANSWER", "문제", null, "해설입니다.", null, "정답");
+    }
+
+        // 제목과 문단이 반복되는 합성 문서
+    private String syntheticDocument(int length) {
+        StringBuilder document = new StringBuilder();
+        int section = 1;
+        while (document.length() < length) {
+            document.append(section).append(". 단원 ").append(section).append('\n');
+            for (int paragraph = 0; paragraph < 5; paragraph++) {
+                document.append("단원 ").append(section).append("의 ").append(paragraph + 1)
+                        .append("번째 문단입니다. 학습 내용을 설명하는 문장이 이어집니다. ".repeat(8))
+                        .append('\n');
+            }
+            section++;
+        }
+        return document.toString();
+    }
+
+    private File file(Long id) {
+        File file = new File("file" + id + ".pdf", "materials/file" + id + ".pdf", 1024L, ".pdf");
+        ReflectionTestUtils.setField(file, "id", id);
+        return file;
+    }
+
+    private Quiz quizWith(Set<File> files) {
+        return Quiz.builder()
+                .study(Study.builder().id(STUDY_ID).build())
+                .title("테스트 퀴즈")
+                .sourceFiles(files)
+                .build();
+    }
+}
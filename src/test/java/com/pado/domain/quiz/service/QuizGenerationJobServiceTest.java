@@ -0,0 +1,154 @@
+package com.pado.domain.quiz.service;
+
+import com.pado.domain.quiz.entity.QuizGenerationJob;
+import com.pado.domain.quiz.entity.QuizGenerationJobStatus;
+import com.pado.domain.quiz.repository.QuizGenerationJobJdbcRepository;
+import com.pado.domain.quiz.repository.QuizGenerationJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizGenerationJobServiceTest {
+
+    private static final Long QUIZ_ID = 1L;
+    private static final String OWNER = "worker-1";
+
+    @InjectMocks
+    private QuizGenerationJobService quizGenerationJobService;
+
+    @Mock
+    private QuizGenerationJobRepository jobRepository;
+    @Mock
+    private QuizGenerationJobJdbcRepository jobJdbcRepository;
+    @Mock
+    private QuizTransactionService quizTransactionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(quizGenerationJobService, "leaseSeconds", 60L);
+        ReflectionTestUtils.setField(quizGenerationJobService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(quizGenerationJobService, "retryBackoffSeconds", 10L);
+    }
+
+    @Test
+    void 대기_중인_작업이_있으면_중복_등록하지_않음() {
+        // given
+        QuizGenerationJob job = QuizGenerationJob.queued(QUIZ_ID, LocalDateTime.now());
+        when(jobRepository.findByQuizId(QUIZ_ID)).thenReturn(Optional.of(job));
+
+        // when
+        quizGenerationJobService.enqueue(QUIZ_ID);
+
+        // then
+        verify(jobRepository, never()).save(any());
+        assertThat(job.getStatus()).isEqualTo(QuizGenerationJobStatus.QUEUED);
+    }
+
+    @Test
+    void 작업이_없으면_새로_등록() {
+        // given
+        when(jobRepository.findByQuizId(QUIZ_ID)).thenReturn(Optional.empty());
+        when(jobJdbcRepository.insertQueued(eq(QUIZ_ID), any())).thenReturn(true);
+
+        // when
+        quizGenerationJobService.enqueue(QUIZ_ID);
+
+        // then
+        verify(jobJdbcRepository).insertQueued(eq(QUIZ_ID), any());
+    }
+
+    @Test
+    void 동시_요청이_먼저_등록했으면_예외_없이_이미_대기_중으로_처리() {
+        // given
+        when(jobRepository.findByQuizId(QUIZ_ID)).thenReturn(Optional.empty());
+        when(jobJdbcRepository.insertQueued(eq(QUIZ_ID), any())).thenReturn(false);
+
+        // when & then
+        assertThatCode(() -> quizGenerationJobService.enqueue(QUIZ_ID)).doesNotThrowAnyException();
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void 실패한_작업은_재생성_요청_시_다시_대기_상태로_변경() {
+        // given
+        QuizGenerationJob job = QuizGenerationJob.queued(QUIZ_ID, LocalDateTime.now());
+        job.fail("timeout");
+        when(jobRepository.findByQuizId(QUIZ_ID)).thenReturn(Optional.of(job));
+
+        // when
+        quizGenerationJobService.enqueue(QUIZ_ID);
+
+        // then
+        verify(jobRepository, never()).save(any());
+        assertThat(job.getStatus()).isEqualTo(QuizGenerationJobStatus.QUEUED);
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getLastError()).isNull();
+    }
+
+    @Test
+    void 시도_횟수가_남았으면_백오프_후_재시도() {
+        // given
+        QuizGenerationJob job = runningJob(2);
+        when(jobRepository.findByQuizId(QUIZ_ID)).thenReturn(Optional.of(job));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        quizGenerationJobService.retryOrFail(QUIZ_ID, OWNER, new RuntimeException("AI error"));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(QuizGenerationJobStatus.QUEUED);
+        assertThat(job.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(20));
+        assertThat(job.getLeaseOwner()).isNull();
+        verify(quizTransactionService, never()).updateQuizStatusToFailed(any());
+    }
+
+    @Test
+    void 시도_횟수를_모두_쓰면_작업과_퀴즈를_실패_처리() {
+        // given
+        QuizGenerationJob job = runningJob(3);
+        when(jobRepository.findByQuizId(QUIZ_ID)).thenReturn(Optional.of(job));
+
+        // when
+        quizGenerationJobService.retryOrFail(QUIZ_ID, OWNER, new RuntimeException("AI error"));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(QuizGenerationJobStatus.FAILED);
+        verify(quizTransactionService).updateQuizStatusToFailed(QUIZ_ID);
+    }
+
+    @Test
+    void 임대를_잃은_노드의_결과는_무시() {
+        // given
+        QuizGenerationJob job = runningJob(1);
+        when(jobRepository.findByQuizId(QUIZ_ID)).thenReturn(Optional.of(job));
+
+        // when
+        quizGenerationJobService.markSucceeded(QUIZ_ID, "worker-2");
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(QuizGenerationJobStatus.RUNNING);
+    }
+
+    private QuizGenerationJob runningJob(int attempts) {
+        QuizGenerationJob job = QuizGenerationJob.queued(QUIZ_ID, LocalDateTime.now());
+        ReflectionTestUtils.setField(job, "status", QuizGenerationJobStatus.RUNNING);
+        ReflectionTestUtils.setField(job, "leaseOwner", OWNER);
+        ReflectionTestUtils.setField(job, "leaseExpiresAt", LocalDateTime.now().plusSeconds(60));
+        ReflectionTestUtils.setField(job, "attempts", attempts);
+        return job;
+    }
+}
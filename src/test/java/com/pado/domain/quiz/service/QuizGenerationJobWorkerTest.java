@@ -0,0 +1,52 @@
+package com.pado.domain.quiz.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizGenerationJobWorkerTest {
+
+    @InjectMocks
+    private QuizGenerationJobWorker worker;
+
+    @Mock
+    private QuizGenerationJobService jobService;
+    @Mock
+    private QuizAsyncService quizAsyncService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(worker, "maxConcurrentJobs", 20);
+        ReflectionTestUtils.setField(worker, "timeoutSeconds", 200L);
+    }
+
+    @Test
+    void 스레드_풀이_거절한_작업은_재시도_대기로_돌리고_나머지_작업은_계속_실행() {
+        // given
+        when(jobService.claim(anyString(), anyInt())).thenReturn(List.of(1L, 2L));
+        TaskRejectedException rejected = new TaskRejectedException("pool is full");
+        when(quizAsyncService.generateQuiz(1L)).thenThrow(rejected);
+        when(quizAsyncService.generateQuiz(2L)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        worker.poll();
+        worker.heartbeat();
+
+        // then
+        verify(jobService).retryOrFail(eq(1L), anyString(), eq(rejected));
+        verify(jobService).markSucceeded(eq(2L), anyString());
+        verify(jobService, never()).extendLeases(anyString(), anyCollection());
+    }
+}
@@ -0,0 +1,94 @@
+package com.pado.domain.quiz.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextChunkerTest {
+
+    private static final int MAX_CHARS = 6_000;
+
+    @Test
+    void 큰_문서를_한도_이하의_청크로_빠짐없이_나눔() {
+        // given
+        String document = syntheticDocument(5_000_000);
+
+        // when
+        List<String> chunks = TextChunker.split(document, MAX_CHARS);
+
+        // then
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(MAX_CHARS));
+        assertThat(withoutWhitespace(String.join("", chunks))).isEqualTo(withoutWhitespace(document));
+    }
+
+    @Test
+    void 줄바꿈_없는_긴_문단은_문장_경계에서_자름() {
+        // given
+        String document = "학습 내용을 설명하는 문장입니다. ".repeat(200_000);
+
+        // when
+        List<String> chunks = TextChunker.split(document, MAX_CHARS);
+
+        // then
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk.length()).isLessThanOrEqualTo(MAX_CHARS);
+            assertThat(chunk).endsWith(".");
+        });
+    }
+
+    @Test
+    void 청크가_절반_이상_찼으면_제목에서_새_청크_시작() {
+        // given
+        String paragraph = "가".repeat(400);
+        String document = "1. 첫 단원\n" + (paragraph + "\n").repeat(3) + "2. 둘째 단원\n" + paragraph;
+
+        // when
+        List<String> chunks = TextChunker.split(document, 2_000);
+
+        // then
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(1)).startsWith("2. 둘째 단원");
+    }
+
+    @Test
+    void 개요는_한도_이하이며_문서_전체에서_고르게_뽑음() {
+        // given
+        List<String> chunks = TextChunker.split(syntheticDocument(2_000_000), MAX_CHARS);
+
+        // when
+        String summary = TextChunker.summarize(chunks, 1_000);
+
+        // then
+        assertThat(summary.length()).isLessThanOrEqualTo(1_000);
+        assertThat(summary).startsWith("- 1. 단원 1");
+        String lastLine = summary.lines().reduce((first, second) -> second).orElseThrow().substring(2);
+        int lastSummarizedChunk = IntStream.range(0, chunks.size())
+                .filter(i -> chunks.get(i).startsWith(lastLine))
+                .max()
+                .orElseThrow();
+        assertThat(lastSummarizedChunk).isGreaterThan(chunks.size() / 2);
+    }
+
+    private String syntheticDocument(int length) {
+        StringBuilder document = new StringBuilder();
+        int section = 1;
+        while (document.length() < length) {
+            document.append(section).append(". 단원 ").append(section).append('\n');
+            for (int paragraph = 0; paragraph < 5; paragraph++) {
+                document.append("단원 ").append(section).append("의 ").append(paragraph + 1)
+                        .append("번째 문단입니다. 학습 내용을 설명하는 문장이 이어집니다. ".repeat(8))
+                        .append('\n');
+            }
+            section++;
+        }
+        return document.toString();
+    }
+
+    private String withoutWhitespace(String text) {
+        return text.replaceAll("\\s+", "");
+    }
+}
@@ -4,10 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pado.domain.schedule.dto.request.ScheduleCreateRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleTuneCreateRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleTuneParticipantRequestDto;
+import com.pado.domain.schedule.dto.request.ScheduleTuneVoteDeltaRequestDto;
 import com.pado.domain.schedule.dto.response.ScheduleCompleteResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneDetailResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneParticipantDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneParticipantResponseDto;
+import com.pado.domain.schedule.dto.response.ScheduleTuneRecommendationResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneResponseDto;
 import com.pado.domain.schedule.service.ScheduleTuneService;
 import com.pado.global.auth.jwt.JwtProvider;
@@ -130,7 +132,9 @@ class ScheduleTuneControllerTest {
                 List.of(3L, 5L, 0L),
                 LocalDateTime.now().plusDays(1).withHour(10),
                 LocalDateTime.now().plusDays(1).withHour(12),
-                List.of(new ScheduleTuneParticipantDto(1L, "Alice", 1L))
+                List.of(new ScheduleTuneParticipantDto(1L, "Alice", 1L, 0)),
+                "AwUA",
+                3
 
             );
             given(scheduleTuneService.findScheduleTuneDetail(100L)).willReturn(dto);
@@ -139,7 +143,9 @@ class ScheduleTuneControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("정기회의"))
-                .andExpect(jsonPath("$.candidate_dates[0]").value(3));
+                .andExpect(jsonPath("$.candidate_dates[0]").value(3))
+                .andExpect(jsonPath("$.candidate_bitmap").value("AwUA"))
+                .andExpect(jsonPath("$.participants[0].bit_index").value(0));
         }
 
         @Test
@@ -156,6 +162,26 @@ class ScheduleTuneControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.code").value("PENDING_SCHEDULE_NOT_FOUND"));
         }
+
+        @Test
+        @WithMockUser
+        @DisplayName("추천 시간대 성공 - 200 OK")
+        void recommendations_success() throws Exception {
+            LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0);
+            given(scheduleTuneService.recommendSlots(100L, 2, 3, true, List.of(1L, 2L)))
+                .willReturn(List.of(new ScheduleTuneRecommendationResponseDto(
+                    start, start.plusHours(1), 4, 2, true)));
+
+            mockMvc.perform(get("/api/schedule-tunes/{tune_id}/recommendations", 100L)
+                    .param("window_slots", "2")
+                    .param("limit", "3")
+                    .param("require_leader", "true")
+                    .param("required_participant_ids", "1,2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].available_count").value(4))
+                .andExpect(jsonPath("$[0].all_required_available").value(true));
+        }
     }
 
     @Nested
@@ -201,6 +227,25 @@ class ScheduleTuneControllerTest {
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.code").value("FORBIDDEN_STUDY_MEMBER_ONLY"));
         }
+
+        @Test
+        @WithMockUser
+        @DisplayName("변경분 반영 성공 - 200 OK")
+        void update_vote_success() throws Exception {
+            ScheduleTuneVoteDeltaRequestDto req = new ScheduleTuneVoteDeltaRequestDto(
+                List.of(new ScheduleTuneVoteDeltaRequestDto.SlotRange(0, 3)),
+                List.of(new ScheduleTuneVoteDeltaRequestDto.SlotRange(8, 8)));
+            given(scheduleTuneService.updateVote(anyLong(), any()))
+                .willReturn(new ScheduleTuneParticipantResponseDto("updated"));
+
+            mockMvc.perform(patch("/api/schedule-tunes/{tune_id}/participants", 100L)
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(req)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("updated"));
+        }
     }
 
     @Nested
@@ -0,0 +1,89 @@
+package com.pado.domain.schedule.service;
+
+import com.pado.domain.schedule.dto.response.ScheduleTuneHeatmapPatchDto;
+import com.pado.domain.schedule.dto.response.ScheduleTuneHeatmapPatchDto.MemberPatch;
+import com.pado.domain.schedule.dto.response.ScheduleTuneHeatmapPatchDto.SlotRange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleTuneHeatmapCoalescerTest {
+
+    @InjectMocks
+    private ScheduleTuneHeatmapCoalescer coalescer;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private static final Long STUDY_ID = 1L;
+    private static final Long TUNE_ID = 7L;
+
+    @Test
+    void 같은_조율의_연속_투표는_마지막_값으로_합쳐_한_프레임으로_전송() {
+        // given
+        coalescer.record(STUDY_ID, TUNE_ID, 3, bits(), bits(0, 1, 2, 3));
+        coalescer.record(STUDY_ID, TUNE_ID, 3, bits(0, 1, 2, 3), bits(0, 1));
+        coalescer.record(STUDY_ID, TUNE_ID, 0, bits(5), bits(6));
+
+        // when
+        coalescer.flush();
+
+        // then
+        ArgumentCaptor<ScheduleTuneHeatmapPatchDto> captor = ArgumentCaptor.forClass(ScheduleTuneHeatmapPatchDto.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/studies/1/tunes/7"), captor.capture());
+
+        ScheduleTuneHeatmapPatchDto frame = captor.getValue();
+        assertThat(frame.tune_id()).isEqualTo(TUNE_ID);
+        assertThat(frame.patches()).containsExactly(
+                new MemberPatch(0, List.of(new SlotRange(6, 6)), List.of(new SlotRange(5, 5))),
+                new MemberPatch(3, List.of(new SlotRange(0, 1)), List.of(new SlotRange(2, 3)))
+        );
+    }
+
+    @Test
+    void 바뀐_슬롯이_없으면_전송하지_않음() {
+        // given
+        coalescer.record(STUDY_ID, TUNE_ID, 3, bits(0, 1), bits(0, 1));
+
+        // when
+        coalescer.flush();
+
+        // then
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void 전송한_변경은_다음_주기에_다시_보내지_않음() {
+        // given
+        coalescer.record(STUDY_ID, TUNE_ID, 3, bits(), bits(4));
+
+        // when
+        coalescer.flush();
+        coalescer.flush();
+
+        // then
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private static BitSet bits(int... slots) {
+        BitSet bits = new BitSet();
+        for (int slot : slots) {
+            bits.set(slot);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,141 @@
+package com.pado.domain.schedule.service;
+
+import com.pado.domain.schedule.entity.ScheduleTune;
+import com.pado.domain.schedule.entity.ScheduleTuneParticipant;
+import com.pado.domain.schedule.entity.ScheduleTuneSlot;
+import com.pado.domain.schedule.repository.ScheduleTuneParticipantRepository;
+import com.pado.domain.schedule.repository.ScheduleTuneRepository;
+import com.pado.domain.schedule.repository.ScheduleTuneSlotRepository;
+import com.pado.domain.schedule.util.BitMaskUtils;
+import com.pado.domain.schedule.util.SlotMatrix;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleTuneMatrixMigratorTest {
+
+    @InjectMocks
+    private ScheduleTuneMatrixMigrator migrator;
+
+    @Mock
+    private ScheduleTuneRepository tuneRepo;
+    @Mock
+    private ScheduleTuneSlotRepository slotRepo;
+    @Mock
+    private ScheduleTuneParticipantRepository participantRepo;
+
+    @Test
+    void 슬롯_행만_있는_조율은_행렬로_옮기고_슬롯_행을_삭제() {
+        // given
+        ScheduleTune tune = tune(null);
+        given(tuneRepo.findById(777L)).willReturn(Optional.of(tune));
+        given(slotRepo.findByScheduleTuneIdOrderBySlotIndexAsc(777L))
+            .willReturn(List.of(slot(tune, 0, 0, 9), slot(tune, 1, 9)));
+
+        // when
+        boolean migrated = migrator.migrate(777L);
+
+        // then
+        assertThat(migrated).isTrue();
+        SlotMatrix matrix = SlotMatrix.fromBytes(tune.getOccupancyMatrix());
+        assertThat(matrix.memberCount()).isEqualTo(16);
+        assertThat(matrix.slotCount()).isEqualTo(2);
+        assertThat(matrix.lowWord(0)).isEqualTo(1L | 1L << 9);
+        assertThat(matrix.lowWord(1)).isEqualTo(1L << 9);
+        verify(tuneRepo).save(tune);
+        verify(slotRepo).deleteByScheduleTuneId(777L);
+    }
+
+    @Test
+    void candidate_number가_0이던_참여자의_새_비트_위치까지_행렬을_넓힘() {
+        // given
+        // 이전 코드에서 candidate_number = 0 으로 저장된 참여자는 마이그레이션에서 기존 최대 위치 다음(16)을 받음
+        ScheduleTune tune = tune(null);
+        given(tuneRepo.findById(777L)).willReturn(Optional.of(tune));
+        given(slotRepo.findByScheduleTuneIdOrderBySlotIndexAsc(777L))
+            .willReturn(List.of(slot(tune, 0, 0, 15), slot(tune, 1, 15)));
+        given(participantRepo.findByScheduleTuneId(777L)).willReturn(List.of(
+            participant(tune, 1L, 0, 1L),
+            participant(tune, 2L, 15, 1L << 15),
+            participant(tune, 3L, 16, 0L)
+        ));
+
+        // when
+        boolean migrated = migrator.migrate(777L);
+
+        // then
+        assertThat(migrated).isTrue();
+        SlotMatrix matrix = SlotMatrix.fromBytes(tune.getOccupancyMatrix());
+        assertThat(matrix.memberCount()).isEqualTo(17);
+        assertThat(matrix.lowWord(0)).isEqualTo(1L | 1L << 15);
+        assertThat(matrix.lowWord(1)).isEqualTo(1L << 15);
+        assertThat(matrix.row(16).isEmpty()).isTrue();
+
+        matrix.setMember(16, slot -> true);
+        assertThat(matrix.count(0)).isEqualTo(3);
+    }
+
+    @Test
+    void 이미_행렬이_있는_조율은_옮기지_않음() {
+        // given
+        ScheduleTune tune = tune(SlotMatrix.empty(2, 2).toBytes());
+        given(tuneRepo.findById(777L)).willReturn(Optional.of(tune));
+
+        // when
+        boolean migrated = migrator.migrate(777L);
+
+        // then
+        assertThat(migrated).isFalse();
+        verify(slotRepo, never()).deleteByScheduleTuneId(777L);
+    }
+
+    private ScheduleTune tune(byte[] occupancyMatrix) {
+        ScheduleTune tune = ScheduleTune.builder()
+            .studyId(10L).title("정기회의")
+            .startDate(LocalDate.now().plusDays(1))
+            .endDate(LocalDate.now().plusDays(1))
+            .availableStartTime(LocalTime.of(10, 0))
+            .availableEndTime(LocalTime.of(11, 0))
+            .occupancyMatrix(occupancyMatrix)
+            .build();
+        ReflectionTestUtils.setField(tune, "id", 777L);
+        return tune;
+    }
+
+    private ScheduleTuneParticipant participant(ScheduleTune tune, Long studyMemberId, int bitIndex,
+        long candidateNumber) {
+        return ScheduleTuneParticipant.builder()
+            .scheduleTune(tune).studyMemberId(studyMemberId)
+            .bitIndex(bitIndex).candidateNumber(candidateNumber)
+            .build();
+    }
+
+    private ScheduleTuneSlot slot(ScheduleTune tune, int index, int... members) {
+        byte[] bits = new byte[2];
+        for (int member : members) {
+            BitMaskUtils.setBit(bits, member, true);
+        }
+        LocalDateTime start = LocalDateTime.of(tune.getStartDate(), tune.getAvailableStartTime())
+            .plusMinutes(30L * index);
+        return ScheduleTuneSlot.builder()
+            .scheduleTune(tune).slotIndex(index)
+            .startTime(start).endTime(start.plusMinutes(30))
+            .occupancyBits(bits)
+            .build();
+    }
+}
@@ -3,18 +3,18 @@ package com.pado.domain.schedule.service;
 import com.pado.domain.schedule.dto.request.ScheduleCreateRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleTuneCreateRequestDto;
 import com.pado.domain.schedule.dto.request.ScheduleTuneParticipantRequestDto;
+import com.pado.domain.schedule.dto.request.ScheduleTuneVoteDeltaRequestDto;
 import com.pado.domain.schedule.dto.response.ScheduleCompleteResponseDto;
 import com.pado.domain.schedule.dto.response.ScheduleTuneParticipantResponseDto;
+import com.pado.domain.schedule.dto.response.ScheduleTuneRecommendationResponseDto;
 import com.pado.domain.schedule.entity.Schedule;
 import com.pado.domain.schedule.entity.ScheduleTune;
 import com.pado.domain.schedule.entity.ScheduleTuneParticipant;
-import com.pado.domain.schedule.entity.ScheduleTuneSlot;
 import com.pado.domain.schedule.entity.ScheduleTuneStatus;
 import com.pado.domain.schedule.repository.ScheduleRepository;
 import com.pado.domain.schedule.repository.ScheduleTuneParticipantRepository;
 import com.pado.domain.schedule.repository.ScheduleTuneRepository;
-import com.pado.domain.schedule.repository.ScheduleTuneSlotRepository;
-import com.pado.domain.schedule.util.BitMaskUtils;
+import com.pado.domain.schedule.util.SlotMatrix;
 import com.pado.domain.study.entity.Study;
 import com.pado.domain.study.entity.StudyMember;
 import com.pado.domain.study.repository.StudyMemberRepository;
@@ -43,6 +43,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,9 +65,11 @@ class ScheduleTuneServiceTest {
     @Mock
     private ScheduleTuneParticipantRepository partRepo;
     @Mock
-    private ScheduleTuneSlotRepository slotRepo;
+    private ScheduleTuneMatrixMigrator matrixMigrator;
     @Mock
     private ScheduleRepository scheduleRepo;
+    @Mock
+    private ScheduleTuneHeatmapCoalescer heatmapCoalescer;
 
     @Mock
     private StudyRepository studyRepo;
@@ -100,7 +104,7 @@ class ScheduleTuneServiceTest {
     class Create {
 
         @Test
-        @DisplayName("리더가 조율 생성 시 참가자 비트 부여 및 슬롯 생성")
+        @DisplayName("리더가 조율 생성 시 참가자 비트 부여 및 멤버 x 슬롯 행렬 생성")
         @SuppressWarnings({"unchecked", "rawtypes"})
         void create_by_leader_success() {
             setAuth(leader);
@@ -135,10 +139,55 @@ class ScheduleTuneServiceTest {
             verify(partRepo).saveAll(captor.capture());
             List<ScheduleTuneParticipant> savedParts = captor.getValue();
             assertThat(savedParts).hasSize(2);
+            assertThat(savedParts.get(0).getBitIndex()).isEqualTo(0);
+            assertThat(savedParts.get(1).getBitIndex()).isEqualTo(1);
             assertThat(savedParts.get(0).getCandidateNumber()).isEqualTo(1L);
             assertThat(savedParts.get(1).getCandidateNumber()).isEqualTo(2L);
 
-            verify(slotRepo).saveAll(anyList());
+            ArgumentCaptor<ScheduleTune> tuneCaptor = ArgumentCaptor.forClass(ScheduleTune.class);
+            verify(tuneRepo).save(tuneCaptor.capture());
+            SlotMatrix matrix = SlotMatrix.fromBytes(tuneCaptor.getValue().getOccupancyMatrix());
+            assertThat(matrix.memberCount()).isEqualTo(2);
+            assertThat(matrix.slotCount()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("64명을 넘는 스터디도 멤버마다 다른 비트 위치를 부여")
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void create_over_64_members() {
+            setAuth(leader);
+            given(studyRepo.findById(10L)).willReturn(Optional.of(study));
+            given(studyMemberService.isStudyLeader(leader, study)).willReturn(true);
+
+            List<StudyMember> members = new ArrayList<>();
+            for (long i = 0; i < 70; i++) {
+                StudyMember m = StudyMember.builder().study(study).user(member).build();
+                ReflectionTestUtils.setField(m, "id", 100L + i);
+                members.add(m);
+            }
+            given(studyMemberRepo.findByStudyId(10L)).willReturn(members);
+            given(tuneRepo.save(any(ScheduleTune.class))).willAnswer(inv -> inv.getArgument(0));
+
+            ScheduleTuneCreateRequestDto req = new ScheduleTuneCreateRequestDto(
+                "정기회의", "안건",
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(1),
+                LocalTime.of(10, 0), LocalTime.of(12, 0)
+            );
+
+            service.createScheduleTune(10L, req);
+
+            ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+            verify(partRepo).saveAll(captor.capture());
+            List<ScheduleTuneParticipant> savedParts = captor.getValue();
+            assertThat(savedParts).extracting(ScheduleTuneParticipant::getBitIndex)
+                .doesNotHaveDuplicates()
+                .contains(0, 69);
+            assertThat(savedParts.get(69).getCandidateNumber()).isZero();
+
+            ArgumentCaptor<ScheduleTune> tuneCaptor = ArgumentCaptor.forClass(ScheduleTune.class);
+            verify(tuneRepo).save(tuneCaptor.capture());
+            assertThat(SlotMatrix.fromBytes(tuneCaptor.getValue().getOccupancyMatrix()).memberCount())
+                .isEqualTo(70);
         }
 
         @Test
@@ -165,7 +214,7 @@ class ScheduleTuneServiceTest {
     class Participate {
 
         @Test
-        @DisplayName("멤버가 후보 슬롯 제출 시 해당 비트만 OR/UNSET 반영")
+        @DisplayName("멤버가 후보 슬롯 제출 시 행렬에서 해당 멤버 비트만 SET/UNSET 반영")
         void participate_updates_bitmap() {
             setAuth(member);
             given(studyMemberService.isStudyMember(member, 10L)).willReturn(true);
@@ -185,34 +234,153 @@ class ScheduleTuneServiceTest {
             given(studyMemberRepo.findByStudyIdAndUserId(10L, 2L)).willReturn(Optional.of(sm));
 
             ScheduleTuneParticipant part = ScheduleTuneParticipant.builder()
-                .scheduleTune(tune).studyMemberId(100L).candidateNumber(1L).build();
+                .scheduleTune(tune).studyMemberId(100L).bitIndex(0).candidateNumber(1L).build();
             given(partRepo.findByScheduleTuneIdAndStudyMemberId(777L, 100L))
                 .willReturn(Optional.of(part));
 
-            LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0);
-            ScheduleTuneSlot s1 = ScheduleTuneSlot.builder()
-                .scheduleTune(tune).slotIndex(0)
-                .startTime(base)
-                .endTime(base.plusMinutes(30))
-                .occupancyBits(new byte[1]).build();
-            ScheduleTuneSlot s2 = ScheduleTuneSlot.builder()
-                .scheduleTune(tune).slotIndex(1)
-                .startTime(base.plusMinutes(30))
-                .endTime(base.plusMinutes(60))
-                .occupancyBits(new byte[1]).build();
-
-            given(slotRepo.findByScheduleTuneIdOrderBySlotIndexAscForUpdate(777L))
-                .willReturn(List.of(s1, s2));
+            SlotMatrix matrix = SlotMatrix.empty(2, 2);
+            matrix.set(0, 1, true);
+            matrix.set(1, 1, true);
+            given(matrixMigrator.load(tune)).willReturn(matrix);
 
             ScheduleTuneParticipantRequestDto req = new ScheduleTuneParticipantRequestDto(
                 List.of(1L, 0L));
 
             ScheduleTuneParticipantResponseDto resp = service.participate(777L, req);
             assertThat(resp.message()).isEqualTo("updated");
-            assertThat(BitMaskUtils.popcount(s1.getOccupancyBits())).isEqualTo(1);
-            assertThat(BitMaskUtils.popcount(s2.getOccupancyBits())).isEqualTo(0);
+            assertThat(matrix.get(0, 0)).isTrue();
+            assertThat(matrix.get(0, 1)).isFalse();
+            assertThat(matrix.get(1, 1)).isTrue();
             verify(partRepo).save(any(ScheduleTuneParticipant.class));
-            verify(slotRepo).saveAll(anyList());
+            verify(matrixMigrator).store(tune, matrix);
+        }
+    }
+
+    @Nested
+    @DisplayName("updateVote")
+    class UpdateVote {
+
+        private ScheduleTune pendingTune() {
+            ScheduleTune tune = ScheduleTune.builder()
+                .studyId(10L).title("정기회의").description("안건")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(1))
+                .availableStartTime(LocalTime.of(10, 0))
+                .availableEndTime(LocalTime.of(14, 0))
+                .slotMinutes(30).status(ScheduleTuneStatus.PENDING).build();
+            ReflectionTestUtils.setField(tune, "id", 777L);
+            given(tuneRepo.findById(777L)).willReturn(Optional.of(tune));
+
+            StudyMember sm = StudyMember.builder().study(study).user(member).build();
+            ReflectionTestUtils.setField(sm, "id", 100L);
+            given(studyMemberRepo.findByStudyIdAndUserId(10L, 2L)).willReturn(Optional.of(sm));
+            given(partRepo.findByScheduleTuneIdAndStudyMemberId(777L, 100L))
+                .willReturn(Optional.of(ScheduleTuneParticipant.builder()
+                    .scheduleTune(tune).studyMemberId(100L).bitIndex(1).candidateNumber(2L).build()));
+            return tune;
+        }
+
+        @Test
+        @DisplayName("clear 후 set 구간만 본인 비트에 반영하고 다른 멤버 비트는 유지")
+        void update_vote_applies_ranges() {
+            setAuth(member);
+            given(studyMemberService.isStudyMember(member, 10L)).willReturn(true);
+            ScheduleTune tune = pendingTune();
+
+            SlotMatrix matrix = SlotMatrix.empty(2, 8);
+            matrix.setMember(0, slot -> true);
+            matrix.setMember(1, slot -> slot >= 4);
+            given(matrixMigrator.load(tune)).willReturn(matrix);
+
+            ScheduleTuneVoteDeltaRequestDto req = new ScheduleTuneVoteDeltaRequestDto(
+                List.of(new ScheduleTuneVoteDeltaRequestDto.SlotRange(0, 1)),
+                List.of(new ScheduleTuneVoteDeltaRequestDto.SlotRange(4, 7),
+                    new ScheduleTuneVoteDeltaRequestDto.SlotRange(1, 1)));
+
+            service.updateVote(777L, req);
+
+            for (int slot = 0; slot < 8; slot++) {
+                assertThat(matrix.get(0, slot)).isTrue();
+                assertThat(matrix.get(1, slot)).isEqualTo(slot <= 1);
+            }
+            verify(matrixMigrator).store(tune, matrix);
+            verify(heatmapCoalescer).record(eq(10L), eq(777L), eq(1),
+                eq(BitSet.valueOf(new long[]{0b1111_0000L})), eq(BitSet.valueOf(new long[]{0b11L})));
+        }
+
+        @Test
+        @DisplayName("슬롯 범위를 벗어난 구간이면 거부")
+        void update_vote_out_of_range() {
+            setAuth(member);
+            given(studyMemberService.isStudyMember(member, 10L)).willReturn(true);
+            ScheduleTune tune = pendingTune();
+            given(matrixMigrator.load(tune)).willReturn(SlotMatrix.empty(2, 8));
+
+            ScheduleTuneVoteDeltaRequestDto req = new ScheduleTuneVoteDeltaRequestDto(
+                List.of(new ScheduleTuneVoteDeltaRequestDto.SlotRange(6, 8)), null);
+
+            BusinessException ex = assertThrows(BusinessException.class,
+                () -> service.updateVote(777L, req));
+            assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT);
+            verify(matrixMigrator, never()).store(any(), any());
+            verifyNoInteractions(heatmapCoalescer);
+        }
+    }
+
+    @Nested
+    @DisplayName("recommendSlots")
+    class Recommend {
+
+        @Test
+        @DisplayName("가능 인원이 가장 많은 구간을 슬롯 시작/종료 시간으로 변환해 반환")
+        void recommend_best_window() {
+            setAuth(member);
+            given(studyMemberService.isStudyMember(member, 10L)).willReturn(true);
+
+            LocalDate date = LocalDate.now().plusDays(1);
+            ScheduleTune tune = ScheduleTune.builder()
+                .studyId(10L).title("정기회의").description("안건")
+                .startDate(date).endDate(date.plusDays(1))
+                .availableStartTime(LocalTime.of(10, 0))
+                .availableEndTime(LocalTime.of(11, 0))
+                .slotMinutes(30).status(ScheduleTuneStatus.PENDING).build();
+            ReflectionTestUtils.setField(tune, "id", 777L);
+            given(tuneRepo.findById(777L)).willReturn(Optional.of(tune));
+
+            SlotMatrix matrix = SlotMatrix.empty(2, 4);
+            matrix.setMember(0, slot -> slot >= 2);
+            matrix.setMember(1, slot -> slot == 3);
+            given(matrixMigrator.load(tune)).willReturn(matrix);
+
+            List<ScheduleTuneRecommendationResponseDto> result =
+                service.recommendSlots(777L, 1, 1, false, null);
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).start_time()).isEqualTo(date.plusDays(1).atTime(10, 30));
+            assertThat(result.get(0).end_time()).isEqualTo(date.plusDays(1).atTime(11, 0));
+            assertThat(result.get(0).available_count()).isEqualTo(2);
+            assertThat(result.get(0).all_required_available()).isTrue();
+        }
+
+        @Test
+        @DisplayName("구간 길이가 하루 슬롯 수를 넘으면 거부")
+        void recommend_invalid_window() {
+            setAuth(member);
+            given(studyMemberService.isStudyMember(member, 10L)).willReturn(true);
+
+            ScheduleTune tune = ScheduleTune.builder()
+                .studyId(10L).title("정기회의").description("안건")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(1))
+                .availableStartTime(LocalTime.of(10, 0))
+                .availableEndTime(LocalTime.of(11, 0))
+                .slotMinutes(30).status(ScheduleTuneStatus.PENDING).build();
+            ReflectionTestUtils.setField(tune, "id", 777L);
+            given(tuneRepo.findById(777L)).willReturn(Optional.of(tune));
+
+            BusinessException ex = assertThrows(BusinessException.class,
+                () -> service.recommendSlots(777L, 3, 5, false, null));
+            assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT);
         }
     }
 
@@ -240,14 +408,6 @@ class ScheduleTuneServiceTest {
 
             LocalDateTime st = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0);
             LocalDateTime et = st.plusMinutes(30);
-            ScheduleTuneSlot s1 = ScheduleTuneSlot.builder()
-                .scheduleTune(tune).slotIndex(0).startTime(st).endTime(et)
-                .occupancyBits(new byte[1]).build();
-
-            // [수정됨] complete_slot_mismatch 테스트에서 이 로직을 삭제했으므로, 이 테스트에서는 유지합니다.
-            given(slotRepo.findByScheduleTuneIdOrderBySlotIndexAsc(777L))
-                .willReturn(List.of(s1));
-
             ScheduleCreateRequestDto req = new ScheduleCreateRequestDto(
                 "확정 회의", "최종 안건", st, et
             );
@@ -277,16 +437,6 @@ class ScheduleTuneServiceTest {
             given(studyRepo.findById(10L)).willReturn(Optional.of(study));
             given(studyMemberService.isStudyLeader(leader, study)).willReturn(true);
 
-            // [수정됨] 30분짜리 슬롯만 존재한다고 가정
-            LocalDateTime st_slot = LocalDateTime.now().plusDays(1).withHour(10);
-            LocalDateTime et_slot = st_slot.plusMinutes(30);
-            ScheduleTuneSlot s1 = ScheduleTuneSlot.builder()
-                .scheduleTune(tune).slotIndex(0).startTime(st_slot).endTime(et_slot)
-                .occupancyBits(new byte[1]).build();
-
-            given(slotRepo.findByScheduleTuneIdOrderBySlotIndexAsc(777L))
-                .willReturn(List.of(s1));
-
             // [수정됨] 1시간 단위로 요청 (슬롯과 불일치)
             LocalDateTime st_req = LocalDateTime.now().plusDays(1).withHour(10);
             LocalDateTime et_req = st_req.plusHours(1); // 10:00 ~ 11:00
@@ -0,0 +1,101 @@
+package com.pado.domain.schedule.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotMatrixTest {
+
+    @Test
+    @DisplayName("멤버 한 명의 슬롯 선택을 덮어쓰면 다른 멤버 비트는 유지된다")
+    void setMember() {
+        SlotMatrix matrix = SlotMatrix.empty(70, 3);
+        matrix.set(0, 0, true);
+        matrix.set(69, 1, true);
+
+        matrix.setMember(69, slot -> slot != 1);
+
+        assertTrue(matrix.get(0, 0));
+        assertTrue(matrix.get(69, 0));
+        assertFalse(matrix.get(69, 1));
+        assertTrue(matrix.get(69, 2));
+        assertEquals(2, matrix.count(0));
+        assertEquals(0, matrix.count(1));
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원하면 크기와 비트가 같다")
+    void roundTrip() {
+        SlotMatrix matrix = SlotMatrix.empty(50, 1000);
+        matrix.set(3, 0, true);
+        matrix.set(49, 999, true);
+
+        SlotMatrix restored = SlotMatrix.fromBytes(matrix.toBytes());
+
+        assertEquals(50, restored.memberCount());
+        assertEquals(1000, restored.slotCount());
+        assertEquals(1L << 3, restored.lowWord(0));
+        assertTrue(restored.get(49, 999));
+        assertEquals(8 + 1000 * Long.BYTES, matrix.toBytes().length);
+    }
+
+    @Test
+    @DisplayName("1000명 행렬을 슬롯별 바이트로 base64 인코딩한다")
+    void toBase64() {
+        SlotMatrix matrix = SlotMatrix.empty(1000, 2);
+        matrix.set(0, 0, true);
+        matrix.set(999, 1, true);
+
+        byte[] decoded = Base64.getDecoder().decode(matrix.toBase64());
+
+        assertEquals(2 * 125, decoded.length);
+        assertEquals(1, decoded[0]);
+        assertEquals((byte) 0x80, decoded[125 + 124]);
+        assertEquals(1, BitMaskUtils.popcount(Arrays.copyOfRange(decoded, 125, 250)));
+    }
+
+    @Test
+    @DisplayName("연속 슬롯을 AND 하면 모두 가능한 멤버만 남는다")
+    void andInto() {
+        SlotMatrix matrix = SlotMatrix.empty(130, 2);
+        matrix.setMember(5, slot -> true);
+        matrix.setMember(129, slot -> slot == 0);
+
+        long[] column = matrix.fullColumn();
+        assertEquals(130, BitMaskUtils.popcount(column));
+
+        matrix.andInto(0, column);
+        matrix.andInto(1, column);
+
+        assertEquals(1, BitMaskUtils.popcount(column));
+        assertEquals(1L << 5, column[0]);
+    }
+
+    @Test
+    @DisplayName("멤버 행은 해당 멤버가 선택한 슬롯만 담는다")
+    void row() {
+        SlotMatrix matrix = SlotMatrix.empty(70, 10);
+        matrix.setRange(65, 2, 4, true);
+        matrix.set(64, 7, true);
+
+        assertEquals(BitSet.valueOf(new long[]{0b11100L}), matrix.row(65));
+        assertEquals(BitSet.valueOf(new long[]{1L << 7}), matrix.row(64));
+        assertTrue(matrix.row(0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("헤더와 길이가 맞지 않거나 범위를 벗어나면 예외가 발생한다")
+    void invalid() {
+        byte[] bytes = SlotMatrix.empty(10, 4).toBytes();
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThrows(IllegalArgumentException.class, () -> SlotMatrix.fromBytes(truncated));
+        assertThrows(IllegalArgumentException.class, () -> SlotMatrix.empty(10, 4).set(10, 0, true));
+        assertThrows(IllegalArgumentException.class, () -> SlotMatrix.empty(10, 4).get(0, 4));
+    }
+}
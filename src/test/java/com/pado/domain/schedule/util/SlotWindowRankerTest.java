@@ -0,0 +1,60 @@
+package com.pado.domain.schedule.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotWindowRankerTest {
+
+    @Test
+    @DisplayName("연속 슬롯 모두 가능한 인원이 많은 구간부터, 같으면 이른 구간부터 반환한다")
+    void rankByIntersection() {
+        // 하루 4슬롯 x 2일, 멤버 3명
+        SlotMatrix matrix = SlotMatrix.empty(3, 8);
+        matrix.setMember(0, slot -> true);
+        matrix.setMember(1, slot -> slot == 1 || slot == 2 || slot == 6 || slot == 7);
+        matrix.setMember(2, slot -> slot == 2 || slot == 3 || slot == 4);
+
+        List<SlotWindowRanker.Window> windows = SlotWindowRanker.topWindows(matrix, 2, 4, null, 3);
+
+        assertEquals(3, windows.size());
+        assertEquals(1, windows.get(0).startSlot());
+        assertEquals(2, windows.get(0).availableCount());
+        assertEquals(2, windows.get(1).startSlot());
+        assertEquals(6, windows.get(2).startSlot());
+    }
+
+    @Test
+    @DisplayName("날짜를 넘어가는 구간은 제외한다")
+    void skipWindowsAcrossDays() {
+        SlotMatrix matrix = SlotMatrix.empty(1, 4);
+        matrix.setMember(0, slot -> slot == 1 || slot == 2);
+
+        List<SlotWindowRanker.Window> windows = SlotWindowRanker.topWindows(matrix, 2, 2, null, 5);
+
+        assertEquals(List.of(0, 2), windows.stream().map(SlotWindowRanker.Window::startSlot).toList());
+        assertTrue(windows.stream().allMatch(w -> w.availableCount() == 0));
+    }
+
+    @Test
+    @DisplayName("필수 멤버가 가능한 구간을 전체 인원보다 우선한다")
+    void requiredMembersFirst() {
+        SlotMatrix matrix = SlotMatrix.empty(100, 3);
+        for (int member = 1; member < 100; member++) {
+            matrix.setMember(member, slot -> slot == 0);
+        }
+        matrix.setMember(0, slot -> slot == 2);
+
+        long[] required = matrix.emptyColumn();
+        BitMaskUtils.setBit(required, 0);
+
+        List<SlotWindowRanker.Window> windows = SlotWindowRanker.topWindows(matrix, 1, 3, required, 1);
+
+        assertEquals(2, windows.get(0).startSlot());
+        assertEquals(1, windows.get(0).availableCount());
+        assertEquals(1, windows.get(0).requiredAvailableCount());
+    }
+}
@@ -3,6 +3,8 @@ package com.pado.domain.study.service;
 import com.pado.domain.chat.entity.LastReadMessage;
 import com.pado.domain.chat.repository.ChatMessageRepository;
 import com.pado.domain.chat.repository.LastReadMessageRepository;
+import com.pado.domain.chat.service.ChatHistoryReplicator;
+import com.pado.domain.chat.service.ReadCursorIndex;
 import com.pado.domain.shared.entity.Region;
 import com.pado.domain.study.dto.request.StudyApplicationStatusChangeRequestDto;
 import com.pado.domain.study.dto.request.StudyApplyRequestDto;
@@ -61,6 +63,12 @@ class StudyMemberServiceImplTest {
     @Mock
     private LastReadMessageRepository lastReadMessageRepository;
 
+    @Mock
+    private ReadCursorIndex readCursorIndex;
+
+    @Mock
+    private ChatHistoryReplicator chatHistoryReplicator;
+
     private User leader;
     private User applicant;
     private User member;
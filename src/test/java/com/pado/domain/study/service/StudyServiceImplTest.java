@@ -2,6 +2,8 @@ package com.pado.domain.study.service;
 
 import com.pado.domain.chat.repository.ChatMessageRepository;
 import com.pado.domain.chat.repository.LastReadMessageRepository;
+import com.pado.domain.chat.service.ChatHistoryReplicator;
+import com.pado.domain.chat.service.ReadCursorIndex;
 import com.pado.domain.shared.entity.Category;
 import com.pado.domain.shared.entity.Region;
 import com.pado.domain.study.dto.request.StudyCreateRequestDto;
@@ -57,6 +59,12 @@ class StudyServiceImplTest {
     @Mock
     private LastReadMessageRepository lastReadMessageRepository;
 
+    @Mock
+    private ReadCursorIndex readCursorIndex;
+
+    @Mock
+    private ChatHistoryReplicator chatHistoryReplicator;
+
     private static final int MAX_PAGE_SIZE = 50;
 
     private User leaderUser;
@@ -0,0 +1,87 @@
+package com.pado.infrastruture.ai;
+
+import com.pado.infrastruture.ai.impl.GeminiClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 항상 503 을 돌려주는 로컬 가짜 공급자를 대상으로, 서킷이 열린 뒤에는 요청을 보내지 않는지 확인
+@Tag("load")
+class GeminiCallGuardLoadTest {
+
+    private static final int CALLS = 30;
+    private static final int CIRCUIT_WINDOW = 5;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private HttpServer stubServer;
+    private GeminiRequestExecutor executor;
+    private GeminiCallGuard callGuard;
+    private GeminiClient geminiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/", this::handleUnavailable);
+        stubServer.setExecutor(Executors.newFixedThreadPool(4));
+        stubServer.start();
+
+        GeminiProperties properties = new GeminiProperties();
+        properties.setApiKey("stub");
+        properties.setBaseUrl("http://localhost:" + stubServer.getAddress().getPort());
+        properties.setCircuitWindowSize(CIRCUIT_WINDOW);
+
+        executor = new GeminiRequestExecutor(properties);
+        callGuard = new GeminiCallGuard(properties, new SimpleMeterRegistry());
+        geminiClient = new GeminiClient(properties, callGuard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        executor.destroy();
+    }
+
+    @Test
+    void 공급자_장애가_이어지면_서킷이_열려_요청을_보내지_않음() {
+        // when
+        for (int i = 0; i < CALLS; i++) {
+            assertThatThrownBy(() -> geminiClient.generateSingleQuestion("기반 텍스트", null, executor).join())
+                    .isInstanceOf(CompletionException.class);
+        }
+
+        // then
+        System.out.printf("calls=%d, provider requests=%d%n", CALLS, requestCount.get());
+        assertThat(callGuard.circuitState()).isEqualTo(GeminiCircuitBreaker.State.OPEN);
+        assertThat(requestCount.get()).isLessThan(CALLS);
+    }
+
+    private void handleUnavailable(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        requestCount.incrementAndGet();
+
+        byte[] response = """
+                {"error": {"code": 503, "message": "stub overloaded", "status": "UNAVAILABLE"}}
+                """.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(503, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.pado.infrastruture.ai;
+
+import com.google.genai.errors.ClientException;
+import com.google.genai.errors.ServerException;
+import com.pado.global.exception.common.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiCallGuardTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger providerCalls = new AtomicInteger();
+    private GeminiCallGuard callGuard;
+
+    @BeforeEach
+    void setUp() {
+        GeminiProperties properties = new GeminiProperties();
+        properties.setMaxConcurrentRequests(8);
+        properties.setMinConcurrentRequests(1);
+        properties.setRequestsPerMinute(6_000);
+        properties.setRateLimitBurst(100);
+        properties.setLatencyThresholdMillis(1_000);
+        properties.setCircuitWindowSize(4);
+        properties.setCircuitFailureRateThreshold(50);
+        properties.setCircuitOpenSeconds(30);
+
+        callGuard = new GeminiCallGuard(properties, new SimpleMeterRegistry(), clock::get, clock::addAndGet);
+    }
+
+    @Test
+    void 실패율이_기준을_넘으면_서킷이_열리고_공급자를_호출하지_않음() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> callGuard.call(this::serverError)).isInstanceOf(ServerException.class);
+        }
+
+        // when & then
+        assertThat(callGuard.circuitState()).isEqualTo(GeminiCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> callGuard.call(this::ok)).isInstanceOf(BusinessException.class);
+        assertThat(providerCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void 차단_시간이_지나고_시험_호출이_성공하면_서킷이_닫힘() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> callGuard.call(this::serverError)).isInstanceOf(ServerException.class);
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        // when
+        String result = callGuard.call(this::ok);
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(callGuard.circuitState()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 한도_초과_응답을_받으면_동시_요청_한도를_절반으로_줄임() {
+        // when
+        assertThatThrownBy(() -> callGuard.call(this::tooManyRequests)).isInstanceOf(ClientException.class);
+
+        // then
+        assertThat(callGuard.concurrencyLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void 빠른_응답이_이어지면_동시_요청_한도를_다시_늘림() {
+        // given
+        assertThatThrownBy(() -> callGuard.call(this::tooManyRequests)).isInstanceOf(ClientException.class);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            callGuard.call(this::ok);
+        }
+
+        // then
+        assertThat(callGuard.concurrencyLimit()).isGreaterThan(4);
+    }
+
+    @Test
+    void 잘못된_요청_오류는_공급자_장애로_보지_않음() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> callGuard.call(this::badRequest)).isInstanceOf(ClientException.class);
+        }
+
+        // then
+        assertThat(callGuard.circuitState()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+        assertThat(callGuard.concurrencyLimit()).isEqualTo(8);
+    }
+
+    private String ok() {
+        providerCalls.incrementAndGet();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        return "ok";
+    }
+
+    private String serverError() {
+        providerCalls.incrementAndGet();
+        throw new ServerException(503, "UNAVAILABLE", "model overloaded");
+    }
+
+    private String tooManyRequests() {
+        providerCalls.incrementAndGet();
+        throw new ClientException(429, "RESOURCE_EXHAUSTED", "quota exceeded");
+    }
+
+    private String badRequest() {
+        providerCalls.incrementAndGet();
+        throw new ClientException(400, "INVALID_ARGUMENT", "bad request");
+    }
+}
@@ -0,0 +1,110 @@
+package com.pado.infrastruture.ai.impl;
+
+import com.pado.infrastruture.ai.dto.AiQuestionDto;
+import com.pado.infrastruture.ai.dto.QuestionPrompt;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchedQuestionGenerationStrategyTest {
+
+    private static final String CONTEXT = "기반 텍스트";
+    private static final Executor DIRECT = Runnable::run;
+
+    @Mock
+    private GeminiClient geminiClient;
+
+    @Test
+    void hint를_묶음_크기만큼_나눠_호출() {
+        // given
+        List<String> hints = hints(10);
+        BatchedQuestionGenerationStrategy strategy = new BatchedQuestionGenerationStrategy(geminiClient, 4);
+        when(geminiClient.generateQuestions(eq(CONTEXT), any(), eq(DIRECT)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        questions(invocation.<List<String>>getArgument(1).size())));
+
+        List<Integer> progress = new ArrayList<>();
+
+        // when
+        List<AiQuestionDto> result = strategy.generate(prompts(CONTEXT, hints), DIRECT, progress::add).join();
+
+        // then
+        assertThat(result).hasSize(10);
+        assertThat(progress).containsExactly(4, 4, 2);
+        verify(geminiClient).generateQuestions(CONTEXT, hints.subList(0, 4), DIRECT);
+        verify(geminiClient).generateQuestions(CONTEXT, hints.subList(4, 8), DIRECT);
+        verify(geminiClient).generateQuestions(CONTEXT, hints.subList(8, 10), DIRECT);
+    }
+
+    @Test
+    void 기반_텍스트가_다른_문제는_따로_묶어_호출() {
+        // given
+        List<String> hints = hints(4);
+        List<QuestionPrompt> prompts = Stream.concat(
+                prompts("청크 1", hints.subList(0, 2)).stream(),
+                prompts("청크 2", hints.subList(2, 4)).stream()
+        ).toList();
+        BatchedQuestionGenerationStrategy strategy = new BatchedQuestionGenerationStrategy(geminiClient, 10);
+        when(geminiClient.generateQuestions(anyString(), any(), eq(DIRECT)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        questions(invocation.<List<String>>getArgument(1).size())));
+
+        // when
+        List<AiQuestionDto> result = strategy.generate(prompts, DIRECT).join();
+
+        // then
+        assertThat(result).hasSize(4);
+        verify(geminiClient).generateQuestions("청크 1", hints.subList(0, 2), DIRECT);
+        verify(geminiClient).generateQuestions("청크 2", hints.subList(2, 4), DIRECT);
+    }
+
+    @Test
+    void 실패한_묶음은_건너뛰고_나머지_문제만_반환() {
+        // given
+        List<String> hints = hints(6);
+        BatchedQuestionGenerationStrategy strategy = new BatchedQuestionGenerationStrategy(geminiClient, 3);
+        when(geminiClient.generateQuestions(CONTEXT, hints.subList(0, 3), DIRECT))
+                .thenReturn(CompletableFuture.completedFuture(questions(3)));
+        when(geminiClient.generateQuestions(CONTEXT, hints.subList(3, 6), DIRECT))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Failed to generate content")));
+
+        // when
+        List<AiQuestionDto> result = strategy.generate(prompts(CONTEXT, hints), DIRECT).join();
+
+        // then
+        assertThat(result).hasSize(3);
+    }
+
+    private List<QuestionPrompt> prompts(String context, List<String> hints) {
+        return hints.stream()
+                .map(hint -> new QuestionPrompt(context, hint))
+                .toList();
+    }
+
+    private List<String> hints(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "hint " + i)
+                .toList();
+    }
+
+    private List<AiQuestionDto> questions(int count) {
+        return Collections.nCopies(count,
+                new AiQuestionDto("SHORT_ANSWER", "문제", null, "해설", null, "정답"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.pado.infrastruture.ai.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pado.infrastruture.ai.GeminiCallGuard;
+import com.pado.infrastruture.ai.GeminiProperties;
+import com.pado.infrastruture.ai.QuestionGenerationStrategy;
+import com.pado.infrastruture.ai.dto.AiQuestionDto;
+import com.pado.infrastruture.ai.dto.QuestionPrompt;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 스텁 모델 서버를 대상으로 문제 생성 방식별 요청 수와 전송 바이트를 비교
+@Tag("load")
+class QuestionGenerationStrategyLoadTest {
+
+    private static final int QUESTION_COUNT = 10;
+    private static final int CONTEXT_BYTES = 50 * 1024;
+    private static final Pattern BATCH_SIZE_PATTERN =
+            Pattern.compile("\"questions\"\\s*:\\s*\\{\\s*\"type\"\\s*:\\s*\"array\"\\s*,\\s*\"minItems\"\\s*:\\s*(\\d+)");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong requestBytes = new AtomicLong();
+
+    private HttpServer stubServer;
+    private ExecutorService executor;
+    private GeminiClient geminiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/", this::handleGenerateContent);
+        stubServer.setExecutor(Executors.newFixedThreadPool(QUESTION_COUNT));
+        stubServer.start();
+
+        GeminiProperties properties = new GeminiProperties();
+        properties.setApiKey("stub");
+        properties.setBaseUrl("http://localhost:" + stubServer.getAddress().getPort());
+        geminiClient = new GeminiClient(properties, new GeminiCallGuard(properties, new SimpleMeterRegistry()));
+
+        executor = Executors.newFixedThreadPool(QUESTION_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 묶음_호출은_기반_텍스트_전송량을_문제_수만큼_줄임() {
+        // given
+        String context = "가".repeat(CONTEXT_BYTES / 3);
+        List<String> hints = IntStream.range(0, QUESTION_COUNT)
+                .mapToObj(i -> "이 문서의 %d/%d 부분에 집중해서 문제를 만들어 줘.".formatted(i + 1, QUESTION_COUNT))
+                .toList();
+
+        // when
+        Measurement perQuestion = measure(new PerQuestionGenerationStrategy(geminiClient), context, hints);
+        Measurement batched = measure(new BatchedQuestionGenerationStrategy(geminiClient, QUESTION_COUNT), context, hints);
+
+        // then
+        System.out.printf("per-question: requests=%d, bytes=%d, elapsedMs=%d%n",
+                perQuestion.requests(), perQuestion.bytes(), perQuestion.elapsedMillis());
+        System.out.printf("batched     : requests=%d, bytes=%d, elapsedMs=%d%n",
+                batched.requests(), batched.bytes(), batched.elapsedMillis());
+
+        assertThat(perQuestion.questions()).isEqualTo(QUESTION_COUNT);
+        assertThat(batched.questions()).isEqualTo(QUESTION_COUNT);
+        assertThat(perQuestion.requests()).isEqualTo(QUESTION_COUNT);
+        assertThat(batched.requests()).isEqualTo(1);
+        assertThat(batched.bytes()).isLessThan(perQuestion.bytes() / (QUESTION_COUNT - 1));
+    }
+
+    private Measurement measure(QuestionGenerationStrategy strategy, String context, List<String> hints) {
+        requestCount.set(0);
+        requestBytes.set(0);
+
+        long start = System.nanoTime();
+        List<QuestionPrompt> prompts = hints.stream()
+                .map(hint -> new QuestionPrompt(context, hint))
+                .toList();
+        List<AiQuestionDto> questions = strategy.generate(prompts, executor).join();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        return new Measurement(questions.size(), requestCount.get(), requestBytes.get(), elapsedMillis);
+    }
+
+    private void handleGenerateContent(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        requestCount.incrementAndGet();
+        requestBytes.addAndGet(body.length);
+
+        Matcher batch = BATCH_SIZE_PATTERN.matcher(new String(body, StandardCharsets.UTF_8));
+        String text = batch.find()
+                ? objectMapper.writeValueAsString(Map.of(
+                        "questions", Collections.nCopies(Integer.parseInt(batch.group(1)), stubQuestion())))
+                : objectMapper.writeValueAsString(stubQuestion());
+
+        byte[] response = objectMapper.writeValueAsBytes(Map.of(
+                "candidates", List.of(Map.of(
+                        "content", Map.of("role", "model", "parts", List.of(Map.of("text", text))),
+                        "finishReason", "STOP"
+                ))
+        ));
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private Map<String, Object> stubQuestion() {
+        return Map.of(
+                "questionType", "SHORT_ANSWER",
+                "questionText", "스텁 문제",
+                "explanation", "스텁 해설입니다.",
+                "sampleAnswer", "스텁"
+        );
+    }
+
+    private record Measurement(int questions, int requests, long bytes, long elapsedMillis) {
+    }
+}
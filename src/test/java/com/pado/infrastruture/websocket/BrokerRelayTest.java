@@ -0,0 +1,107 @@
+package com.pado.infrastruture.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BrokerRelayTest {
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.bus.destroy();
+        nodeB.bus.destroy();
+    }
+
+    @Test
+    void 한_서버에서_보낸_토픽_메시지가_다른_서버_브로커로_전달() {
+        // when
+        nodeA.template.convertAndSend("/topic/studies/1/chats", Map.of("content", "안녕"));
+
+        // then
+        assertThat(nodeA.received).hasSize(1);
+        assertThat(nodeB.received).hasSize(1);
+
+        Message<?> relayed = nodeB.received.get(0);
+        assertThat(SimpMessageHeaderAccessor.getDestination(relayed.getHeaders())).isEqualTo("/topic/studies/1/chats");
+        assertThat(new String((byte[]) relayed.getPayload(), StandardCharsets.UTF_8)).contains("안녕");
+        assertThat(relayed.getHeaders()).containsKey(BrokerRelayChannelInterceptor.RELAYED_HEADER);
+    }
+
+    @Test
+    void 전달받은_메시지는_다시_전파하지_않음() {
+        // when
+        nodeA.template.convertAndSend("/topic/studies/1/updates", Map.of("type", "imoji"));
+
+        // then: B에서 다시 A로 되돌아오지 않음
+        assertThat(nodeA.received).hasSize(1);
+        assertThat(nodeB.received).hasSize(1);
+    }
+
+    @Test
+    void 개인_메시지는_원본_user_목적지로_전달() {
+        // when
+        nodeA.template.convertAndSendToUser("user@test.com", "/queue/studies/1/unread", Map.of("unreadCount", 3));
+
+        // then
+        assertThat(SimpMessageHeaderAccessor.getDestination(nodeB.received.get(0).getHeaders()))
+                .isEqualTo("/user/user@test.com/queue/studies/1/unread");
+    }
+
+    @Test
+    void 세션별로_변환된_user_메시지와_구독_메시지는_전파하지_않음() {
+        // given
+        SimpMessageHeaderAccessor resolved = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        resolved.setDestination("/queue/studies/1/unread-user123");
+        resolved.setHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, "/user/queue/studies/1/unread");
+
+        SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        subscribe.setDestination("/topic/studies/1/chats");
+
+        // when
+        nodeA.brokerChannel.send(MessageBuilder.createMessage(new byte[0], resolved.getMessageHeaders()));
+        nodeA.brokerChannel.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+
+        // then
+        assertThat(nodeA.received).hasSize(2);
+        assertThat(nodeB.received).isEmpty();
+    }
+
+    // 한 JVM 안의 서버 한 대 (brokerChannel + 인메모리 버스)
+    private static class Node {
+
+        private final InMemoryBrokerMessageBus bus = new InMemoryBrokerMessageBus();
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+        private final List<Message<?>> received = new CopyOnWriteArrayList<>();
+
+        Node() {
+            brokerChannel.addInterceptor(new BrokerRelayChannelInterceptor(bus));
+            brokerChannel.subscribe(received::add);
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+            new BrokerRelayReceiver(bus, brokerChannel).subscribe();
+        }
+    }
+}
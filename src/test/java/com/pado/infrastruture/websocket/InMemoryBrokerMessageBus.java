@@ -0,0 +1,37 @@
+package com.pado.infrastruture.websocket;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 외부 브로커 없이 한 JVM 안에서 여러 노드를 흉내내기 위한 테스트용 구현
+// 같은 JVM의 모든 인스턴스가 정적 구독자 목록을 공유하며 동기적으로 전달
+class InMemoryBrokerMessageBus implements BrokerMessageBus, DisposableBean {
+
+    private static final List<Subscription> SUBSCRIPTIONS = new CopyOnWriteArrayList<>();
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Override
+    public void publish(RelayedBrokerMessage message) {
+        RelayedBrokerMessage relayed = message.withOrigin(nodeId);
+        SUBSCRIPTIONS.stream()
+                .filter(subscription -> !subscription.nodeId().equals(nodeId))
+                .forEach(subscription -> subscription.handler().accept(relayed));
+    }
+
+    @Override
+    public void subscribe(Consumer<RelayedBrokerMessage> handler) {
+        SUBSCRIPTIONS.add(new Subscription(nodeId, handler));
+    }
+
+    @Override
+    public void destroy() {
+        SUBSCRIPTIONS.removeIf(subscription -> subscription.nodeId().equals(nodeId));
+    }
+
+    private record Subscription(String nodeId, Consumer<RelayedBrokerMessage> handler) {}
+}